@@ -0,0 +1,59 @@
+package com.slicequeue.springboot.batch.benchmark;
+
+import com.slicequeue.springboot.batch.batch.validator.CompiledBeanValidatingItemProcessor;
+import com.slicequeue.springboot.batch.domain.Customer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.batch.item.validator.BeanValidatingItemProcessor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Customer 검증 기준 BeanValidatingItemProcessor vs CompiledBeanValidatingItemProcessor 비교
+ * - 두 프로세서 모두 filter 모드로 설정하여 유효하지 않은 아이템은 예외 대신 null 을 반환하도록 함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BeanValidationBenchmark {
+
+    @Param({"true", "false"})
+    public boolean valid;
+
+    private BeanValidatingItemProcessor<Customer> beanValidatingItemProcessor;
+
+    private CompiledBeanValidatingItemProcessor<Customer> compiledBeanValidatingItemProcessor;
+
+    private Customer customer;
+
+    @Setup
+    public void setUp() throws Exception {
+        beanValidatingItemProcessor = new BeanValidatingItemProcessor<>();
+        beanValidatingItemProcessor.setFilter(true);
+        beanValidatingItemProcessor.afterPropertiesSet();
+
+        compiledBeanValidatingItemProcessor = new CompiledBeanValidatingItemProcessor<>(Customer.class);
+        compiledBeanValidatingItemProcessor.setFilter(true);
+        compiledBeanValidatingItemProcessor.afterPropertiesSet();
+
+        customer = valid
+                ? new Customer("Richard", "N", "Darrow", "5570 Isabella Ave", "St. Louis", "IL", "58540")
+                : new Customer("Laura", "9S", "Minella", "8177 4th Street", "Dallas", "FL", "04119"); // customer-wrong.csv 4번째 줄
+    }
+
+    @Benchmark
+    public Customer beanValidatingItemProcessor() throws Exception {
+        return beanValidatingItemProcessor.process(customer);
+    }
+
+    @Benchmark
+    public Customer compiledBeanValidatingItemProcessor() throws Exception {
+        return compiledBeanValidatingItemProcessor.process(customer);
+    }
+}
@@ -0,0 +1,127 @@
+package com.slicequeue.springboot.batch.benchmark;
+
+import com.slicequeue.springboot.batch.batch.adapter.LambdaItemProcessorAdapter;
+import com.slicequeue.springboot.batch.batch.script.CompiledScriptItemProcessor;
+import com.slicequeue.springboot.batch.batch.validator.CollectingValidatingItemProcessor;
+import com.slicequeue.springboot.batch.domain.Customer;
+import com.slicequeue.springboot.batch.domain.UniqueLastNameValidator;
+import com.slicequeue.springboot.batch.service.UpperCaseNameService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.adapter.ItemProcessorAdapter;
+import org.springframework.batch.item.support.CompositeItemProcessor;
+import org.springframework.batch.item.support.ScriptItemProcessor;
+import org.springframework.batch.item.validator.ValidatingItemProcessor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CompositeItemProcessorJob 의 전체 프로세서 체인(검증 -> 이름 대문자 -> 주소 소문자)으로 items 건을 처리하는 비용
+ * - originalChain: ValidatingItemProcessor(filter) + ItemProcessorAdapter + ScriptItemProcessor (기존 구성)
+ * - currentChain: CollectingValidatingItemProcessor + LambdaItemProcessorAdapter + CompiledScriptItemProcessor (현재 구성)
+ * - UniqueLastNameValidator 는 상태를 가지므로 매 호출 전에 체인과 입력 고객을 새로 만듦
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CompositeItemProcessorBenchmark {
+
+    @Param({"1000", "10000"})
+    public int items;
+
+    @Param({"0.0", "0.1", "0.5"})
+    public double rejectRate;
+
+    private List<Customer> template;
+
+    private UpperCaseNameService upperCaseNameService;
+
+    private ScriptItemProcessor<Customer, Customer> scriptItemProcessor;
+
+    private CompiledScriptItemProcessor<Customer, Customer> compiledScriptItemProcessor;
+
+    private List<Customer> customers;
+
+    private ItemProcessor<Customer, Customer> originalChain;
+
+    private ItemProcessor<Customer, Customer> currentChain;
+
+    @Setup
+    public void setUp() throws Exception {
+        template = CustomerFixtures.customers(items, rejectRate);
+        upperCaseNameService = new UpperCaseNameService();
+
+        Resource script = new ClassPathResource("lowerCase.js");
+
+        scriptItemProcessor = new ScriptItemProcessor<>();
+        scriptItemProcessor.setScript(script);
+        scriptItemProcessor.afterPropertiesSet();
+
+        compiledScriptItemProcessor = new CompiledScriptItemProcessor<>();
+        compiledScriptItemProcessor.setScript(script);
+        compiledScriptItemProcessor.afterPropertiesSet();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() throws Exception {
+        customers = CustomerFixtures.copies(template);
+
+        ValidatingItemProcessor<Customer> validatingItemProcessor = new ValidatingItemProcessor<>(new UniqueLastNameValidator());
+        validatingItemProcessor.setFilter(true);
+
+        ItemProcessorAdapter<Customer, Customer> itemProcessorAdapter = new ItemProcessorAdapter<>();
+        itemProcessorAdapter.setTargetObject(upperCaseNameService);
+        itemProcessorAdapter.setTargetMethod("upperCase");
+        itemProcessorAdapter.afterPropertiesSet();
+
+        originalChain = composite(validatingItemProcessor, itemProcessorAdapter, scriptItemProcessor);
+
+        LambdaItemProcessorAdapter<Customer, Customer> lambdaItemProcessorAdapter = new LambdaItemProcessorAdapter<>();
+        lambdaItemProcessorAdapter.setTargetObject(upperCaseNameService);
+        lambdaItemProcessorAdapter.setTargetMethod("upperCase");
+        lambdaItemProcessorAdapter.afterPropertiesSet();
+
+        currentChain = composite(
+                new CollectingValidatingItemProcessor<>(Collections.singletonList(new UniqueLastNameValidator()), 10),
+                lambdaItemProcessorAdapter,
+                compiledScriptItemProcessor);
+    }
+
+    @Benchmark
+    public void originalChain(Blackhole blackhole) throws Exception {
+        for (Customer customer : customers) {
+            blackhole.consume(originalChain.process(customer));
+        }
+    }
+
+    @Benchmark
+    public void currentChain(Blackhole blackhole) throws Exception {
+        for (Customer customer : customers) {
+            blackhole.consume(currentChain.process(customer));
+        }
+    }
+
+    @SafeVarargs
+    private static ItemProcessor<Customer, Customer> composite(ItemProcessor<Customer, Customer>... delegates) throws Exception {
+        CompositeItemProcessor<Customer, Customer> compositeItemProcessor = new CompositeItemProcessor<>();
+
+        compositeItemProcessor.setDelegates(Arrays.asList(delegates));
+        compositeItemProcessor.afterPropertiesSet();
+
+        return compositeItemProcessor;
+    }
+}
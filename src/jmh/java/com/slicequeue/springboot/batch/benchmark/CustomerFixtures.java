@@ -0,0 +1,74 @@
+package com.slicequeue.springboot.batch.benchmark;
+
+import com.slicequeue.springboot.batch.domain.Customer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크 공용 Customer 데이터
+ * - 같은 인자로 호출하면 항상 같은 데이터를 만듦 (고정 시드)
+ * - rejectRate 비율의 고객은 앞 고객과 lastName 이 같고(UniqueLastNameValidator 거부) middleInitial 이 "9S" 임(Bean Validation 거부)
+ */
+final class CustomerFixtures {
+
+    private static final String[] FIRST_NAMES = {"Richard", "Barack", "Ann", "Laura", "Jonas", "Warren", "Ann", "Erica"};
+    private static final String[] STREETS = {"Isabella Ave", "S. Greenwood Ave", "4th Street", "Main St", "Oak St"};
+    private static final String[] CITIES = {"St. Louis", "Houston", "Las Vegas", "Dallas", "Chicago"};
+    private static final String[] STATES = {"IL", "CA", "NY", "FL", "TX"};
+
+    private CustomerFixtures() {
+    }
+
+    static List<Customer> customers(int count, double rejectRate) {
+        Random random = new Random(42);
+        List<Customer> customers = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            boolean reject = i > 0 && random.nextDouble() < rejectRate;
+
+            String lastName = reject ? customers.get(random.nextInt(i)).getLastName() : "Last" + Integer.toString(i, 36);
+            customers.add(new Customer(
+                    FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                    reject ? "9S" : String.valueOf((char) ('A' + random.nextInt(26))),
+                    lastName,
+                    (1000 + random.nextInt(9000)) + " " + STREETS[random.nextInt(STREETS.length)],
+                    CITIES[random.nextInt(CITIES.length)],
+                    STATES[random.nextInt(STATES.length)],
+                    String.format("%05d", random.nextInt(100000))));
+        }
+
+        return customers;
+    }
+
+    static List<Customer> copies(List<Customer> customers) {
+        List<Customer> copies = new ArrayList<>(customers.size());
+
+        for (Customer customer : customers) {
+            copies.add(new Customer(customer));
+        }
+
+        return copies;
+    }
+
+    static Path writeCsv(List<Customer> customers) throws IOException {
+        Path file = Files.createTempFile("customer-benchmark", ".csv");
+        file.toFile().deleteOnExit();
+
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (Customer customer : customers) {
+                writer.write(String.join(",", customer.getFirstName(), customer.getMiddleInitial(), customer.getLastName(),
+                        customer.getAddress(), customer.getCity(), customer.getState(), customer.getZip()));
+                writer.newLine();
+            }
+        }
+
+        return file;
+    }
+}
@@ -0,0 +1,78 @@
+package com.slicequeue.springboot.batch.benchmark;
+
+import com.slicequeue.springboot.batch.batch.reader.MappedCustomerItemReader;
+import com.slicequeue.springboot.batch.domain.Customer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 고객 파일 전체를 Customer 로 읽는 비용 비교
+ * - flatFileItemReader 는 기존 잡 구성(FlatFileItemReader + BeanWrapperFieldSetMapper)
+ * - mappedCustomerItemReader 는 메모리 맵 기반 리더
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CustomerItemReaderBenchmark {
+
+    @Param({"1000", "100000"})
+    public int items;
+
+    private Resource resource;
+
+    @Setup
+    public void setUp() throws Exception {
+        resource = new FileSystemResource(CustomerFixtures.writeCsv(CustomerFixtures.customers(items, 0.0)));
+    }
+
+    @Benchmark
+    public int flatFileItemReader(Blackhole blackhole) throws Exception {
+        return readAll(new FlatFileItemReaderBuilder<Customer>()
+                .name("customerFlatFileItemReader")
+                .delimited()
+                .names("firstName", "middleInitial", "lastName", "address", "city", "state", "zip")
+                .targetType(Customer.class)
+                .resource(resource)
+                .build(), blackhole);
+    }
+
+    @Benchmark
+    public int mappedCustomerItemReader(Blackhole blackhole) throws Exception {
+        MappedCustomerItemReader itemReader = new MappedCustomerItemReader();
+        itemReader.setName("customerItemReader");
+        itemReader.setResource(resource);
+
+        return readAll(itemReader, blackhole);
+    }
+
+    private static int readAll(ItemStreamReader<Customer> itemReader, Blackhole blackhole) throws Exception {
+        int count = 0;
+
+        itemReader.open(new ExecutionContext());
+        try {
+            Customer customer;
+            while ((customer = itemReader.read()) != null) {
+                blackhole.consume(customer);
+                count++;
+            }
+        } finally {
+            itemReader.close();
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,65 @@
+package com.slicequeue.springboot.batch.benchmark;
+
+import com.slicequeue.springboot.batch.batch.adapter.LambdaItemProcessorAdapter;
+import com.slicequeue.springboot.batch.domain.Customer;
+import com.slicequeue.springboot.batch.service.UpperCaseNameService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.batch.item.adapter.ItemProcessorAdapter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UpperCaseNameService.upperCase 호출 기준 ItemProcessorAdapter vs LambdaItemProcessorAdapter 아이템당 처리 비용 비교
+ * - direct 는 서비스 직접 호출로 하한선(baseline) 역할
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ItemProcessorAdapterBenchmark {
+
+    private UpperCaseNameService service;
+
+    private ItemProcessorAdapter<Customer, Customer> itemProcessorAdapter;
+
+    private LambdaItemProcessorAdapter<Customer, Customer> lambdaItemProcessorAdapter;
+
+    private Customer customer;
+
+    @Setup
+    public void setUp() throws Exception {
+        service = new UpperCaseNameService();
+
+        itemProcessorAdapter = new ItemProcessorAdapter<>();
+        itemProcessorAdapter.setTargetObject(service);
+        itemProcessorAdapter.setTargetMethod("upperCase");
+        itemProcessorAdapter.afterPropertiesSet();
+
+        lambdaItemProcessorAdapter = new LambdaItemProcessorAdapter<>();
+        lambdaItemProcessorAdapter.setTargetObject(service);
+        lambdaItemProcessorAdapter.setTargetMethod("upperCase");
+        lambdaItemProcessorAdapter.afterPropertiesSet();
+
+        customer = new Customer("Richard", "N", "Darrow", "5570 Isabella Ave", "St. Louis", "IL", "58540");
+    }
+
+    @Benchmark
+    public Customer direct() {
+        return service.upperCase(customer);
+    }
+
+    @Benchmark
+    public Customer itemProcessorAdapter() throws Exception {
+        return itemProcessorAdapter.process(customer);
+    }
+
+    @Benchmark
+    public Customer lambdaItemProcessorAdapter() throws Exception {
+        return lambdaItemProcessorAdapter.process(customer);
+    }
+}
@@ -0,0 +1,69 @@
+package com.slicequeue.springboot.batch.benchmark;
+
+import com.slicequeue.springboot.batch.batch.script.CompiledScriptItemProcessor;
+import com.slicequeue.springboot.batch.domain.Customer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.batch.item.support.ScriptItemProcessor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * lowerCase.js 기준 ScriptItemProcessor vs CompiledScriptItemProcessor(스크립트 엔진 / 바이트코드 번역) 아이템당 처리 비용 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScriptItemProcessorBenchmark {
+
+    private ScriptItemProcessor<Customer, Customer> scriptItemProcessor;
+
+    private CompiledScriptItemProcessor<Customer, Customer> compiledScriptItemProcessor;
+
+    private CompiledScriptItemProcessor<Customer, Customer> translatedScriptItemProcessor;
+
+    private Customer customer;
+
+    @Setup
+    public void setUp() throws Exception {
+        Resource script = new ClassPathResource("lowerCase.js");
+
+        scriptItemProcessor = new ScriptItemProcessor<>();
+        scriptItemProcessor.setScript(script);
+        scriptItemProcessor.afterPropertiesSet();
+
+        compiledScriptItemProcessor = new CompiledScriptItemProcessor<>();
+        compiledScriptItemProcessor.setScript(script);
+        compiledScriptItemProcessor.afterPropertiesSet();
+
+        translatedScriptItemProcessor = new CompiledScriptItemProcessor<>();
+        translatedScriptItemProcessor.setScript(script);
+        translatedScriptItemProcessor.setItemType(Customer.class);
+        translatedScriptItemProcessor.afterPropertiesSet();
+
+        // lowerCase.js 는 멱등이므로 같은 고객을 반복해서 처리해도 결과가 같음
+        customer = new Customer("Richard", "N", "Darrow", "5570 Isabella Ave", "St. Louis", "IL", "58540");
+    }
+
+    @Benchmark
+    public Customer scriptItemProcessor() throws Exception {
+        return scriptItemProcessor.process(customer);
+    }
+
+    @Benchmark
+    public Customer compiledScriptItemProcessor() throws Exception {
+        return compiledScriptItemProcessor.process(customer);
+    }
+
+    @Benchmark
+    public Customer translatedScriptItemProcessor() throws Exception {
+        return translatedScriptItemProcessor.process(customer);
+    }
+}
@@ -0,0 +1,133 @@
+package com.slicequeue.springboot.batch.benchmark;
+
+import com.slicequeue.springboot.batch.batch.adapter.LambdaItemProcessorAdapter;
+import com.slicequeue.springboot.batch.batch.metrics.InstrumentedCompositeItemProcessor;
+import com.slicequeue.springboot.batch.batch.script.CompiledScriptItemProcessor;
+import com.slicequeue.springboot.batch.domain.Customer;
+import com.slicequeue.springboot.batch.service.UpperCaseNameService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.aop.scope.ScopedObject;
+import org.springframework.aop.scope.ScopedProxyFactoryBean;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.StepScope;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @StepScope 프록시를 거쳐 Customer 한 건을 처리하는 비용
+ * - proxy / target: 스텝 스코프 CompiledScriptItemProcessor(lowerCase.js, 바이트코드 번역) 를 프록시로 호출 vs 대상 객체를 직접 호출
+ * - proxyComposite / resolvedComposite: CompositeItemProcessorJob 과 같은 upperCase -> lowerCase 체인을 InstrumentedCompositeItemProcessor(측정 비활성화)로
+ *   스코프 프록시 그대로 호출 vs beforeStep 에서 대상 객체로 푼 뒤 호출
+ * - 스텝 컨텍스트는 스레드별(ThreadLocal)이므로 상태를 Scope.Thread 로 두고 setUp 스레드에서 스텝을 등록함
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StepScopedProxyBenchmark {
+
+    private static final String TARGET_BEAN_NAME = "scopedTarget.lowerCaseItemProcessor";
+
+    private AnnotationConfigApplicationContext context;
+
+    private ItemProcessor<Customer, Customer> proxy;
+
+    private ItemProcessor<Customer, Customer> target;
+
+    private InstrumentedCompositeItemProcessor<Customer, Customer> proxyComposite;
+
+    private InstrumentedCompositeItemProcessor<Customer, Customer> resolvedComposite;
+
+    private Customer customer;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(StepScope.class, () -> {
+            StepScope stepScope = new StepScope();
+            stepScope.setAutoProxy(false);
+            return stepScope;
+        });
+        context.registerBean(TARGET_BEAN_NAME, CompiledScriptItemProcessor.class, () -> {
+            CompiledScriptItemProcessor<Customer, Customer> itemProcessor = new CompiledScriptItemProcessor<>();
+            itemProcessor.setScript(new ClassPathResource("lowerCase.js"));
+            itemProcessor.setItemType(Customer.class);
+            return itemProcessor;
+        }, definition -> definition.setScope("step"));
+        context.refresh();
+
+        StepExecution stepExecution = new StepExecution("step", new JobExecution(1L), 1L);
+        StepSynchronizationManager.register(stepExecution);
+
+        ScopedProxyFactoryBean factoryBean = new ScopedProxyFactoryBean(); // @StepScope 빈 메서드와 같은 CGLIB 스코프 프록시
+        factoryBean.setTargetBeanName(TARGET_BEAN_NAME);
+        factoryBean.setBeanFactory(context.getBeanFactory());
+
+        proxy = (ItemProcessor<Customer, Customer>) factoryBean.getObject();
+        target = (ItemProcessor<Customer, Customer>) ((ScopedObject) proxy).getTargetObject();
+
+        LambdaItemProcessorAdapter<Customer, Customer> upperCase = new LambdaItemProcessorAdapter<>();
+        upperCase.setTargetObject(new UpperCaseNameService());
+        upperCase.setTargetMethod("upperCase");
+        upperCase.afterPropertiesSet();
+
+        proxyComposite = composite(upperCase, proxy);
+        proxyComposite.setResolveScopedDelegates(false);
+        proxyComposite.beforeStep(stepExecution);
+
+        resolvedComposite = composite(upperCase, proxy);
+        resolvedComposite.beforeStep(stepExecution);
+
+        customer = new Customer("Richard", "N", "Darrow", "5570 Isabella Ave", "St. Louis", "IL", "58540");
+    }
+
+    @TearDown
+    public void tearDown() {
+        StepSynchronizationManager.close();
+        context.close();
+    }
+
+    @Benchmark
+    public Customer proxy() throws Exception {
+        return proxy.process(customer);
+    }
+
+    @Benchmark
+    public Customer target() throws Exception {
+        return target.process(customer);
+    }
+
+    @Benchmark
+    public Customer proxyComposite() throws Exception {
+        return proxyComposite.process(customer);
+    }
+
+    @Benchmark
+    public Customer resolvedComposite() throws Exception {
+        return resolvedComposite.process(customer);
+    }
+
+    @SafeVarargs
+    private static InstrumentedCompositeItemProcessor<Customer, Customer> composite(ItemProcessor<Customer, Customer>... delegates) {
+        InstrumentedCompositeItemProcessor<Customer, Customer> composite = new InstrumentedCompositeItemProcessor<>();
+
+        composite.setDelegates(Arrays.asList(delegates));
+        composite.setEnabled(false);
+        composite.afterPropertiesSet();
+
+        return composite;
+    }
+}
@@ -0,0 +1,79 @@
+package com.slicequeue.springboot.batch.benchmark;
+
+import com.slicequeue.springboot.batch.batch.script.CompiledScriptItemProcessor;
+import com.slicequeue.springboot.batch.batch.transform.InPlaceCompositeItemProcessor;
+import com.slicequeue.springboot.batch.batch.transform.ItemMutator;
+import com.slicequeue.springboot.batch.domain.Customer;
+import com.slicequeue.springboot.batch.service.LowerCaseAddressService;
+import com.slicequeue.springboot.batch.service.UpperCaseNameService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.support.CompositeItemProcessor;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이름 대문자 -> 주소 소문자 변환 체인의 아이템당 처리 비용/할당량 비교
+ * - copyChain 은 CompositeItemProcessorJob 구성(복사 생성자 + lowerCase.js)
+ * - inPlaceChain 은 InPlaceCompositeItemProcessorJob 구성(제자리 변경 + ASCII 빠른 경로)
+ * - 리더가 레코드마다 Customer 를 만드는 것처럼 매 호출마다 템플릿을 복사하여 입력을 만듦 (양쪽에 같은 비용)
+ * - 할당량은 ./gradlew jmh -PjmhIncludes=TransformChainBenchmark -PjmhProfilers=gc 의 gc.alloc.rate.norm 으로 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransformChainBenchmark {
+
+    @Param({"false", "true"})
+    public boolean normalized; // true 면 이미 변환된 형태의 입력 (변경할 문자가 없는 경우)
+
+    private ItemProcessor<Customer, Customer> copyChain;
+
+    private ItemProcessor<Customer, Customer> inPlaceChain;
+
+    private Customer template;
+
+    @Setup
+    public void setUp() throws Exception {
+        UpperCaseNameService upperCaseNameService = new UpperCaseNameService();
+        LowerCaseAddressService lowerCaseAddressService = new LowerCaseAddressService();
+
+        CompiledScriptItemProcessor<Customer, Customer> scriptItemProcessor = new CompiledScriptItemProcessor<>();
+        scriptItemProcessor.setScript(new ClassPathResource("lowerCase.js"));
+        scriptItemProcessor.afterPropertiesSet();
+
+        CompositeItemProcessor<Customer, Customer> compositeItemProcessor = new CompositeItemProcessor<>();
+        compositeItemProcessor.setDelegates(Arrays.asList(
+                (ItemProcessor<Customer, Customer>) upperCaseNameService::upperCase,
+                scriptItemProcessor));
+        compositeItemProcessor.afterPropertiesSet();
+        copyChain = compositeItemProcessor;
+
+        inPlaceChain = new InPlaceCompositeItemProcessor<>(Arrays.<ItemMutator<Customer>>asList(
+                customer -> upperCaseNameService.upperCaseInPlace(customer) != null,
+                customer -> lowerCaseAddressService.lowerCaseInPlace(customer) != null));
+
+        template = normalized
+                ? new Customer("RICHARD", "N", "DARROW", "5570 isabella ave", "st. louis", "il", "58540")
+                : new Customer("Richard", "N", "Darrow", "5570 Isabella Ave", "St. Louis", "IL", "58540");
+    }
+
+    @Benchmark
+    public Customer copyChain() throws Exception {
+        return copyChain.process(new Customer(template));
+    }
+
+    @Benchmark
+    public Customer inPlaceChain() throws Exception {
+        return inPlaceChain.process(new Customer(template));
+    }
+}
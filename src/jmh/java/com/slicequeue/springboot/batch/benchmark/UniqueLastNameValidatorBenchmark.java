@@ -0,0 +1,70 @@
+package com.slicequeue.springboot.batch.benchmark;
+
+import com.slicequeue.springboot.batch.domain.Customer;
+import com.slicequeue.springboot.batch.domain.UniqueLastNameValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.batch.item.validator.ValidationException;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * items 건을 UniqueLastNameValidator 로 검증하는 비용 (중복 비율 rejectRate)
+ * - validate 는 중복마다 ValidationException 을 던지는 기존 방식, check 는 예외 없는 방식
+ * - 검증기는 상태(이미 본 lastName)를 가지므로 매 호출마다 새로 만듦
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UniqueLastNameValidatorBenchmark {
+
+    @Param({"1000", "100000"})
+    public int items;
+
+    @Param({"0.0", "0.1", "0.5"})
+    public double rejectRate;
+
+    private List<Customer> customers;
+
+    @Setup
+    public void setUp() {
+        customers = CustomerFixtures.customers(items, rejectRate);
+    }
+
+    @Benchmark
+    public int validate() {
+        UniqueLastNameValidator validator = new UniqueLastNameValidator();
+        int rejected = 0;
+
+        for (Customer customer : customers) {
+            try {
+                validator.validate(customer);
+            } catch (ValidationException e) {
+                rejected++;
+            }
+        }
+
+        return rejected;
+    }
+
+    @Benchmark
+    public int check() {
+        UniqueLastNameValidator validator = new UniqueLastNameValidator();
+        int rejected = 0;
+
+        for (Customer customer : customers) {
+            if (!validator.check(customer).isValid()) {
+                rejected++;
+            }
+        }
+
+        return rejected;
+    }
+}
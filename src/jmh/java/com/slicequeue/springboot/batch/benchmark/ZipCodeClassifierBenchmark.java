@@ -0,0 +1,62 @@
+package com.slicequeue.springboot.batch.benchmark;
+
+import com.slicequeue.springboot.batch.batch.ZipCodeClassifier;
+import com.slicequeue.springboot.batch.domain.Customer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.classify.Classifier;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * items 건을 우편번호로 분류하는 비용
+ * - parseIntClassifier 는 기존 ZipCodeClassifier 구현(Integer.parseInt 후 % 2)을 그대로 옮긴 기준선
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ZipCodeClassifierBenchmark {
+
+    @Param({"1000", "100000"})
+    public int items;
+
+    private List<Customer> customers;
+
+    private Classifier<Customer, ItemProcessor<Customer, Customer>> parseIntClassifier;
+
+    private ZipCodeClassifier zipCodeClassifier;
+
+    @Setup
+    public void setUp() {
+        customers = CustomerFixtures.customers(items, 0.0);
+
+        ItemProcessor<Customer, Customer> odd = item -> item;
+        ItemProcessor<Customer, Customer> even = item -> item;
+
+        parseIntClassifier = customer -> Integer.parseInt(customer.getZip()) % 2 == 0 ? even : odd;
+        zipCodeClassifier = new ZipCodeClassifier(odd, even);
+    }
+
+    @Benchmark
+    public void parseIntClassifier(Blackhole blackhole) {
+        for (Customer customer : customers) {
+            blackhole.consume(parseIntClassifier.classify(customer));
+        }
+    }
+
+    @Benchmark
+    public void zipCodeClassifier(Blackhole blackhole) {
+        for (Customer customer : customers) {
+            blackhole.consume(zipCodeClassifier.classify(customer));
+        }
+    }
+}
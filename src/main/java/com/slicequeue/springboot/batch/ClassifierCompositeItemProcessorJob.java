@@ -2,30 +2,38 @@ package com.slicequeue.springboot.batch;
 
 
 import com.slicequeue.springboot.batch.batch.ZipCodeClassifier;
+import com.slicequeue.springboot.batch.batch.adapter.LambdaItemProcessorAdapter;
+import com.slicequeue.springboot.batch.batch.chunk.ChunkAwareChunkProcessor;
+import com.slicequeue.springboot.batch.batch.chunk.RouteBatchingClassifierCompositeItemProcessor;
+import com.slicequeue.springboot.batch.batch.metrics.InstrumentedClassifier;
+import com.slicequeue.springboot.batch.batch.policy.AdaptiveCompletionPolicy;
+import com.slicequeue.springboot.batch.batch.reader.MappedCustomerItemReader;
+import com.slicequeue.springboot.batch.batch.script.CompiledScriptItemProcessor;
+import com.slicequeue.springboot.batch.batch.writer.CustomerJdbcItemWriter;
 import com.slicequeue.springboot.batch.domain.Customer;
 import com.slicequeue.springboot.batch.service.UpperCaseNameService;
+import org.springframework.batch.core.ChunkListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParametersValidator;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
 import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
 import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.DefaultJobParametersValidator;
-import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.adapter.ItemProcessorAdapter;
-import org.springframework.batch.item.file.FlatFileItemReader;
-import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
-import org.springframework.batch.item.support.ClassifierCompositeItemProcessor;
-import org.springframework.batch.item.support.ScriptItemProcessor;
+import org.springframework.batch.item.ItemProcessor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.classify.Classifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.io.Resource;
 
+import javax.sql.DataSource;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 @EnableBatchProcessing
 @SpringBootApplication
 public class ClassifierCompositeItemProcessorJob {
@@ -36,34 +44,29 @@ public class ClassifierCompositeItemProcessorJob {
     @Autowired
     public StepBuilderFactory stepBuilderFactory;
 
+    @Value("${batch.instrumentation.enabled:false}")
+    private boolean instrumentationEnabled;
+
     @Bean
     public JobParametersValidator jobParametersValidator() {
-        return new DefaultJobParametersValidator(new String[]{"customerFile", "script"}, new String[]{"run.id"});
+        return new DefaultJobParametersValidator(new String[]{"customerFile", "script"}, new String[]{"run.id", "chunkScript"});
     }
 
     @Bean
-    @StepScope
-    public FlatFileItemReader<Customer> customerFlatFileItemReader(
+    @StepScope // FlatFileItemReader 대신 메모리 맵 기반 리더로 FieldSet/BeanWrapper 매핑 과정 없이 Customer 생성
+    public MappedCustomerItemReader customerItemReader(
             @Value("#{jobParameters['customerFile']}") Resource inputFile) {
+        MappedCustomerItemReader itemReader = new MappedCustomerItemReader();
 
-        return new FlatFileItemReaderBuilder<Customer>()
-                .name("customerFlatFileItemReader")
-                .delimited()
-                .names("firstName",
-                        "middleInitial",
-                        "lastName",
-                        "address",
-                        "city",
-                        "state",
-                        "zip")
-                .targetType(Customer.class)
-                .resource(inputFile)
-                .build();
+        itemReader.setName("customerItemReader");
+        itemReader.setResource(inputFile);
+
+        return itemReader;
     }
 
-    @Bean // ItemProcessor 2 - ItemProcessorAdapter 활용한 고객이름을 대문자로 변경
-    public ItemProcessorAdapter<Customer, Customer> upperCaseItemProcessor(UpperCaseNameService service) {
-        ItemProcessorAdapter<Customer, Customer> adapter = new ItemProcessorAdapter<>();
+    @Bean // ItemProcessor 2 - LambdaItemProcessorAdapter(리플렉션 없는 ItemProcessorAdapter) 활용한 고객이름을 대문자로 변경
+    public LambdaItemProcessorAdapter<Customer, Customer> upperCaseItemProcessor(UpperCaseNameService service) {
+        LambdaItemProcessorAdapter<Customer, Customer> adapter = new LambdaItemProcessorAdapter<>();
 
         adapter.setTargetObject(service);
         adapter.setTargetMethod("upperCase");
@@ -71,47 +74,74 @@ public class ClassifierCompositeItemProcessorJob {
         return adapter;
     }
 
-    @Bean // ItemProcessor 3 - ScriptItemProcessor 활용한 고객의 모든 주소 관련 필드를 소문자로 변경
+    @Bean // ItemProcessor 3 - CompiledScriptItemProcessor(컴파일 캐시된 ScriptItemProcessor) 활용한 고객의 모든 주소 관련 필드를 소문자로 변경
     @StepScope
-    public ScriptItemProcessor<Customer, Customer> lowerCaseItemProcessor(@Value("#{jobParameters['script']}") Resource script) {
-        ScriptItemProcessor<Customer, Customer> itemProcessor = new ScriptItemProcessor<>();
+    public CompiledScriptItemProcessor<Customer, Customer> lowerCaseItemProcessor(@Value("#{jobParameters['script']}") Resource script,
+                                                                                @Value("#{jobParameters['chunkScript']}") Resource chunkScript) {
+        CompiledScriptItemProcessor<Customer, Customer> itemProcessor = new CompiledScriptItemProcessor<>();
 
         itemProcessor.setScript(script);
+        itemProcessor.setItemType(Customer.class);
+        itemProcessor.setChunkScript(chunkScript); // 지정하면 번역하지 않고 경로별 하위 배치를 엔진 호출 한 번으로 처리 (없으면 script 를 바이트코드로 번역)
 
         return itemProcessor;
     }
 
-    @Bean
-    public Classifier classifier() {
-        return new ZipCodeClassifier(
+    @Bean // batch.instrumentation.enabled=true 이면 경로(odd/even/other)별 건수 측정
+    public InstrumentedClassifier<Customer, ItemProcessor<?, ? extends Customer>> classifier() {
+        Map<ItemProcessor<Customer, Customer>, String> routeNames = new IdentityHashMap<>(); // 스텝 스코프 프록시는 동일성으로 비교
+        routeNames.put(upperCaseItemProcessor(null), "odd");
+        routeNames.put(lowerCaseItemProcessor(null, null), "even");
+
+        ZipCodeClassifier zipCodeClassifier = new ZipCodeClassifier(
                 upperCaseItemProcessor(null),      // oddItemProcessor
-                lowerCaseItemProcessor(null)        // evenItemProcessor
+                lowerCaseItemProcessor(null, null), // evenItemProcessor
+                item -> null                        // fallbackItemProcessor - 우편번호가 잘못된 고객은 스텝을 중단하지 않고 필터링
         );
+
+        return new InstrumentedClassifier<>(zipCodeClassifier, routeNames, "zipCodeClassifier", instrumentationEnabled);
     }
 
     @Bean
-    public ClassifierCompositeItemProcessor<Customer, Customer> itemProcessor() {
-        ClassifierCompositeItemProcessor<Customer, Customer> itemProcessor =
-                new ClassifierCompositeItemProcessor<>(); // ClassifierCompositeItemProcessor 통한 프로세스 주입
+    public RouteBatchingClassifierCompositeItemProcessor<Customer, Customer> itemProcessor() {
+        RouteBatchingClassifierCompositeItemProcessor<Customer, Customer> itemProcessor =
+                new RouteBatchingClassifierCompositeItemProcessor<>(); // 청크를 경로별로 묶어 위임 프로세서마다 한 번에 처리
 
         itemProcessor.setClassifier(classifier()); // 분류기 설정
 
         return itemProcessor;
     }
 
-    @Bean
-    public ItemWriter<Customer> itemWriter() {
-        return (items) -> items.forEach(System.out::println);
+    @Bean // 콘솔 출력 대신 MySQL CUSTOMER 테이블에 multi-row JDBC 배치로 upsert
+    public CustomerJdbcItemWriter itemWriter(DataSource dataSource) {
+        return new CustomerJdbcItemWriter(dataSource);
+    }
+
+    @Bean // 청크 처리/커밋 시간이 1초에 가까워지도록 청크 크기를 5 ~ 5000 사이에서 조절
+    public AdaptiveCompletionPolicy completionPolicy() {
+        AdaptiveCompletionPolicy completionPolicy = new AdaptiveCompletionPolicy();
+
+        completionPolicy.setName("step-item-processor-classifier-composite");
+        completionPolicy.setMinChunkSize(5);
+        completionPolicy.setInitialChunkSize(5);
+        completionPolicy.setMaxChunkSize(5000);
+        completionPolicy.setTargetCommitMillis(1000);
+
+        return completionPolicy;
     }
 
     @Bean
     public Step copyFileStep() {
 
         return this.stepBuilderFactory.get("step-item-processor-classifier-composite")
-                .<Customer, Customer>chunk(5)
-                .reader(customerFlatFileItemReader(null))
-                .processor(itemProcessor())
-                .writer(itemWriter())
+                .tasklet(ChunkAwareChunkProcessor.newTasklet( // 청크 전체를 프로세서에 넘기기 위해 ChunkOrientedTasklet 직접 구성
+                        customerItemReader(null),
+                        itemProcessor(),
+                        itemWriter(null),
+                        completionPolicy()))
+                .stream(customerItemReader(null))
+                .listener((ChunkListener) completionPolicy()) // 청크 시간 측정을 위해 ChunkListener 로 등록
+                .listener((StepExecutionListener) classifier()) // 스텝 종료시 경로별 건수를 ExecutionContext 에 기록
                 .build();
     }
 
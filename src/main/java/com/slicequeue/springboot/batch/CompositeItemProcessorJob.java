@@ -1,24 +1,26 @@
 package com.slicequeue.springboot.batch;
 
+import com.slicequeue.springboot.batch.batch.adapter.LambdaItemProcessorAdapter;
+import com.slicequeue.springboot.batch.batch.metrics.InstrumentedCompositeItemProcessor;
+import com.slicequeue.springboot.batch.batch.policy.AdaptiveCompletionPolicy;
+import com.slicequeue.springboot.batch.batch.reader.MappedCustomerItemReader;
+import com.slicequeue.springboot.batch.batch.script.CompiledScriptItemProcessor;
+import com.slicequeue.springboot.batch.batch.validator.CollectingValidatingItemProcessor;
+import com.slicequeue.springboot.batch.batch.writer.CustomerJdbcItemWriter;
 import com.slicequeue.springboot.batch.domain.Customer;
 import com.slicequeue.springboot.batch.domain.UniqueLastNameValidator;
 import com.slicequeue.springboot.batch.service.UpperCaseNameService;
+import org.springframework.batch.core.ChunkListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParametersValidator;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
 import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
 import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.DefaultJobParametersValidator;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
-import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.adapter.ItemProcessorAdapter;
-import org.springframework.batch.item.file.FlatFileItemReader;
-import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
-import org.springframework.batch.item.support.CompositeItemProcessor;
-import org.springframework.batch.item.support.ScriptItemProcessor;
-import org.springframework.batch.item.validator.ValidatingItemProcessor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
@@ -26,7 +28,9 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.io.Resource;
 
+import javax.sql.DataSource;
 import java.util.Arrays;
+import java.util.Collections;
 
 //@EnableBatchProcessing
 //@SpringBootApplication
@@ -38,29 +42,24 @@ public class CompositeItemProcessorJob {
     @Autowired
     public StepBuilderFactory stepBuilderFactory;
 
+    @Value("${batch.instrumentation.enabled:false}")
+    private boolean instrumentationEnabled;
+
     @Bean
     public JobParametersValidator jobParametersValidator() {
         return new DefaultJobParametersValidator(new String[]{"customerFile", "script"}, new String[]{"run.id"});
     }
 
     @Bean
-    @StepScope
-    public FlatFileItemReader<Customer> customerFlatFileItemReader(
+    @StepScope // FlatFileItemReader 대신 메모리 맵 기반 리더로 FieldSet/BeanWrapper 매핑 과정 없이 Customer 생성
+    public MappedCustomerItemReader customerItemReader(
             @Value("#{jobParameters['customerFile']}") Resource inputFile) {
+        MappedCustomerItemReader itemReader = new MappedCustomerItemReader();
 
-        return new FlatFileItemReaderBuilder<Customer>()
-                .name("customerFlatFileItemReader")
-                .delimited()
-                .names("firstName",
-                        "middleInitial",
-                        "lastName",
-                        "address",
-                        "city",
-                        "state",
-                        "zip")
-                .targetType(Customer.class)
-                .resource(inputFile)
-                .build();
+        itemReader.setName("customerItemReader");
+        itemReader.setResource(inputFile);
+
+        return itemReader;
     }
 
     @Bean
@@ -72,18 +71,15 @@ public class CompositeItemProcessorJob {
         return uniqueLastNameValidator;
     }
 
-    @Bean // 아이템 프로세서 1 - ValidatingItemProcessor 활용하여 uniqueLastNameValidator 커스텀 검증기 적용
-    public ValidatingItemProcessor<Customer> customerValidatingItemProcessor() {
-        ValidatingItemProcessor<Customer> itemProcessor = new ValidatingItemProcessor<>(uniqueLastNameValidator());
-
-        itemProcessor.setFilter(true); // 유효성 검증을 통과하지 못한 아이템을 필터링하도록 설정
-
-        return itemProcessor;
+    @Bean // 아이템 프로세서 1 - CollectingValidatingItemProcessor 활용하여 uniqueLastNameValidator 커스텀 검증기 적용
+    public CollectingValidatingItemProcessor<Customer> customerValidatingItemProcessor() {
+        // 유효성 검증을 통과하지 못한 아이템은 예외 없이 필터링하고, 규칙별 거부 건수/샘플(규칙당 10건)만 집계
+        return new CollectingValidatingItemProcessor<>(Collections.singletonList(uniqueLastNameValidator()), 10);
     }
 
-    @Bean // ItemProcessor 2 - ItemProcessorAdapter 활용한 고객이름을 대문자로 변경
-    public ItemProcessorAdapter<Customer, Customer> upperCaseItemProcessor(UpperCaseNameService service) {
-        ItemProcessorAdapter<Customer, Customer> adapter = new ItemProcessorAdapter<>();
+    @Bean // ItemProcessor 2 - LambdaItemProcessorAdapter(리플렉션 없는 ItemProcessorAdapter) 활용한 고객이름을 대문자로 변경
+    public LambdaItemProcessorAdapter<Customer, Customer> upperCaseItemProcessor(UpperCaseNameService service) {
+        LambdaItemProcessorAdapter<Customer, Customer> adapter = new LambdaItemProcessorAdapter<>();
 
         adapter.setTargetObject(service);
         adapter.setTargetMethod("upperCase");
@@ -91,19 +87,20 @@ public class CompositeItemProcessorJob {
         return adapter;
     }
 
-    @Bean // ItemProcessor 3 - ScriptItemProcessor 활용한 고객의 모든 주소 관련 필드를 소문자로 변경
+    @Bean // ItemProcessor 3 - CompiledScriptItemProcessor(컴파일 캐시된 ScriptItemProcessor) 활용한 고객의 모든 주소 관련 필드를 소문자로 변경
     @StepScope
-    public ScriptItemProcessor<Customer, Customer> lowerCaseItemProcessor(@Value("#{jobParameters['script']}") Resource script) {
-        ScriptItemProcessor<Customer, Customer> itemProcessor = new ScriptItemProcessor<>();
+    public CompiledScriptItemProcessor<Customer, Customer> lowerCaseItemProcessor(@Value("#{jobParameters['script']}") Resource script) {
+        CompiledScriptItemProcessor<Customer, Customer> itemProcessor = new CompiledScriptItemProcessor<>();
 
         itemProcessor.setScript(script);
+        itemProcessor.setItemType(Customer.class); // 필드 매핑만 하는 스크립트는 바이트코드로 번역하여 스크립트 엔진 없이 처리
 
         return itemProcessor;
     }
 
-    @Bean // CompositeItemProcessor - ItemProcessor 1,2,3 복합
-    public CompositeItemProcessor<Customer, Customer> itemProcessor() {
-        CompositeItemProcessor<Customer, Customer> itemProcessor = new CompositeItemProcessor<>();
+    @Bean // CompositeItemProcessor - ItemProcessor 1,2,3 복합 (batch.instrumentation.enabled=true 이면 위임 프로세서별 시간/건수 측정)
+    public InstrumentedCompositeItemProcessor<Customer, Customer> itemProcessor() {
+        InstrumentedCompositeItemProcessor<Customer, Customer> itemProcessor = new InstrumentedCompositeItemProcessor<>();
 
         itemProcessor.setDelegates( // chain of delegates 위임 체인을 사용한 구성 적용
                 Arrays.asList(
@@ -111,23 +108,43 @@ public class CompositeItemProcessorJob {
                         upperCaseItemProcessor(null),     // itemProcessor 2
                         lowerCaseItemProcessor(null)       // itemProcessor 3
                 ));
+        itemProcessor.setDelegateNames(Arrays.asList("validator", "upperCase", "lowerCaseScript"));
+        itemProcessor.setName("step-item-processor-composite");
+        itemProcessor.setEnabled(instrumentationEnabled);
 
         return itemProcessor;
     }
 
-    @Bean
-    public ItemWriter<Customer> itemWriter() {
-        return (items) -> items.forEach(System.out::println);
+    @Bean // 콘솔 출력 대신 MySQL CUSTOMER 테이블에 multi-row JDBC 배치로 upsert
+    public CustomerJdbcItemWriter itemWriter(DataSource dataSource) {
+        return new CustomerJdbcItemWriter(dataSource);
+    }
+
+    @Bean // 청크 처리/커밋 시간이 1초에 가까워지도록 청크 크기를 5 ~ 5000 사이에서 조절
+    public AdaptiveCompletionPolicy completionPolicy() {
+        AdaptiveCompletionPolicy completionPolicy = new AdaptiveCompletionPolicy();
+
+        completionPolicy.setName("step-item-processor-composite");
+        completionPolicy.setMinChunkSize(5);
+        completionPolicy.setInitialChunkSize(5);
+        completionPolicy.setMaxChunkSize(5000);
+        completionPolicy.setTargetCommitMillis(1000);
+
+        return completionPolicy;
     }
 
     @Bean
     public Step copyFileStep() {
 
         return this.stepBuilderFactory.get("step-item-processor-composite")
-                .<Customer, Customer>chunk(5)
-                .reader(customerFlatFileItemReader(null))
+                .<Customer, Customer>chunk(completionPolicy())
+                .reader(customerItemReader(null))
                 .processor(itemProcessor())
-                .writer(itemWriter())
+                .writer(itemWriter(null))
+                .listener((ChunkListener) customerValidatingItemProcessor()) // 위임 프로세서는 자동 등록되지 않으므로 청크/스텝 리스너로 직접 등록
+                .listener((StepExecutionListener) customerValidatingItemProcessor())
+                .listener((ChunkListener) completionPolicy()) // 청크 시간 측정을 위해 ChunkListener 로 등록
+                .listener((StepExecutionListener) itemProcessor()) // 스텝 시작시 lowerCaseItemProcessor 프록시를 대상 객체로 풀고, 종료시 측정 요약을 ExecutionContext 에 기록
                 .build();
     }
 
@@ -0,0 +1,177 @@
+package com.slicequeue.springboot.batch;
+
+import com.slicequeue.springboot.batch.batch.adapter.LambdaItemProcessorAdapter;
+import com.slicequeue.springboot.batch.batch.reader.MappedCustomerItemReader;
+import com.slicequeue.springboot.batch.batch.script.CompiledScriptItemProcessor;
+import com.slicequeue.springboot.batch.batch.unique.FirstOccurrenceTasklet;
+import com.slicequeue.springboot.batch.batch.unique.FirstOccurrenceValidator;
+import com.slicequeue.springboot.batch.batch.validator.CollectingValidatingItemProcessor;
+import com.slicequeue.springboot.batch.batch.writer.CustomerJdbcItemWriter;
+import com.slicequeue.springboot.batch.domain.Customer;
+import com.slicequeue.springboot.batch.service.UpperCaseNameService;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersValidator;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.DefaultJobParametersValidator;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.item.support.CompositeItemProcessor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.Resource;
+
+import javax.sql.DataSource;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * CompositeItemProcessorJob 의 외부 정렬 고유성 검증 버전
+ * - UniqueLastNameValidator 는 본 lastName 을 모두 메모리에 들고 있어야 하므로 입력이 크면 메모리가 부족해짐
+ * - 사전 스텝(FirstOccurrenceTasklet)이 파일을 한 번 읽어 (lastName, 아이템 번호)를 디스크 런 파일로 외부 정렬하고, lastName 별 첫 등장 번호를 RoaringBitmap 으로 저장함
+ * - 본 스텝은 리더가 아이템 번호를 붙인 NumberedCustomer 를 만들고, FirstOccurrenceValidator 가 번호가 비트맵에 있는지만 확인함
+ * - 사전 스텝이 끝난 뒤 실패하면 재시작시 사전 스텝은 건너뛰고 Job ExecutionContext 의 비트맵 파일을 그대로 사용함
+ */
+//@EnableBatchProcessing
+//@SpringBootApplication
+public class ExternalSortCompositeItemProcessorJob {
+
+    @Autowired
+    public JobBuilderFactory jobBuilderFactory;
+
+    @Autowired
+    public StepBuilderFactory stepBuilderFactory;
+
+    @Bean
+    public JobParametersValidator jobParametersValidator() {
+        return new DefaultJobParametersValidator(new String[]{"customerFile", "script"}, new String[]{"run.id", "workDirectory"});
+    }
+
+    @Bean
+    @StepScope
+    public FirstOccurrenceTasklet firstOccurrenceTasklet(
+            @Value("#{jobParameters['customerFile']}") Resource inputFile,
+            @Value("#{jobParameters['workDirectory'] ?: systemProperties['java.io.tmpdir']}") String workDirectory) {
+        FirstOccurrenceTasklet tasklet = new FirstOccurrenceTasklet();
+
+        tasklet.setResource(inputFile);
+        tasklet.setWorkDirectory(Paths.get(workDirectory));
+
+        return tasklet;
+    }
+
+    @Bean // 사전 스텝 - lastName 별 첫 등장 아이템 번호 비트맵 생성
+    public Step firstOccurrenceStep() {
+
+        return this.stepBuilderFactory.get("step-first-occurrence")
+                .tasklet(firstOccurrenceTasklet(null, null))
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public MappedCustomerItemReader customerItemReader(
+            @Value("#{jobParameters['customerFile']}") Resource inputFile) {
+        MappedCustomerItemReader itemReader = new MappedCustomerItemReader();
+
+        itemReader.setName("customerItemReader");
+        itemReader.setResource(inputFile);
+        itemReader.setNumbered(true); // 검증기가 아이템 번호로 판정
+
+        return itemReader;
+    }
+
+    @Bean
+    @JobScope // 재시작한 JobExecution 도 이전 실행의 Job ExecutionContext 를 이어받으므로 같은 비트맵을 사용함
+    public FirstOccurrenceValidator firstOccurrenceValidator(
+            @Value("#{jobExecutionContext['firstOccurrences']}") Resource firstOccurrences) {
+        FirstOccurrenceValidator validator = new FirstOccurrenceValidator();
+
+        validator.setFirstOccurrences(firstOccurrences);
+
+        return validator;
+    }
+
+    @Bean // 아이템 프로세서 1 - 비트맵으로 중복 lastName 필터링 (상태가 없으므로 stream 등록 불필요)
+    public CollectingValidatingItemProcessor<Customer> customerValidatingItemProcessor() {
+        return new CollectingValidatingItemProcessor<>(Collections.singletonList(firstOccurrenceValidator(null)), 10);
+    }
+
+    @Bean
+    public LambdaItemProcessorAdapter<Customer, Customer> upperCaseItemProcessor(UpperCaseNameService service) {
+        LambdaItemProcessorAdapter<Customer, Customer> adapter = new LambdaItemProcessorAdapter<>();
+
+        adapter.setTargetObject(service);
+        adapter.setTargetMethod("upperCase");
+
+        return adapter;
+    }
+
+    @Bean
+    @StepScope
+    public CompiledScriptItemProcessor<Customer, Customer> lowerCaseItemProcessor(@Value("#{jobParameters['script']}") Resource script) {
+        CompiledScriptItemProcessor<Customer, Customer> itemProcessor = new CompiledScriptItemProcessor<>();
+
+        itemProcessor.setScript(script);
+        itemProcessor.setItemType(Customer.class);
+
+        return itemProcessor;
+    }
+
+    @Bean
+    public CompositeItemProcessor<Customer, Customer> itemProcessor() {
+        CompositeItemProcessor<Customer, Customer> itemProcessor = new CompositeItemProcessor<>();
+
+        itemProcessor.setDelegates(
+                Arrays.asList(
+                        customerValidatingItemProcessor(),
+                        upperCaseItemProcessor(null),
+                        lowerCaseItemProcessor(null)
+                ));
+
+        return itemProcessor;
+    }
+
+    @Bean
+    public CustomerJdbcItemWriter itemWriter(DataSource dataSource) {
+        return new CustomerJdbcItemWriter(dataSource);
+    }
+
+    @Bean
+    public Step copyFileStep() {
+
+        return this.stepBuilderFactory.get("step-item-processor-external-sort-composite")
+                .<Customer, Customer>chunk(100)
+                .reader(customerItemReader(null))
+                .processor(itemProcessor())
+                .writer(itemWriter(null))
+                .listener((ChunkListener) customerValidatingItemProcessor())
+                .listener((StepExecutionListener) customerValidatingItemProcessor())
+                .build();
+    }
+
+    @Bean
+    public Job job() throws Exception {
+
+        return this.jobBuilderFactory.get("job-item-processor-external-sort-composite")
+                .validator(jobParametersValidator())
+                .incrementer(new RunIdIncrementer())
+                .start(firstOccurrenceStep())
+                .next(copyFileStep())
+                .build();
+    }
+
+    public static void main(String[] args) {
+        SpringApplication.run(ExternalSortCompositeItemProcessorJob.class, "customerFile=/input/customer-unique.csv", "script=/lowerCase.js");
+    }
+
+}
@@ -0,0 +1,138 @@
+package com.slicequeue.springboot.batch;
+
+import com.slicequeue.springboot.batch.batch.checkpoint.JdbcCheckpointLog;
+import com.slicequeue.springboot.batch.batch.reader.MappedCustomerItemReader;
+import com.slicequeue.springboot.batch.batch.transform.InPlaceCompositeItemProcessor;
+import com.slicequeue.springboot.batch.batch.transform.ItemMutator;
+import com.slicequeue.springboot.batch.batch.validator.CollectingValidatingItemProcessor;
+import com.slicequeue.springboot.batch.batch.writer.BufferedCustomerItemWriter;
+import com.slicequeue.springboot.batch.domain.Customer;
+import com.slicequeue.springboot.batch.domain.UniqueLastNameValidator;
+import com.slicequeue.springboot.batch.service.LowerCaseAddressService;
+import com.slicequeue.springboot.batch.service.UpperCaseNameService;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersValidator;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.DefaultJobParametersValidator;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.Resource;
+
+import javax.sql.DataSource;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * CompositeItemProcessorJob 의 제자리 변환 버전
+ * - 검증 -> 이름 대문자 -> 주소 소문자 단계가 리더가 만든 Customer 하나를 그대로 변경하므로 레코드당 writer 로 전달되는 객체는 하나뿐임
+ * - 대소문자 변환은 ASCII 빠른 경로를 사용하여 변경할 문자가 없는 필드는 새 String 을 만들지 않음
+ */
+//@EnableBatchProcessing
+//@SpringBootApplication
+public class InPlaceCompositeItemProcessorJob {
+
+    @Autowired
+    public JobBuilderFactory jobBuilderFactory;
+
+    @Autowired
+    public StepBuilderFactory stepBuilderFactory;
+
+    @Bean
+    public JobParametersValidator jobParametersValidator() {
+        return new DefaultJobParametersValidator(new String[]{"customerFile"}, new String[]{"run.id"});
+    }
+
+    @Bean
+    @StepScope
+    public MappedCustomerItemReader customerItemReader(
+            @Value("#{jobParameters['customerFile']}") Resource inputFile) {
+        MappedCustomerItemReader itemReader = new MappedCustomerItemReader();
+
+        itemReader.setName("customerItemReader");
+        itemReader.setResource(inputFile);
+
+        return itemReader;
+    }
+
+    @Bean
+    public UniqueLastNameValidator uniqueLastNameValidator() {
+        UniqueLastNameValidator uniqueLastNameValidator = new UniqueLastNameValidator();
+
+        uniqueLastNameValidator.setName("uniqueLastNameValidator");
+        uniqueLastNameValidator.setCheckpointLog(checkpointLog(null)); // 커밋마다 추가된 lastName 만 BATCH_CHECKPOINT_LOG 에 기록
+
+        return uniqueLastNameValidator;
+    }
+
+    @Bean // 배치 메타데이터와 같은 데이터소스 사용 -> 청크 트랜잭션과 함께 커밋
+    public JdbcCheckpointLog checkpointLog(DataSource dataSource) {
+        return new JdbcCheckpointLog(dataSource);
+    }
+
+    @Bean
+    public CollectingValidatingItemProcessor<Customer> customerValidatingItemProcessor() {
+        return new CollectingValidatingItemProcessor<>(Collections.singletonList(uniqueLastNameValidator()), 10);
+    }
+
+    @Bean // 검증(입력 아이템을 그대로 반환) -> 이름 대문자 -> 주소 소문자, 모두 같은 Customer 를 변경
+    public InPlaceCompositeItemProcessor<Customer> itemProcessor(UpperCaseNameService upperCaseNameService,
+                                                                 LowerCaseAddressService lowerCaseAddressService) {
+        return new InPlaceCompositeItemProcessor<>(Arrays.<ItemMutator<Customer>>asList(
+                ItemMutator.of(customerValidatingItemProcessor()),
+                customer -> upperCaseNameService.upperCaseInPlace(customer) != null,
+                customer -> lowerCaseAddressService.lowerCaseInPlace(customer) != null
+        ));
+    }
+
+    @Bean // System.out(PrintStream) 잠금과 toString() 없이 바이트 버퍼에 인코딩하여 쓰기 스레드로 콘솔 출력
+    public BufferedCustomerItemWriter itemWriter() {
+        BufferedCustomerItemWriter itemWriter = new BufferedCustomerItemWriter();
+
+        itemWriter.setName("customerItemWriter");
+        itemWriter.setOutputStream(new FileOutputStream(FileDescriptor.out));
+
+        return itemWriter;
+    }
+
+    @Bean
+    public Step copyFileStep() {
+
+        return this.stepBuilderFactory.get("step-item-processor-in-place-composite")
+                .<Customer, Customer>chunk(5)
+                .reader(customerItemReader(null))
+                .processor(itemProcessor(null, null))
+                .writer(itemWriter())
+                .stream(uniqueLastNameValidator())
+                .listener((StepExecutionListener) uniqueLastNameValidator()) // 스텝이 COMPLETED 로 끝나면 체크포인트 로그 삭제
+                .listener((ChunkListener) customerValidatingItemProcessor())
+                .listener((StepExecutionListener) customerValidatingItemProcessor())
+                .build();
+    }
+
+    @Bean
+    public Job job() throws Exception {
+
+        return this.jobBuilderFactory.get("job-item-processor-in-place-composite")
+                .validator(jobParametersValidator())
+                .incrementer(new RunIdIncrementer())
+                .start(copyFileStep())
+                .build();
+    }
+
+    public static void main(String[] args) {
+        SpringApplication.run(InPlaceCompositeItemProcessorJob.class, "customerFile=/input/customer-unique.csv");
+    }
+
+}
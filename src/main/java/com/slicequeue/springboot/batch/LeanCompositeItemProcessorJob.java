@@ -0,0 +1,221 @@
+package com.slicequeue.springboot.batch;
+
+import com.slicequeue.springboot.batch.batch.adapter.LambdaItemProcessorAdapter;
+import com.slicequeue.springboot.batch.batch.metrics.InstrumentedCompositeItemProcessor;
+import com.slicequeue.springboot.batch.batch.metrics.StartupTimingListener;
+import com.slicequeue.springboot.batch.batch.policy.AdaptiveCompletionPolicy;
+import com.slicequeue.springboot.batch.batch.reader.MappedCustomerItemReader;
+import com.slicequeue.springboot.batch.batch.schema.BatchSchemaInitializer;
+import com.slicequeue.springboot.batch.batch.script.CompiledScriptItemProcessor;
+import com.slicequeue.springboot.batch.batch.validator.CollectingValidatingItemProcessor;
+import com.slicequeue.springboot.batch.batch.writer.CustomerJdbcItemWriter;
+import com.slicequeue.springboot.batch.domain.Customer;
+import com.slicequeue.springboot.batch.domain.UniqueLastNameValidator;
+import com.slicequeue.springboot.batch.service.UpperCaseNameService;
+import org.springframework.aop.scope.ScopedProxyUtils;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersValidator;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.job.DefaultJobParametersValidator;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.config.BeanDefinitionHolder;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.batch.BatchAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Supplier;
+
+/**
+ * CompositeItemProcessorJob 의 빠른 시작(lean) 실행 모드 - 작은 파일을 자주 실행하여 시작 시간이 처리 시간보다 긴 경우
+ * - 잡/스텝/프로세서 빈은 @Bean 메서드 대신 Initializer(ApplicationContextInitializer)에서 함수형으로 등록함
+ *   @Configuration 클래스의 CGLIB 프록시, 빈 메서드 리플렉션, @Value SpEL 평가가 없음
+ * - 컴포넌트 스캔과 @EnableAutoConfiguration(후보 자동 구성 전체의 조건 평가) 대신 DataSource/트랜잭션과 Batch 자동 구성만 가져옴
+ * - 스텝 스코프 빈은 ScopedProxyUtils 로 프록시를 직접 등록하고, 잡 파라미터는 빈을 만들 때 스텝 컨텍스트에서 읽음
+ * - lean 프로필(application-lean.yml)은 스키마 초기화를 끄고, BatchSchemaInitializer 가 BATCH_ 테이블이 없을 때만 스크립트를 실행함
+ * - lowerCase.js 처럼 바이트코드로 번역되는 스크립트는 ScriptEngineManager(Nashorn) 를 초기화하지 않음
+ * - 잡/스텝 이름이 CompositeItemProcessorJob 과 같으므로 어느 모드로 실패한 잡이든 다른 모드로 재시작할 수 있음
+ * - StartupTimingListener 가 JVM 시작부터 첫 아이템/첫 청크까지의 시간을 로그와 스텝 ExecutionContext 에 기록함
+ */
+//@EnableBatchProcessing
+//@SpringBootConfiguration(proxyBeanMethods = false)
+//@ImportAutoConfiguration({DataSourceAutoConfiguration.class, DataSourceTransactionManagerAutoConfiguration.class,
+//        TransactionAutoConfiguration.class, BatchAutoConfiguration.class}) // @AutoConfigureAfter 순서대로 DataSource 가 Batch 보다 먼저 구성됨
+public class LeanCompositeItemProcessorJob {
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(LeanCompositeItemProcessorJob.class)
+                .profiles("lean")
+                .initializers(new Initializer())
+                .run("customerFile=/input/customer-unique.csv", "script=/lowerCase.js");
+    }
+
+    /**
+     * CompositeItemProcessorJob 과 같은 빈을 같은 이름으로 등록
+     */
+    public static class Initializer implements ApplicationContextInitializer<GenericApplicationContext> {
+
+        private final StartupTimingListener startupTimingListener;
+
+        public Initializer() {
+            this(new StartupTimingListener());
+        }
+
+        /**
+         * @param startupTimingListener 같은 JVM 에서 여러 번 실행하는 경우 실행 시작 시각을 기준으로 하는 리스너
+         */
+        public Initializer(StartupTimingListener startupTimingListener) {
+            this.startupTimingListener = startupTimingListener;
+        }
+
+        @Override
+        public void initialize(GenericApplicationContext context) {
+            context.registerBean("batchSchemaInitializer", BatchSchemaInitializer.class,
+                    () -> new BatchSchemaInitializer(context.getBean(DataSource.class)));
+
+            context.registerBean("jobParametersValidator", JobParametersValidator.class,
+                    () -> new DefaultJobParametersValidator(new String[]{"customerFile", "script"}, new String[]{"run.id"}));
+
+            registerStepScoped(context, "customerItemReader", MappedCustomerItemReader.class, () -> {
+                MappedCustomerItemReader itemReader = new MappedCustomerItemReader();
+
+                itemReader.setName("customerItemReader");
+                itemReader.setResource(context.getResource(jobParameter("customerFile")));
+
+                return itemReader;
+            });
+
+            context.registerBean("uniqueLastNameValidator", UniqueLastNameValidator.class, () -> {
+                UniqueLastNameValidator uniqueLastNameValidator = new UniqueLastNameValidator();
+
+                uniqueLastNameValidator.setName("uniqueLastNameValidator");
+
+                return uniqueLastNameValidator;
+            });
+
+            context.registerBean("customerValidatingItemProcessor", CollectingValidatingItemProcessor.class,
+                    () -> new CollectingValidatingItemProcessor<>(
+                            Collections.singletonList(context.getBean(UniqueLastNameValidator.class)), 10));
+
+            context.registerBean("upperCaseNameService", UpperCaseNameService.class, UpperCaseNameService::new);
+
+            context.registerBean("upperCaseItemProcessor", LambdaItemProcessorAdapter.class, () -> {
+                LambdaItemProcessorAdapter<Customer, Customer> adapter = new LambdaItemProcessorAdapter<>();
+
+                adapter.setTargetObject(context.getBean(UpperCaseNameService.class));
+                adapter.setTargetMethod("upperCase");
+
+                return adapter;
+            });
+
+            registerStepScoped(context, "lowerCaseItemProcessor", CompiledScriptItemProcessor.class, () -> {
+                CompiledScriptItemProcessor<Customer, Customer> itemProcessor = new CompiledScriptItemProcessor<>();
+
+                itemProcessor.setScript(context.getResource(jobParameter("script")));
+                itemProcessor.setItemType(Customer.class);
+
+                return itemProcessor;
+            });
+
+            context.registerBean("itemProcessor", InstrumentedCompositeItemProcessor.class, () -> {
+                ItemProcessor<Customer, Customer> customerValidatingItemProcessor = bean(context, "customerValidatingItemProcessor");
+                ItemProcessor<Customer, Customer> upperCaseItemProcessor = bean(context, "upperCaseItemProcessor");
+                ItemProcessor<Customer, Customer> lowerCaseItemProcessor = bean(context, "lowerCaseItemProcessor"); // 스텝 스코프 프록시 (스텝 시작시 대상으로 풀림)
+                InstrumentedCompositeItemProcessor<Customer, Customer> itemProcessor = new InstrumentedCompositeItemProcessor<>();
+
+                itemProcessor.setDelegates(Arrays.asList(customerValidatingItemProcessor, upperCaseItemProcessor, lowerCaseItemProcessor));
+                itemProcessor.setDelegateNames(Arrays.asList("validator", "upperCase", "lowerCaseScript"));
+                itemProcessor.setName("step-item-processor-composite");
+                itemProcessor.setEnabled(context.getEnvironment().getProperty("batch.instrumentation.enabled", Boolean.class, false));
+
+                return itemProcessor;
+            });
+
+            context.registerBean("itemWriter", CustomerJdbcItemWriter.class,
+                    () -> new CustomerJdbcItemWriter(context.getBean(DataSource.class)));
+
+            context.registerBean("completionPolicy", AdaptiveCompletionPolicy.class, () -> {
+                AdaptiveCompletionPolicy completionPolicy = new AdaptiveCompletionPolicy();
+
+                completionPolicy.setName("step-item-processor-composite");
+                completionPolicy.setMinChunkSize(5);
+                completionPolicy.setInitialChunkSize(5);
+                completionPolicy.setMaxChunkSize(5000);
+                completionPolicy.setTargetCommitMillis(1000);
+
+                return completionPolicy;
+            });
+
+            context.registerBean("copyFileStep", Step.class, () -> {
+                CollectingValidatingItemProcessor<Customer> customerValidatingItemProcessor = bean(context, "customerValidatingItemProcessor");
+                InstrumentedCompositeItemProcessor<Customer, Customer> itemProcessor = bean(context, "itemProcessor");
+                AdaptiveCompletionPolicy completionPolicy = context.getBean(AdaptiveCompletionPolicy.class);
+                MappedCustomerItemReader customerItemReader = bean(context, "customerItemReader");
+
+                return context.getBean(StepBuilderFactory.class).get("step-item-processor-composite")
+                        .<Customer, Customer>chunk(completionPolicy)
+                        .reader(customerItemReader)
+                        .processor(itemProcessor)
+                        .writer(context.getBean(CustomerJdbcItemWriter.class))
+                        .listener((ChunkListener) customerValidatingItemProcessor)
+                        .listener((StepExecutionListener) customerValidatingItemProcessor)
+                        .listener((ChunkListener) completionPolicy)
+                        .listener((StepExecutionListener) itemProcessor)
+                        .listener((ChunkListener) startupTimingListener)
+                        .listener((StepExecutionListener) startupTimingListener)
+                        .build();
+            });
+
+            context.registerBean("job", Job.class, () -> context.getBean(JobBuilderFactory.class).get("job-item-processor-composite")
+                    .validator(context.getBean(JobParametersValidator.class))
+                    .incrementer(new RunIdIncrementer())
+                    .start(context.getBean("copyFileStep", Step.class))
+                    .build());
+        }
+
+        /**
+         * @StepScope 와 같은 CGLIB 스코프 프록시(빈 이름)와 스텝 스코프 대상(scopedTarget.빈 이름)을 등록
+         */
+        private static <T> void registerStepScoped(GenericApplicationContext context, String name, Class<T> type, Supplier<T> supplier) {
+            RootBeanDefinition definition = new RootBeanDefinition(type, supplier);
+            definition.setScope("step");
+
+            BeanDefinitionHolder proxy = ScopedProxyUtils.createScopedProxy(new BeanDefinitionHolder(definition, name), context, true);
+            context.registerBeanDefinition(proxy.getBeanName(), proxy.getBeanDefinition());
+        }
+
+        private static String jobParameter(String key) {
+            StepContext stepContext = StepSynchronizationManager.getContext();
+            Assert.state(stepContext != null, "스텝 스코프 빈은 스텝 실행 중에만 만들 수 있습니다.");
+
+            String value = stepContext.getStepExecution().getJobParameters().getString(key);
+            Assert.hasText(value, "잡 파라미터가 없습니다: " + key);
+
+            return value;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T bean(GenericApplicationContext context, String name) {
+            return (T) context.getBean(name);
+        }
+    }
+
+}
@@ -0,0 +1,176 @@
+package com.slicequeue.springboot.batch;
+
+import com.slicequeue.springboot.batch.batch.adapter.LambdaItemProcessorAdapter;
+import com.slicequeue.springboot.batch.batch.checkpoint.JdbcCheckpointLog;
+import com.slicequeue.springboot.batch.batch.chunk.ChunkAwareChunkProcessor;
+import com.slicequeue.springboot.batch.batch.chunk.ParallelCompositeItemProcessor;
+import com.slicequeue.springboot.batch.batch.script.CompiledScriptItemProcessor;
+import com.slicequeue.springboot.batch.batch.writer.BufferedCustomerItemWriter;
+import com.slicequeue.springboot.batch.domain.Customer;
+import com.slicequeue.springboot.batch.domain.UniqueLastNameValidator;
+import com.slicequeue.springboot.batch.service.UpperCaseNameService;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersValidator;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.DefaultJobParametersValidator;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
+import org.springframework.batch.item.validator.ValidatingItemProcessor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.Resource;
+
+import javax.sql.DataSource;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * CompositeItemProcessorJob 의 검증 → 대문자 → 스크립트 체인을 청크 단위로 병렬 처리하는 잡
+ * - 상태를 가지는 uniqueLastNameValidator 는 스텝 스레드에서 순서대로, 나머지 체인은 워커 풀에서 병렬로 처리
+ */
+//@EnableBatchProcessing
+//@SpringBootApplication
+public class ParallelCompositeItemProcessorJob {
+
+    @Autowired
+    public JobBuilderFactory jobBuilderFactory;
+
+    @Autowired
+    public StepBuilderFactory stepBuilderFactory;
+
+    @Bean
+    public JobParametersValidator jobParametersValidator() {
+        return new DefaultJobParametersValidator(new String[]{"customerFile", "script"}, new String[]{"run.id"});
+    }
+
+    @Bean
+    @StepScope
+    public FlatFileItemReader<Customer> customerFlatFileItemReader(
+            @Value("#{jobParameters['customerFile']}") Resource inputFile) {
+
+        return new FlatFileItemReaderBuilder<Customer>()
+                .name("customerFlatFileItemReader")
+                .delimited()
+                .names("firstName",
+                        "middleInitial",
+                        "lastName",
+                        "address",
+                        "city",
+                        "state",
+                        "zip")
+                .targetType(Customer.class)
+                .resource(inputFile)
+                .build();
+    }
+
+    @Bean
+    public UniqueLastNameValidator uniqueLastNameValidator() {
+        UniqueLastNameValidator uniqueLastNameValidator = new UniqueLastNameValidator();
+
+        uniqueLastNameValidator.setName("uniqueLastNameValidator");
+        uniqueLastNameValidator.setCheckpointLog(checkpointLog(null)); // 커밋마다 추가된 lastName 만 BATCH_CHECKPOINT_LOG 에 기록
+
+        return uniqueLastNameValidator;
+    }
+
+    @Bean // 배치 메타데이터와 같은 데이터소스 사용 -> 청크 트랜잭션과 함께 커밋
+    public JdbcCheckpointLog checkpointLog(DataSource dataSource) {
+        return new JdbcCheckpointLog(dataSource);
+    }
+
+    @Bean // 아이템 프로세서 1 - 상태를 가지므로 스텝 스레드에서 순차 실행
+    public ValidatingItemProcessor<Customer> customerValidatingItemProcessor() {
+        ValidatingItemProcessor<Customer> itemProcessor = new ValidatingItemProcessor<>(uniqueLastNameValidator());
+
+        itemProcessor.setFilter(true);
+
+        return itemProcessor;
+    }
+
+    @Bean // 아이템 프로세서 2 - 상태 없음, 병렬 실행
+    public LambdaItemProcessorAdapter<Customer, Customer> upperCaseItemProcessor(UpperCaseNameService service) {
+        LambdaItemProcessorAdapter<Customer, Customer> adapter = new LambdaItemProcessorAdapter<>();
+
+        adapter.setTargetObject(service);
+        adapter.setTargetMethod("upperCase");
+
+        return adapter;
+    }
+
+    @Bean // 아이템 프로세서 3 - 상태 없음, 병렬 실행
+    @StepScope
+    public CompiledScriptItemProcessor<Customer, Customer> lowerCaseItemProcessor(@Value("#{jobParameters['script']}") Resource script) {
+        CompiledScriptItemProcessor<Customer, Customer> itemProcessor = new CompiledScriptItemProcessor<>();
+
+        itemProcessor.setScript(script);
+        itemProcessor.setItemType(Customer.class);
+
+        return itemProcessor;
+    }
+
+    @Bean // ParallelCompositeItemProcessor - 청크 아이템들을 워커 풀에서 병렬 처리, 결과 순서 유지
+    public ParallelCompositeItemProcessor<Customer, Customer> itemProcessor() {
+        ParallelCompositeItemProcessor<Customer, Customer> itemProcessor = new ParallelCompositeItemProcessor<>();
+
+        itemProcessor.setSequentialDelegates(Collections.singletonList(customerValidatingItemProcessor()));
+        itemProcessor.setDelegates(
+                Arrays.asList(
+                        upperCaseItemProcessor(null),
+                        lowerCaseItemProcessor(null)
+                ));
+
+        return itemProcessor;
+    }
+
+    @Bean // System.out(PrintStream) 잠금과 toString() 없이 바이트 버퍼에 인코딩하여 쓰기 스레드로 콘솔 출력
+    public BufferedCustomerItemWriter itemWriter() {
+        BufferedCustomerItemWriter itemWriter = new BufferedCustomerItemWriter();
+
+        itemWriter.setName("customerItemWriter");
+        itemWriter.setOutputStream(new FileOutputStream(FileDescriptor.out));
+
+        return itemWriter;
+    }
+
+    @Bean
+    public Step copyFileStep() {
+
+        return this.stepBuilderFactory.get("step-item-processor-parallel-composite")
+                .tasklet(ChunkAwareChunkProcessor.newTasklet( // 청크 전체를 프로세서에 넘기기 위해 ChunkOrientedTasklet 직접 구성
+                        customerFlatFileItemReader(null),
+                        itemProcessor(),
+                        itemWriter(),
+                        100))
+                .stream(customerFlatFileItemReader(null))
+                .stream(uniqueLastNameValidator())
+                .listener((StepExecutionListener) uniqueLastNameValidator()) // 스텝이 COMPLETED 로 끝나면 체크포인트 로그 삭제
+                .stream(itemWriter())
+                .build();
+    }
+
+    @Bean
+    public Job job() throws Exception {
+
+        return this.jobBuilderFactory.get("job-item-processor-parallel-composite")
+                .validator(jobParametersValidator())
+                .incrementer(new RunIdIncrementer())
+                .start(copyFileStep())
+                .build();
+    }
+
+    public static void main(String[] args) {
+        SpringApplication.run(ParallelCompositeItemProcessorJob.class, "customerFile=/input/customer-unique.csv", "script=/lowerCase.js");
+    }
+
+}
@@ -0,0 +1,202 @@
+package com.slicequeue.springboot.batch;
+
+import com.slicequeue.springboot.batch.batch.adapter.LambdaItemProcessorAdapter;
+import com.slicequeue.springboot.batch.batch.checkpoint.JdbcCheckpointLog;
+import com.slicequeue.springboot.batch.batch.partition.ByteRangeResource;
+import com.slicequeue.springboot.batch.batch.partition.LineAlignedFilePartitioner;
+import com.slicequeue.springboot.batch.batch.script.CompiledScriptItemProcessor;
+import com.slicequeue.springboot.batch.domain.Customer;
+import com.slicequeue.springboot.batch.domain.UniqueLastNameValidator;
+import com.slicequeue.springboot.batch.service.UpperCaseNameService;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersValidator;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.DefaultJobParametersValidator;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
+import org.springframework.batch.item.support.CompositeItemProcessor;
+import org.springframework.batch.item.validator.ValidatingItemProcessor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+
+/**
+ * CompositeItemProcessorJob 의 파티셔닝 버전
+ * - 매니저 스텝이 입력 CSV 를 라인 경계에 맞춘 바이트 구간으로 나누고, 구간마다 워커 스텝을 TaskExecutorPartitionHandler 로 병렬 실행함
+ * - 파티션별 진행 상태는 각 워커 StepExecution 의 ExecutionContext 로 JobRepository(MySQL)에 저장되므로 실패한 파티션만 재시작됨
+ * - uniqueLastNameValidator 는 파티션(워커 스텝)마다 별도 인스턴스이므로 성(lastName) 고유성은 파티션 안에서만 보장됨
+ *   전체 기준 고유성이 필요하면 lastName 해시로 파티션을 나누는 ShardedCompositeItemProcessorJob 사용
+ */
+//@EnableBatchProcessing
+//@SpringBootApplication
+public class PartitionedCompositeItemProcessorJob {
+
+    @Autowired
+    public JobBuilderFactory jobBuilderFactory;
+
+    @Autowired
+    public StepBuilderFactory stepBuilderFactory;
+
+    @Bean
+    public JobParametersValidator jobParametersValidator() {
+        return new DefaultJobParametersValidator(new String[]{"customerFile", "script"}, new String[]{"run.id", "gridSize"});
+    }
+
+    @Bean
+    @StepScope
+    public LineAlignedFilePartitioner partitioner(@Value("#{jobParameters['customerFile']}") Resource inputFile) {
+        return new LineAlignedFilePartitioner(inputFile);
+    }
+
+    @Bean
+    @StepScope // 워커 스텝마다 자기 파티션 구간만 읽는 리더 생성
+    public FlatFileItemReader<Customer> customerFlatFileItemReader(
+            @Value("#{jobParameters['customerFile']}") Resource inputFile,
+            @Value("#{stepExecutionContext['startOffset']}") Long startOffset,
+            @Value("#{stepExecutionContext['endOffset']}") Long endOffset) {
+
+        return new FlatFileItemReaderBuilder<Customer>()
+                .name("customerFlatFileItemReader")
+                .delimited()
+                .names("firstName",
+                        "middleInitial",
+                        "lastName",
+                        "address",
+                        "city",
+                        "state",
+                        "zip")
+                .targetType(Customer.class)
+                .resource(new ByteRangeResource(inputFile, startOffset, endOffset))
+                .build();
+    }
+
+    @Bean
+    @StepScope // 파티션마다 별도 상태를 가지도록 스텝 스코프 적용
+    public UniqueLastNameValidator uniqueLastNameValidator() {
+        UniqueLastNameValidator uniqueLastNameValidator = new UniqueLastNameValidator();
+
+        uniqueLastNameValidator.setName("uniqueLastNameValidator");
+        uniqueLastNameValidator.setCheckpointLog(checkpointLog(null)); // 커밋마다 추가된 lastName 만 BATCH_CHECKPOINT_LOG 에 기록
+
+        return uniqueLastNameValidator;
+    }
+
+    @Bean // 배치 메타데이터와 같은 데이터소스 사용 -> 청크 트랜잭션과 함께 커밋
+    public JdbcCheckpointLog checkpointLog(DataSource dataSource) {
+        return new JdbcCheckpointLog(dataSource);
+    }
+
+    @Bean
+    public ValidatingItemProcessor<Customer> customerValidatingItemProcessor() {
+        ValidatingItemProcessor<Customer> itemProcessor = new ValidatingItemProcessor<>(uniqueLastNameValidator());
+
+        itemProcessor.setFilter(true);
+
+        return itemProcessor;
+    }
+
+    @Bean
+    public LambdaItemProcessorAdapter<Customer, Customer> upperCaseItemProcessor(UpperCaseNameService service) {
+        LambdaItemProcessorAdapter<Customer, Customer> adapter = new LambdaItemProcessorAdapter<>();
+
+        adapter.setTargetObject(service);
+        adapter.setTargetMethod("upperCase");
+
+        return adapter;
+    }
+
+    @Bean
+    @StepScope
+    public CompiledScriptItemProcessor<Customer, Customer> lowerCaseItemProcessor(@Value("#{jobParameters['script']}") Resource script) {
+        CompiledScriptItemProcessor<Customer, Customer> itemProcessor = new CompiledScriptItemProcessor<>();
+
+        itemProcessor.setScript(script);
+        itemProcessor.setItemType(Customer.class);
+
+        return itemProcessor;
+    }
+
+    @Bean
+    public CompositeItemProcessor<Customer, Customer> itemProcessor() {
+        CompositeItemProcessor<Customer, Customer> itemProcessor = new CompositeItemProcessor<>();
+
+        itemProcessor.setDelegates(
+                Arrays.asList(
+                        customerValidatingItemProcessor(),
+                        upperCaseItemProcessor(null),
+                        lowerCaseItemProcessor(null)
+                ));
+
+        return itemProcessor;
+    }
+
+    @Bean
+    public ItemWriter<Customer> itemWriter() {
+        return (items) -> items.forEach(System.out::println);
+    }
+
+    @Bean // 워커 스텝 - 파티션 하나를 처리
+    public Step copyFileStep() {
+
+        return this.stepBuilderFactory.get("step-item-processor-partitioned-composite-worker")
+                .<Customer, Customer>chunk(5)
+                .reader(customerFlatFileItemReader(null, null, null))
+                .processor(itemProcessor())
+                .writer(itemWriter())
+                .stream(uniqueLastNameValidator())
+                .listener((StepExecutionListener) uniqueLastNameValidator()) // 스텝이 COMPLETED 로 끝나면 체크포인트 로그 삭제
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public TaskExecutorPartitionHandler partitionHandler(
+            @Value("#{jobParameters['gridSize'] ?: T(java.lang.Runtime).getRuntime().availableProcessors()}") Integer gridSize) {
+        TaskExecutorPartitionHandler partitionHandler = new TaskExecutorPartitionHandler();
+
+        partitionHandler.setStep(copyFileStep());
+        partitionHandler.setTaskExecutor(new SimpleAsyncTaskExecutor("partition-"));
+        partitionHandler.setGridSize(gridSize);
+
+        return partitionHandler;
+    }
+
+    @Bean // 매니저 스텝 - 파티션 생성 후 워커 스텝 실행, 워커 StepExecution 결과를 합산
+    public Step partitionedCopyFileStep() {
+
+        return this.stepBuilderFactory.get("step-item-processor-partitioned-composite")
+                .partitioner(copyFileStep().getName(), partitioner(null))
+                .partitionHandler(partitionHandler(null))
+                .build();
+    }
+
+    @Bean
+    public Job job() throws Exception {
+
+        return this.jobBuilderFactory.get("job-item-processor-partitioned-composite")
+                .validator(jobParametersValidator())
+                .incrementer(new RunIdIncrementer())
+                .start(partitionedCopyFileStep())
+                .build();
+    }
+
+    public static void main(String[] args) {
+        SpringApplication.run(PartitionedCompositeItemProcessorJob.class, "customerFile=/input/customer-unique.csv", "script=/lowerCase.js");
+    }
+
+}
@@ -0,0 +1,188 @@
+package com.slicequeue.springboot.batch;
+
+import com.slicequeue.springboot.batch.batch.adapter.LambdaItemProcessorAdapter;
+import com.slicequeue.springboot.batch.batch.checkpoint.JdbcCheckpointLog;
+import com.slicequeue.springboot.batch.batch.pipeline.PipelinedItemReader;
+import com.slicequeue.springboot.batch.batch.pipeline.PipelinedItemWriter;
+import com.slicequeue.springboot.batch.batch.reader.MappedCustomerItemReader;
+import com.slicequeue.springboot.batch.batch.script.CompiledScriptItemProcessor;
+import com.slicequeue.springboot.batch.batch.validator.CollectingValidatingItemProcessor;
+import com.slicequeue.springboot.batch.domain.Customer;
+import com.slicequeue.springboot.batch.domain.UniqueLastNameValidator;
+import com.slicequeue.springboot.batch.service.UpperCaseNameService;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersValidator;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.DefaultJobParametersValidator;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.item.file.FlatFileItemWriter;
+import org.springframework.batch.item.file.builder.FlatFileItemWriterBuilder;
+import org.springframework.batch.item.support.CompositeItemProcessor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * CompositeItemProcessorJob 의 비동기 파이프라인 버전
+ * - 스텝 스레드는 다음 청크를 읽고 CompositeItemProcessor 로 처리하는 동안, 쓰기 스레드는 이전 청크를 파일에 씀
+ * - 진행 중인 쓰기는 최대 2 청크로 제한하고, 쓰기가 끝난 청크까지만 체크포인트로 반영함 (리더 위치와 lastName 검증기 상태 모두)
+ */
+//@EnableBatchProcessing
+//@SpringBootApplication
+public class PipelinedCompositeItemProcessorJob {
+
+    @Autowired
+    public JobBuilderFactory jobBuilderFactory;
+
+    @Autowired
+    public StepBuilderFactory stepBuilderFactory;
+
+    @Bean
+    public JobParametersValidator jobParametersValidator() {
+        return new DefaultJobParametersValidator(new String[]{"customerFile", "outputFile", "script"}, new String[]{"run.id"});
+    }
+
+    @Bean
+    @StepScope
+    public MappedCustomerItemReader customerItemReader(
+            @Value("#{jobParameters['customerFile']}") Resource inputFile) {
+        MappedCustomerItemReader itemReader = new MappedCustomerItemReader();
+
+        itemReader.setName("customerItemReader");
+        itemReader.setResource(inputFile);
+
+        return itemReader;
+    }
+
+    @Bean // 위임 리더와 검증기의 체크포인트를 쓰기가 끝난 뒤에 반영하는 리더 래퍼 (둘 다 따로 stream 으로 등록하지 않음)
+    public PipelinedItemReader<Customer> pipelinedItemReader() {
+        PipelinedItemReader<Customer> itemReader = new PipelinedItemReader<>();
+
+        itemReader.setDelegate(customerItemReader(null));
+        itemReader.setDeferredStreams(Collections.singletonList(uniqueLastNameValidator()));
+        itemReader.setItemWriter(pipelinedItemWriter());
+
+        return itemReader;
+    }
+
+    @Bean
+    public UniqueLastNameValidator uniqueLastNameValidator() {
+        UniqueLastNameValidator uniqueLastNameValidator = new UniqueLastNameValidator();
+
+        uniqueLastNameValidator.setName("uniqueLastNameValidator");
+        uniqueLastNameValidator.setCheckpointLog(checkpointLog(null)); // 커밋마다 추가된 lastName 만 BATCH_CHECKPOINT_LOG 에 기록
+
+        return uniqueLastNameValidator;
+    }
+
+    @Bean // 배치 메타데이터와 같은 데이터소스 사용 -> 청크 트랜잭션과 함께 커밋
+    public JdbcCheckpointLog checkpointLog(DataSource dataSource) {
+        return new JdbcCheckpointLog(dataSource);
+    }
+
+    @Bean
+    public CollectingValidatingItemProcessor<Customer> customerValidatingItemProcessor() {
+        return new CollectingValidatingItemProcessor<>(Collections.singletonList(uniqueLastNameValidator()), 10);
+    }
+
+    @Bean
+    public LambdaItemProcessorAdapter<Customer, Customer> upperCaseItemProcessor(UpperCaseNameService service) {
+        LambdaItemProcessorAdapter<Customer, Customer> adapter = new LambdaItemProcessorAdapter<>();
+
+        adapter.setTargetObject(service);
+        adapter.setTargetMethod("upperCase");
+
+        return adapter;
+    }
+
+    @Bean
+    @StepScope
+    public CompiledScriptItemProcessor<Customer, Customer> lowerCaseItemProcessor(@Value("#{jobParameters['script']}") Resource script) {
+        CompiledScriptItemProcessor<Customer, Customer> itemProcessor = new CompiledScriptItemProcessor<>();
+
+        itemProcessor.setScript(script);
+        itemProcessor.setItemType(Customer.class);
+
+        return itemProcessor;
+    }
+
+    @Bean
+    public CompositeItemProcessor<Customer, Customer> itemProcessor() {
+        CompositeItemProcessor<Customer, Customer> itemProcessor = new CompositeItemProcessor<>();
+
+        itemProcessor.setDelegates(
+                Arrays.asList(
+                        customerValidatingItemProcessor(),
+                        upperCaseItemProcessor(null),
+                        lowerCaseItemProcessor(null)
+                ));
+
+        return itemProcessor;
+    }
+
+    @Bean
+    @StepScope
+    public FlatFileItemWriter<Customer> customerItemWriter(@Value("#{jobParameters['outputFile']}") String outputFile) {
+        return new FlatFileItemWriterBuilder<Customer>()
+                .name("customerItemWriter")
+                .resource(new FileSystemResource(outputFile))
+                .delimited()
+                .names("firstName", "middleInitial", "lastName", "address", "city", "state", "zip")
+                .transactional(false) // 쓰기 스레드는 스텝 트랜잭션 밖에서 실행됨
+                .build();
+    }
+
+    @Bean // 청크 쓰기를 쓰기 스레드로 넘기고 다음 청크 처리를 바로 시작
+    public PipelinedItemWriter<Customer> pipelinedItemWriter() {
+        PipelinedItemWriter<Customer> itemWriter = new PipelinedItemWriter<>();
+
+        itemWriter.setDelegate(customerItemWriter(null));
+        itemWriter.setMaxInFlight(2);
+
+        return itemWriter;
+    }
+
+    @Bean
+    public Step copyFileStep() {
+
+        return this.stepBuilderFactory.get("step-item-processor-pipelined-composite")
+                .<Customer, Customer>chunk(100)
+                .reader(pipelinedItemReader())
+                .processor(itemProcessor())
+                .writer(pipelinedItemWriter())
+                .listener((ChunkListener) customerValidatingItemProcessor())
+                .listener((StepExecutionListener) customerValidatingItemProcessor())
+                .listener((StepExecutionListener) uniqueLastNameValidator()) // 스텝이 COMPLETED 로 끝나면 체크포인트 로그 삭제
+                .build();
+    }
+
+    @Bean
+    public Job job() throws Exception {
+
+        return this.jobBuilderFactory.get("job-item-processor-pipelined-composite")
+                .validator(jobParametersValidator())
+                .incrementer(new RunIdIncrementer())
+                .start(copyFileStep())
+                .build();
+    }
+
+    public static void main(String[] args) {
+        SpringApplication.run(PipelinedCompositeItemProcessorJob.class,
+                "customerFile=/input/customer-unique.csv", "outputFile=build/customer-pipelined.csv", "script=/lowerCase.js");
+    }
+
+}
@@ -0,0 +1,207 @@
+package com.slicequeue.springboot.batch;
+
+import com.slicequeue.springboot.batch.batch.adapter.LambdaItemProcessorAdapter;
+import com.slicequeue.springboot.batch.batch.checkpoint.JdbcCheckpointLog;
+import com.slicequeue.springboot.batch.batch.reader.MappedCustomerItemReader;
+import com.slicequeue.springboot.batch.batch.script.CompiledScriptItemProcessor;
+import com.slicequeue.springboot.batch.batch.validator.CollectingValidatingItemProcessor;
+import com.slicequeue.springboot.batch.batch.writer.CustomerJdbcItemWriter;
+import com.slicequeue.springboot.batch.domain.Customer;
+import com.slicequeue.springboot.batch.domain.UniqueLastNameValidator;
+import com.slicequeue.springboot.batch.service.UpperCaseNameService;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersValidator;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.DefaultJobParametersValidator;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.integration.chunk.RemoteChunkingManagerStepBuilderFactory;
+import org.springframework.batch.integration.chunk.RemoteChunkingWorkerBuilder;
+import org.springframework.batch.integration.config.annotation.EnableBatchIntegration;
+import org.springframework.batch.item.support.CompositeItemProcessor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.Resource;
+import org.springframework.integration.channel.ExecutorChannel;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.integration.dsl.IntegrationFlow;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * CompositeItemProcessorJob 의 원격 청킹(remote chunking) 버전
+ * - 매니저 스텝: 고객 파일을 읽고 상태를 가지는 uniqueLastNameValidator 로 검증한 뒤, 청크를 requests 채널로 보냄 (ChunkMessageChannelItemWriter)
+ * - 워커: requests 채널에서 청크를 받아 upperCase -> lowerCase 스크립트 체인으로 처리하고 CUSTOMER 테이블에 쓴 뒤 replies 채널로 응답 (ChunkProcessorChunkHandler)
+ * - 매니저는 응답을 받아 청크별 쓰기 건수와 실패를 자신의 StepExecution 에 반영하며, 응답을 기다리는 청크는 throttleLimit 개까지만 허용함
+ * - 여기서는 브로커 대신 JVM 안의 채널을 사용함: requests 는 워커 수만큼의 스레드로 분배하는 ExecutorChannel(워커 JVM 하나 = 스레드 하나), replies 는 QueueChannel
+ *   여러 노드로 나눌 때는 두 채널을 JMS/AMQP 등의 채널 어댑터로 바꾸고, 워커 빈(requests, replies, workerFlow 와 워커 체인)만 워커 노드에 구성하면 됨
+ * - 워커에는 스텝 스코프가 없으므로 워커 체인의 스크립트는 잡 파라미터 대신 batch.remote-chunking.script 프로퍼티로 지정함
+ */
+//@EnableBatchProcessing
+//@EnableBatchIntegration
+//@SpringBootApplication
+public class RemoteChunkingCompositeItemProcessorJob {
+
+    @Autowired
+    public JobBuilderFactory jobBuilderFactory;
+
+    @Autowired
+    public RemoteChunkingManagerStepBuilderFactory managerStepBuilderFactory;
+
+    @Autowired
+    public RemoteChunkingWorkerBuilder<Customer, Customer> workerBuilder;
+
+    @Value("${batch.remote-chunking.workers:4}")
+    private int workers;
+
+    @Bean
+    public JobParametersValidator jobParametersValidator() {
+        return new DefaultJobParametersValidator(new String[]{"customerFile"}, new String[]{"run.id"});
+    }
+
+    // ===== 매니저 =====
+
+    @Bean
+    @StepScope
+    public MappedCustomerItemReader customerItemReader(
+            @Value("#{jobParameters['customerFile']}") Resource inputFile) {
+        MappedCustomerItemReader itemReader = new MappedCustomerItemReader();
+
+        itemReader.setName("customerItemReader");
+        itemReader.setResource(inputFile);
+
+        return itemReader;
+    }
+
+    @Bean
+    public UniqueLastNameValidator uniqueLastNameValidator() {
+        UniqueLastNameValidator uniqueLastNameValidator = new UniqueLastNameValidator();
+
+        uniqueLastNameValidator.setName("uniqueLastNameValidator");
+        uniqueLastNameValidator.setCheckpointLog(checkpointLog(null)); // 커밋마다 추가된 lastName 만 BATCH_CHECKPOINT_LOG 에 기록
+
+        return uniqueLastNameValidator;
+    }
+
+    @Bean // 배치 메타데이터와 같은 데이터소스 사용 -> 청크 트랜잭션과 함께 커밋
+    public JdbcCheckpointLog checkpointLog(DataSource dataSource) {
+        return new JdbcCheckpointLog(dataSource);
+    }
+
+    @Bean // 아이템 프로세서 1 - 고유성 판정은 모든 아이템을 보아야 하므로 매니저에서 실행하고, 상태는 매니저 스텝의 ExecutionContext 에 체크포인트
+    public CollectingValidatingItemProcessor<Customer> customerValidatingItemProcessor() {
+        return new CollectingValidatingItemProcessor<>(Collections.singletonList(uniqueLastNameValidator()), 10);
+    }
+
+    @Bean
+    public Step managerStep() {
+
+        return this.managerStepBuilderFactory.<Customer, Customer>get("step-item-processor-remote-chunking")
+                .chunk(100)
+                .outputChannel(requests())
+                .inputChannel(replies())
+                .throttleLimit(workers * 2L) // 워커마다 처리 중 1 + 대기 1 청크
+                .reader(customerItemReader(null))
+                .processor(customerValidatingItemProcessor())
+                .stream(uniqueLastNameValidator())
+                .listener((StepExecutionListener) uniqueLastNameValidator()) // 스텝이 COMPLETED 로 끝나면 체크포인트 로그 삭제
+                .listener((ChunkListener) customerValidatingItemProcessor())
+                .listener((StepExecutionListener) customerValidatingItemProcessor())
+                .build();
+    }
+
+    @Bean
+    public Job job() throws Exception {
+
+        return this.jobBuilderFactory.get("job-item-processor-remote-chunking")
+                .validator(jobParametersValidator())
+                .incrementer(new RunIdIncrementer())
+                .start(managerStep())
+                .build();
+    }
+
+    // ===== 매니저 <-> 워커 채널 (브로커 대체) =====
+
+    @Bean
+    public ThreadPoolTaskExecutor workerTaskExecutor() {
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+
+        taskExecutor.setCorePoolSize(workers);
+        taskExecutor.setMaxPoolSize(workers);
+        taskExecutor.setThreadNamePrefix("remote-chunking-worker-");
+
+        return taskExecutor;
+    }
+
+    @Bean // 매니저 -> 워커 ChunkRequest
+    public ExecutorChannel requests() {
+        return new ExecutorChannel(workerTaskExecutor());
+    }
+
+    @Bean // 워커 -> 매니저 ChunkResponse (매니저가 polling 으로 수신)
+    public QueueChannel replies() {
+        return new QueueChannel();
+    }
+
+    // ===== 워커 =====
+
+    @Bean // ItemProcessor 2 - 고객이름을 대문자로 변경
+    public LambdaItemProcessorAdapter<Customer, Customer> upperCaseItemProcessor(UpperCaseNameService service) {
+        LambdaItemProcessorAdapter<Customer, Customer> adapter = new LambdaItemProcessorAdapter<>();
+
+        adapter.setTargetObject(service);
+        adapter.setTargetMethod("upperCase");
+
+        return adapter;
+    }
+
+    @Bean // ItemProcessor 3 - 고객의 모든 주소 관련 필드를 소문자로 변경 (스레드별 Bindings 를 사용하므로 워커 스레드 간 공유 가능)
+    public CompiledScriptItemProcessor<Customer, Customer> lowerCaseItemProcessor(
+            @Value("${batch.remote-chunking.script:classpath:lowerCase.js}") Resource script) {
+        CompiledScriptItemProcessor<Customer, Customer> itemProcessor = new CompiledScriptItemProcessor<>();
+
+        itemProcessor.setScript(script);
+        itemProcessor.setItemType(Customer.class);
+
+        return itemProcessor;
+    }
+
+    @Bean
+    public CompositeItemProcessor<Customer, Customer> workerItemProcessor() {
+        CompositeItemProcessor<Customer, Customer> itemProcessor = new CompositeItemProcessor<>();
+
+        itemProcessor.setDelegates(Arrays.asList(upperCaseItemProcessor(null), lowerCaseItemProcessor(null)));
+
+        return itemProcessor;
+    }
+
+    @Bean // upsert 이므로 워커가 같은 청크를 다시 받아도 행이 중복되지 않음
+    public CustomerJdbcItemWriter workerItemWriter(DataSource dataSource) {
+        return new CustomerJdbcItemWriter(dataSource);
+    }
+
+    @Bean
+    public IntegrationFlow workerFlow() {
+        return this.workerBuilder
+                .itemProcessor(workerItemProcessor())
+                .itemWriter(workerItemWriter(null))
+                .inputChannel(requests())
+                .outputChannel(replies())
+                .build();
+    }
+
+    public static void main(String[] args) {
+        SpringApplication.run(RemoteChunkingCompositeItemProcessorJob.class, "customerFile=/input/customer-unique.csv");
+    }
+
+}
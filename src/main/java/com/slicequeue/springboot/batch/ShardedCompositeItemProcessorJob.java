@@ -0,0 +1,206 @@
+package com.slicequeue.springboot.batch;
+
+import com.slicequeue.springboot.batch.batch.adapter.LambdaItemProcessorAdapter;
+import com.slicequeue.springboot.batch.batch.checkpoint.JdbcCheckpointLog;
+import com.slicequeue.springboot.batch.batch.partition.HashShardItemReader;
+import com.slicequeue.springboot.batch.batch.partition.HashShardPartitioner;
+import com.slicequeue.springboot.batch.batch.reader.MappedCustomerItemReader;
+import com.slicequeue.springboot.batch.batch.script.CompiledScriptItemProcessor;
+import com.slicequeue.springboot.batch.batch.writer.CustomerJdbcItemWriter;
+import com.slicequeue.springboot.batch.domain.Customer;
+import com.slicequeue.springboot.batch.domain.UniqueLastNameValidator;
+import com.slicequeue.springboot.batch.service.UpperCaseNameService;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersValidator;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.DefaultJobParametersValidator;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
+import org.springframework.batch.item.support.CompositeItemProcessor;
+import org.springframework.batch.item.validator.ValidatingItemProcessor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+
+/**
+ * CompositeItemProcessorJob 의 해시 샤드 파티셔닝 버전
+ * - PartitionedCompositeItemProcessorJob 은 파일을 바이트 구간으로 나누므로 같은 성(lastName)이 여러 파티션에 흩어져 고유성이 파티션 안에서만 보장됨
+ * - 이 잡은 lastName 해시로 키 공간을 gridSize 개 샤드로 나누고(HashShardPartitioner), 워커는 파일 전체를 읽되 자기 샤드의 고객만 처리함(HashShardItemReader)
+ * - 같은 lastName 은 항상 같은 파티션에서 검증되므로 파티션마다 독립된 uniqueLastNameValidator 로도 전체 기준 고유성이 보장되며 파티션 간 락이 없음
+ * - 리더 위치와 검증기 상태는 파티션 StepExecution 의 ExecutionContext 에 저장되므로 실패한 파티션만 재시작됨
+ * - 파티션 하나를 여러 스레드가 처리하는 경우에는 검증기에 StripedUniquenessStore 를 설정하면 됨
+ */
+//@EnableBatchProcessing
+//@SpringBootApplication
+public class ShardedCompositeItemProcessorJob {
+
+    @Autowired
+    public JobBuilderFactory jobBuilderFactory;
+
+    @Autowired
+    public StepBuilderFactory stepBuilderFactory;
+
+    @Bean
+    public JobParametersValidator jobParametersValidator() {
+        return new DefaultJobParametersValidator(new String[]{"customerFile", "script"}, new String[]{"run.id", "gridSize"});
+    }
+
+    @Bean
+    public HashShardPartitioner partitioner() {
+        return new HashShardPartitioner();
+    }
+
+    @Bean
+    @StepScope // 파티션마다 파일 전체를 읽는 리더 (메모리 맵이므로 파티션들이 같은 페이지 캐시를 공유함)
+    public MappedCustomerItemReader customerItemReader(
+            @Value("#{jobParameters['customerFile']}") Resource inputFile) {
+        MappedCustomerItemReader itemReader = new MappedCustomerItemReader();
+
+        itemReader.setName("customerItemReader");
+        itemReader.setResource(inputFile);
+
+        return itemReader;
+    }
+
+    @Bean
+    @StepScope // 자기 샤드의 고객만 반환 (위임 리더는 따로 stream 으로 등록하지 않음)
+    public HashShardItemReader<Customer> shardItemReader(
+            @Value("#{stepExecutionContext['shardIndex']}") Integer shardIndex,
+            @Value("#{stepExecutionContext['shardCount']}") Integer shardCount) {
+        HashShardItemReader<Customer> itemReader = new HashShardItemReader<>();
+
+        itemReader.setDelegate(customerItemReader(null));
+        itemReader.setKeyExtractor(Customer::getLastName);
+        itemReader.setShardIndex(shardIndex);
+        itemReader.setShardCount(shardCount);
+
+        return itemReader;
+    }
+
+    @Bean
+    @StepScope // 파티션(샤드)마다 별도 상태
+    public UniqueLastNameValidator uniqueLastNameValidator() {
+        UniqueLastNameValidator uniqueLastNameValidator = new UniqueLastNameValidator();
+
+        uniqueLastNameValidator.setName("uniqueLastNameValidator");
+        uniqueLastNameValidator.setCheckpointLog(checkpointLog(null)); // 커밋마다 추가된 lastName 만 BATCH_CHECKPOINT_LOG 에 기록
+
+        return uniqueLastNameValidator;
+    }
+
+    @Bean // 배치 메타데이터와 같은 데이터소스 사용 -> 청크 트랜잭션과 함께 커밋
+    public JdbcCheckpointLog checkpointLog(DataSource dataSource) {
+        return new JdbcCheckpointLog(dataSource);
+    }
+
+    @Bean
+    public ValidatingItemProcessor<Customer> customerValidatingItemProcessor() {
+        ValidatingItemProcessor<Customer> itemProcessor = new ValidatingItemProcessor<>(uniqueLastNameValidator());
+
+        itemProcessor.setFilter(true);
+
+        return itemProcessor;
+    }
+
+    @Bean
+    public LambdaItemProcessorAdapter<Customer, Customer> upperCaseItemProcessor(UpperCaseNameService service) {
+        LambdaItemProcessorAdapter<Customer, Customer> adapter = new LambdaItemProcessorAdapter<>();
+
+        adapter.setTargetObject(service);
+        adapter.setTargetMethod("upperCase");
+
+        return adapter;
+    }
+
+    @Bean
+    @StepScope
+    public CompiledScriptItemProcessor<Customer, Customer> lowerCaseItemProcessor(@Value("#{jobParameters['script']}") Resource script) {
+        CompiledScriptItemProcessor<Customer, Customer> itemProcessor = new CompiledScriptItemProcessor<>();
+
+        itemProcessor.setScript(script);
+        itemProcessor.setItemType(Customer.class);
+
+        return itemProcessor;
+    }
+
+    @Bean
+    public CompositeItemProcessor<Customer, Customer> itemProcessor() {
+        CompositeItemProcessor<Customer, Customer> itemProcessor = new CompositeItemProcessor<>();
+
+        itemProcessor.setDelegates(
+                Arrays.asList(
+                        customerValidatingItemProcessor(),
+                        upperCaseItemProcessor(null),
+                        lowerCaseItemProcessor(null)
+                ));
+
+        return itemProcessor;
+    }
+
+    @Bean
+    public CustomerJdbcItemWriter itemWriter(DataSource dataSource) {
+        return new CustomerJdbcItemWriter(dataSource);
+    }
+
+    @Bean // 워커 스텝 - 샤드 하나를 처리
+    public Step copyFileStep() {
+
+        return this.stepBuilderFactory.get("step-item-processor-sharded-composite-worker")
+                .<Customer, Customer>chunk(100)
+                .reader(shardItemReader(null, null))
+                .processor(itemProcessor())
+                .writer(itemWriter(null))
+                .stream(uniqueLastNameValidator())
+                .listener((StepExecutionListener) uniqueLastNameValidator()) // 스텝이 COMPLETED 로 끝나면 체크포인트 로그 삭제
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public TaskExecutorPartitionHandler partitionHandler(
+            @Value("#{jobParameters['gridSize'] ?: T(java.lang.Runtime).getRuntime().availableProcessors()}") Integer gridSize) {
+        TaskExecutorPartitionHandler partitionHandler = new TaskExecutorPartitionHandler();
+
+        partitionHandler.setStep(copyFileStep());
+        partitionHandler.setTaskExecutor(new SimpleAsyncTaskExecutor("shard-"));
+        partitionHandler.setGridSize(gridSize);
+
+        return partitionHandler;
+    }
+
+    @Bean // 매니저 스텝 - 샤드 파티션 생성 후 워커 스텝 실행
+    public Step shardedCopyFileStep() {
+
+        return this.stepBuilderFactory.get("step-item-processor-sharded-composite")
+                .partitioner(copyFileStep().getName(), partitioner())
+                .partitionHandler(partitionHandler(null))
+                .build();
+    }
+
+    @Bean
+    public Job job() throws Exception {
+
+        return this.jobBuilderFactory.get("job-item-processor-sharded-composite")
+                .validator(jobParametersValidator())
+                .incrementer(new RunIdIncrementer())
+                .start(shardedCopyFileStep())
+                .build();
+    }
+
+    public static void main(String[] args) {
+        SpringApplication.run(ShardedCompositeItemProcessorJob.class, "customerFile=/input/customer-unique.csv", "script=/lowerCase.js");
+    }
+
+}
@@ -1,25 +1,35 @@
 package com.slicequeue.springboot.batch.batch;
 
+import com.slicequeue.springboot.batch.batch.classify.RouteKey;
+import com.slicequeue.springboot.batch.batch.classify.RoutingClassifier;
 import com.slicequeue.springboot.batch.domain.Customer;
 import org.springframework.batch.item.ItemProcessor;
-import org.springframework.classify.Classifier;
 
-public class ZipCodeClassifier implements Classifier<Customer, ItemProcessor<Customer, Customer>> {
+import java.util.Arrays;
 
-    private final ItemProcessor<Customer, Customer> oddItemProcessor;
-    private final ItemProcessor<Customer, Customer> evenItemProcessor;
+/**
+ * 우편번호 홀/짝에 따라 프로세서를 선택하는 분류기
+ * - Integer.parseInt 없이 우편번호의 마지막 숫자 문자로 홀/짝을 판단함
+ * - 우편번호가 없거나 숫자로만 이루어지지 않으면 기존(Integer.parseInt)과 같이 classify 에서 IllegalArgumentException 으로 거부함
+ *   fallbackItemProcessor 를 지정하면 거부하는 대신 해당 프로세서로 보냄 (예: item -> null 로 필터링)
+ */
+public class ZipCodeClassifier extends RoutingClassifier<Customer, ItemProcessor<Customer, Customer>> {
+
+    private static final int EVEN = 0;
+    private static final int ODD = 1;
+
+    private static final int[] ROUTE_BY_LAST_DIGIT = {EVEN, ODD, EVEN, ODD, EVEN, ODD, EVEN, ODD, EVEN, ODD};
 
     public ZipCodeClassifier(ItemProcessor<Customer, Customer> oddItemProcessor, ItemProcessor<Customer, Customer> evenItemProcessor) {
-        this.oddItemProcessor = oddItemProcessor;
-        this.evenItemProcessor = evenItemProcessor;
+        super(RouteKey.lastDigit(Customer::getZip, ROUTE_BY_LAST_DIGIT),
+                Arrays.asList(evenItemProcessor, oddItemProcessor));
     }
 
-    @Override
-    public ItemProcessor<Customer, Customer> classify(Customer classifiable) {
-        if (Integer.parseInt(classifiable.getZip()) % 2 == 0) {
-            return evenItemProcessor;
-        } else {
-            return oddItemProcessor;
-        }
+    public ZipCodeClassifier(ItemProcessor<Customer, Customer> oddItemProcessor,
+                             ItemProcessor<Customer, Customer> evenItemProcessor,
+                             ItemProcessor<Customer, Customer> fallbackItemProcessor) {
+        super(RouteKey.lastDigit(Customer::getZip, ROUTE_BY_LAST_DIGIT),
+                Arrays.asList(evenItemProcessor, oddItemProcessor),
+                fallbackItemProcessor);
     }
 }
@@ -0,0 +1,132 @@
+package com.slicequeue.springboot.batch.batch.adapter;
+
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ItemProcessorAdapter 와 같은 설정(targetObject / targetMethod)을 가지는 리플렉션 없는 어댑터
+ * - ItemProcessorAdapter 는 아이템마다 MethodInvoker 로 인자 매칭 후 Method.invoke 를 수행함
+ * - 이 구현체는 시작 시점에 대상 메서드를 한 번만 찾고 LambdaMetafactory 로 Invoker 를 생성하여 직접 호출함 (JIT 인라이닝 가능)
+ * - 대상 클래스/메서드가 public 이 아니어서 람다를 만들 수 없는 경우 MethodHandle 호출로 대체함
+ * - 두 경우 모두 대상 메서드가 던진 예외(checked 포함)를 감싸지 않고 그대로 던짐
+ *
+ * @param <I> 입력 아이템 타입
+ * @param <O> 출력 아이템 타입
+ */
+public class LambdaItemProcessorAdapter<I, O> implements ItemProcessor<I, O>, InitializingBean {
+
+    private Object targetObject;
+
+    private String targetMethod;
+
+    private Invoker<I, O> invoker;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        Assert.notNull(targetObject, "targetObject 는 필수입니다.");
+        Assert.hasText(targetMethod, "targetMethod 는 필수입니다.");
+
+        Class<?> targetClass = ClassUtils.getUserClass(targetObject); // CGLIB 프록시인 경우 원본 클래스 기준으로 메서드 조회
+        Method method = findMethod(targetClass, targetMethod);
+
+        this.invoker = bind(targetClass, method, targetObject);
+    }
+
+    @Override
+    public O process(I item) throws Exception {
+        return invoker.invoke(item);
+    }
+
+    private static Method findMethod(Class<?> targetClass, String methodName) {
+        List<Method> candidates = new ArrayList<>();
+
+        ReflectionUtils.doWithMethods(targetClass, candidates::add,
+                method -> method.getName().equals(methodName)
+                        && method.getParameterCount() == 1
+                        && !Modifier.isStatic(method.getModifiers())
+                        && !method.isBridge());
+
+        Assert.state(!candidates.isEmpty(),
+                "인자가 하나인 메서드를 찾을 수 없습니다: " + targetClass.getName() + "." + methodName);
+        Assert.state(candidates.size() == 1,
+                "인자가 하나인 메서드가 여러 개 존재합니다: " + targetClass.getName() + "." + methodName);
+
+        Method method = candidates.get(0);
+        Assert.state(method.getReturnType() != void.class, "반환 타입이 void 인 메서드는 사용할 수 없습니다: " + method);
+
+        return method;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <I, O> Invoker<I, O> bind(Class<?> targetClass, Method method, Object targetObject) throws IllegalAccessException {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        if (Modifier.isPublic(targetClass.getModifiers()) && Modifier.isPublic(method.getModifiers())) {
+            try {
+                MethodHandle handle = lookup.unreflect(method);
+                MethodType instantiatedType = MethodType.methodType(method.getReturnType(), method.getParameterTypes()).wrap();
+
+                CallSite site = LambdaMetafactory.metafactory(
+                        lookup,
+                        "invoke",
+                        MethodType.methodType(Invoker.class, targetClass),
+                        MethodType.methodType(Object.class, Object.class),
+                        handle,
+                        instantiatedType);
+
+                return (Invoker<I, O>) site.getTarget().invoke(targetObject);
+            } catch (IllegalAccessException | LambdaConversionException e) {
+                // public 클래스라도 감싸는 클래스가 public 이 아니면 접근할 수 없으므로 MethodHandle 호출로 대체
+            } catch (Throwable e) {
+                throw new IllegalStateException("대상 메서드를 호출하는 람다를 만들 수 없습니다: " + method, e);
+            }
+        }
+
+        ReflectionUtils.makeAccessible(method);
+        MethodHandle handle = lookup.unreflect(method)
+                .bindTo(targetObject)
+                .asType(MethodType.methodType(Object.class, Object.class));
+
+        // Method.invoke 와 달리 MethodHandle 은 InvocationTargetException 으로 감싸지 않으므로 대상 메서드의 예외를 그대로 던질 수 있음
+        return item -> {
+            try {
+                return (O) handle.invokeExact((Object) item);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    public void setTargetObject(Object targetObject) {
+        this.targetObject = targetObject;
+    }
+
+    public void setTargetMethod(String targetMethod) {
+        this.targetMethod = targetMethod;
+    }
+
+    /**
+     * 대상 메서드 호출 (java.util.function.Function 과 달리 checked 예외를 선언함)
+     */
+    @FunctionalInterface
+    interface Invoker<I, O> {
+
+        O invoke(I item) throws Exception;
+    }
+}
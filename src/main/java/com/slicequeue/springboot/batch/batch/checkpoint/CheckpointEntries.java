@@ -0,0 +1,73 @@
+package com.slicequeue.springboot.batch.batch.checkpoint;
+
+import java.util.function.Consumer;
+
+/**
+ * entry 목록을 개행 구분 문자열로 인코딩/디코딩 (entry 안의 '\' 와 개행 문자는 이스케이프)
+ */
+final class CheckpointEntries {
+
+    private CheckpointEntries() {
+    }
+
+    static String escape(String entry) {
+        if (entry.indexOf('\\') < 0 && entry.indexOf('\n') < 0 && entry.indexOf('\r') < 0) {
+            return entry;
+        }
+
+        StringBuilder builder = new StringBuilder(entry.length() + 8);
+        for (int i = 0; i < entry.length(); i++) {
+            char c = entry.charAt(i);
+            switch (c) {
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                default:
+                    builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    static String unescape(String escaped) {
+        if (escaped.indexOf('\\') < 0) {
+            return escaped;
+        }
+
+        StringBuilder builder = new StringBuilder(escaped.length());
+        for (int i = 0; i < escaped.length(); i++) {
+            char c = escaped.charAt(i);
+            if (c == '\\' && i + 1 < escaped.length()) {
+                char next = escaped.charAt(++i);
+                builder.append(next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    static String join(Iterable<String> entries) {
+        StringBuilder builder = new StringBuilder();
+
+        for (String entry : entries) {
+            builder.append(escape(entry)).append('\n');
+        }
+        return builder.toString();
+    }
+
+    static void split(String joined, Consumer<String> consumer) {
+        int start = 0;
+
+        for (int end = joined.indexOf('\n'); end >= 0; end = joined.indexOf('\n', start)) {
+            consumer.accept(unescape(joined.substring(start, end)));
+            start = end + 1;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.slicequeue.springboot.batch.batch.checkpoint;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 상태를 가지는 ItemStream 의 추가분(entry)을 커밋 단위로 기록하는 추가 전용(append-only) 로그
+ * - 커밋마다 sequence 를 1씩 증가시키며 해당 커밋에서 추가된 entry 들만 하나의 레코드로 기록함
+ * - ExecutionContext 에는 로그 키와 마지막으로 커밋된 sequence 만 저장하므로 커밋 비용이 진행률과 무관하게 일정함
+ * - 커밋(update) 중에는 기존 기록을 합치거나 다시 쓰지 않음: 커밋 전에 기존 기록을 바꾸면 커밋 실패 후 재시작시 truncate 로 함께 지워질 수 있음
+ * - 합치기(compact)는 재시작 open 에서 커밋된 sequence 로 truncate 한 뒤, 새 기록을 추가하기 전에만 수행함
+ *   대상 기록이 모두 커밋된 상태이고 합친 레코드도 커밋된 sequence 이하 번호를 가지므로 이후 truncate 로 지워지지 않음
+ * - 스텝이 COMPLETED 로 끝나면 재시작할 일이 없으므로 delete 로 로그를 삭제함
+ * - 구현체: JdbcCheckpointLog(기존 MySQL 데이터소스), FileCheckpointLog(로컬 파일)
+ */
+public interface CheckpointLog {
+
+    /**
+     * sequence 번째 커밋의 entry 들을 기록
+     */
+    void append(String logKey, long sequence, List<String> entries);
+
+    /**
+     * upToSequence 이하로 기록된 entry 들을 기록 순서대로 전달
+     */
+    void replay(String logKey, long upToSequence, Consumer<String> consumer);
+
+    /**
+     * afterSequence 보다 큰 레코드 삭제 (커밋되지 않은 채 남은 기록 정리)
+     */
+    void truncate(String logKey, long afterSequence);
+
+    /**
+     * upToSequence 이하 레코드들을 더 적은 레코드로 합침 (재생 결과와 순서는 그대로 유지하며, 합친 레코드 번호도 upToSequence 이하)
+     * - truncate(logKey, upToSequence) 직후, 새 레코드를 append 하기 전에만 호출해야 함
+     */
+    void compact(String logKey, long upToSequence);
+
+    /**
+     * 로그 전체 삭제 (스텝 완료 후 호출)
+     */
+    void delete(String logKey);
+
+}
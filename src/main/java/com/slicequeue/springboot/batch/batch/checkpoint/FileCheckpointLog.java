@@ -0,0 +1,138 @@
+package com.slicequeue.springboot.batch.batch.checkpoint;
+
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.util.Assert;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 로컬 디렉토리에 로그 키별 파일로 기록하는 CheckpointLog
+ * - 라인 형식: "sequence\tentry" (entry 는 이스케이프됨), append 후 force 로 디스크에 반영
+ * - 청크 트랜잭션에 참여하지 않으므로 커밋되지 않은 기록이 남을 수 있음 → 재시작시 truncate 로 마지막 커밋 이후 기록을 정리함
+ * - truncate 는 임시 파일에 다시 쓴 뒤 원자적으로 교체함
+ * - 커밋된 sequence 가 있는데 파일이 없으면(다른 호스트에서 재시작, 임시 디렉토리 정리 등) 상태를 잃은 것이므로 재생시 예외를 던짐
+ */
+public class FileCheckpointLog implements CheckpointLog {
+
+    private final Path directory;
+
+    public FileCheckpointLog(Path directory) {
+        Assert.notNull(directory, "directory 는 필수입니다.");
+        this.directory = directory;
+    }
+
+    @Override
+    public void append(String logKey, long sequence, List<String> entries) {
+        try {
+            Files.createDirectories(directory);
+
+            try (FileChannel channel = FileChannel.open(file(logKey),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                Writer writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+                for (String entry : entries) {
+                    writer.write(Long.toString(sequence));
+                    writer.write('\t');
+                    writer.write(CheckpointEntries.escape(entry));
+                    writer.write('\n');
+                }
+                writer.flush();
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new ItemStreamException("체크포인트 로그를 기록할 수 없습니다: " + logKey, e);
+        }
+    }
+
+    @Override
+    public void replay(String logKey, long upToSequence, Consumer<String> consumer) {
+        Path file = file(logKey);
+        if (!Files.exists(file)) {
+            if (upToSequence > 0) {
+                throw new ItemStreamException("커밋된 체크포인트 로그를 찾을 수 없습니다: " + file);
+            }
+            return;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int tab = line.indexOf('\t');
+                if (tab > 0 && Long.parseLong(line.substring(0, tab)) <= upToSequence) {
+                    consumer.accept(CheckpointEntries.unescape(line.substring(tab + 1)));
+                }
+            }
+        } catch (IOException e) {
+            throw new ItemStreamException("체크포인트 로그를 읽을 수 없습니다: " + logKey, e);
+        }
+    }
+
+    /**
+     * afterSequence 이하 라인만 남기고 나머지(기록 도중 중단된 불완전한 라인 포함)를 삭제
+     * - 재시작시 open 에서만 호출되므로 파일 전체를 다시 쓰는 비용은 실행당 한 번
+     */
+    @Override
+    public void truncate(String logKey, long afterSequence) {
+        Path file = file(logKey);
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+             BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int tab = line.indexOf('\t');
+                if (tab <= 0) {
+                    continue; // 기록 도중 중단된 불완전한 라인
+                }
+
+                if (Long.parseLong(line.substring(0, tab)) <= afterSequence) {
+                    writer.write(line);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            throw new ItemStreamException("체크포인트 로그를 정리할 수 없습니다: " + logKey, e);
+        }
+
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new ItemStreamException("체크포인트 로그를 교체할 수 없습니다: " + logKey, e);
+        }
+    }
+
+    /**
+     * 파일은 라인 하나가 entry 하나이고 sequence 는 라인 앞의 번호일 뿐이므로, 커밋 수와 무관하게 합칠 레코드가 없음
+     * - 재시작 open 에서 바로 앞에 호출되는 truncate 가 이미 파일을 다시 쓰며 불완전한 라인을 정리함
+     */
+    @Override
+    public void compact(String logKey, long upToSequence) {
+    }
+
+    @Override
+    public void delete(String logKey) {
+        try {
+            Files.deleteIfExists(file(logKey));
+        } catch (IOException e) {
+            throw new ItemStreamException("체크포인트 로그를 삭제할 수 없습니다: " + logKey, e);
+        }
+    }
+
+    private Path file(String logKey) {
+        return directory.resolve(logKey.replaceAll("[^A-Za-z0-9._-]", "_") + ".log");
+    }
+}
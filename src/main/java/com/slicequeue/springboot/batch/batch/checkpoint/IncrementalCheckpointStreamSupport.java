@@ -0,0 +1,151 @@
+package com.slicequeue.springboot.batch.batch.checkpoint;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamSupport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 상태를 가지는 프로세서/검증기를 위한 증분 체크포인트 ItemStream 지원 클래스
+ * - 하위 클래스는 상태가 추가될 때 record(entry) 를 호출하고, 재시작시 restoreEntry(entry) 로 상태를 다시 쌓음
+ * - update(커밋)마다 마지막 커밋 이후 record 된 entry 만 CheckpointLog 에 추가하고, ExecutionContext 에는 로그 키와 sequence 만 저장함
+ * - 재시작시 open 에서는 커밋되지 않은 기록을 정리하고 커밋된 기록을 합친 뒤(compact), 실제 상태 복원은 처음 ensureRestored() 가 호출될 때 수행함 (lazy)
+ * - 스텝 리스너로도 등록하면 스텝이 COMPLETED 로 끝날 때 로그를 삭제함 (등록하지 않으면 로그가 남음)
+ * - 로그 키는 처음 실행된 StepExecution 기준으로 만들어 ExecutionContext 에 저장하므로 재시작한 StepExecution 도 같은 로그를 사용함
+ * - checkpointLog 가 설정되지 않으면 아무 것도 기록하지 않으며, 하위 클래스가 자체 방식으로 상태를 저장해야 함
+ * - 스텝에 stream 으로 등록되어 open 된 경우에만 record 된 entry 를 쌓음
+ * - record/ensureRestored 는 여러 스레드에서 호출해도 됨 (멀티 스레드 스텝에서 하나의 인스턴스를 공유하는 경우)
+ */
+public abstract class IncrementalCheckpointStreamSupport extends ItemStreamSupport implements StepExecutionListener {
+
+    private static final String LOG_KEY = "checkpoint.logKey";
+
+    private static final String SEQUENCE_KEY = "checkpoint.sequence";
+
+    private CheckpointLog checkpointLog;
+
+    private String logKey;
+
+    private long sequence;
+
+    private volatile boolean restorePending;
+
+    private final List<String> pendingEntries = new ArrayList<>();
+
+    /**
+     * 재시작시 로그의 entry 하나를 상태에 반영
+     */
+    protected abstract void restoreEntry(String entry);
+
+    /**
+     * 다음 커밋에서 로그에 추가할 entry 기록
+     */
+    protected final void record(String entry) {
+        if (checkpointLog != null && logKey != null) { // 스트림으로 등록되지 않아 open 되지 않았으면 커밋될 일이 없으므로 쌓지 않음
+            synchronized (pendingEntries) {
+                pendingEntries.add(entry);
+            }
+        }
+    }
+
+    /**
+     * 상태를 읽기 전에 호출. 재시작 후 처음 호출될 때만 로그를 재생하여 상태를 복원함
+     */
+    protected final void ensureRestored() {
+        if (restorePending) {
+            synchronized (pendingEntries) {
+                if (restorePending) { // 다른 스레드는 재생이 끝날 때까지 기다림
+                    checkpointLog.replay(logKey, sequence, this::restoreEntry);
+                    restorePending = false;
+                }
+            }
+        }
+    }
+
+    protected final boolean isCheckpointLogEnabled() {
+        return checkpointLog != null;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        if (checkpointLog == null) {
+            return;
+        }
+
+        pendingEntries.clear();
+
+        if (executionContext.containsKey(getExecutionContextKey(LOG_KEY))) {
+            logKey = executionContext.getString(getExecutionContextKey(LOG_KEY));
+            sequence = executionContext.getLong(getExecutionContextKey(SEQUENCE_KEY));
+
+            checkpointLog.truncate(logKey, sequence); // 마지막 커밋 이후 남은 기록 정리
+            checkpointLog.compact(logKey, sequence); // 남은 기록은 모두 커밋된 것이므로 새 기록을 추가하기 전에 합쳐 재생 비용을 줄임
+            restorePending = sequence > 0;
+        } else {
+            logKey = newLogKey();
+            sequence = 0;
+            restorePending = false;
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        if (checkpointLog == null) {
+            return;
+        }
+
+        List<String> entries;
+        synchronized (pendingEntries) {
+            entries = new ArrayList<>(pendingEntries);
+            pendingEntries.clear();
+        }
+
+        if (!entries.isEmpty()) {
+            checkpointLog.append(logKey, ++sequence, entries);
+        }
+
+        executionContext.putString(getExecutionContextKey(LOG_KEY), logKey);
+        executionContext.putLong(getExecutionContextKey(SEQUENCE_KEY), sequence);
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+    }
+
+    /**
+     * COMPLETED 로 끝난 스텝은 재시작되지 않으므로 로그 삭제
+     */
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        if (checkpointLog != null && logKey != null && stepExecution.getStatus() == BatchStatus.COMPLETED) {
+            checkpointLog.delete(logKey);
+        }
+        return null;
+    }
+
+    private String newLogKey() {
+        StepContext context = StepSynchronizationManager.getContext();
+
+        if (context == null) {
+            return getExecutionContextKey(UUID.randomUUID().toString());
+        }
+
+        StepExecution stepExecution = context.getStepExecution();
+        return stepExecution.getJobExecution().getJobInstance().getJobName()
+                + "." + stepExecution.getStepName()
+                + "." + stepExecution.getId()
+                + "." + getExecutionContextKey("checkpoint");
+    }
+
+    public void setCheckpointLog(CheckpointLog checkpointLog) {
+        this.checkpointLog = checkpointLog;
+    }
+}
@@ -0,0 +1,153 @@
+package com.slicequeue.springboot.batch.batch.checkpoint;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 스프링 배치 메타데이터와 같은 데이터소스(MySQL)의 BATCH_CHECKPOINT_LOG 테이블에 기록하는 CheckpointLog
+ * - ItemStream.update 는 청크 트랜잭션 안에서 호출되므로, 같은 데이터소스를 쓰면 로그 기록과 ExecutionContext 저장이 함께 커밋/롤백됨
+ * - 커밋 하나가 레코드 하나(STREAM_KEY, SEQUENCE_NO, ENTRIES)이며, 커밋 비용이 해당 커밋의 추가분에만 비례하도록 커밋 중에는 기존 레코드를 합치지 않음
+ * - 재시작시 open 에서 커밋된 레코드들을 compactEntries(기본 10000) entry 단위 레코드로 합치므로, 재생 비용이 커밋 수가 아닌 entry 수에 비례함
+ * - 재생은 (STREAM_KEY, SEQUENCE_NO) 기본 키 순서로 한 번 읽음
+ */
+public class JdbcCheckpointLog implements CheckpointLog, InitializingBean {
+
+    private static final String DEFAULT_TABLE_NAME = "BATCH_CHECKPOINT_LOG";
+
+    private static final int DEFAULT_COMPACT_ENTRIES = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private int compactEntries = DEFAULT_COMPACT_ENTRIES;
+
+    private String tableName = DEFAULT_TABLE_NAME;
+
+    private boolean initializeSchema = true;
+
+    public JdbcCheckpointLog(DataSource dataSource) {
+        Assert.notNull(dataSource, "dataSource 는 필수입니다.");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (initializeSchema) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + tableName + " ("
+                    + "STREAM_KEY VARCHAR(250) NOT NULL, "
+                    + "SEQUENCE_NO BIGINT NOT NULL, "
+                    + "ENTRIES LONGTEXT NOT NULL, "
+                    + "PRIMARY KEY (STREAM_KEY, SEQUENCE_NO))");
+        }
+    }
+
+    @Override
+    public void append(String logKey, long sequence, List<String> entries) {
+        jdbcTemplate.update("INSERT INTO " + tableName + " (STREAM_KEY, SEQUENCE_NO, ENTRIES) VALUES (?, ?, ?)",
+                logKey, sequence, CheckpointEntries.join(entries));
+    }
+
+    @Override
+    public void replay(String logKey, long upToSequence, Consumer<String> consumer) {
+        jdbcTemplate.query("SELECT ENTRIES FROM " + tableName + " WHERE STREAM_KEY = ? AND SEQUENCE_NO <= ? ORDER BY SEQUENCE_NO",
+                resultSet -> {
+                    CheckpointEntries.split(resultSet.getString(1), consumer);
+                },
+                logKey, upToSequence);
+    }
+
+    @Override
+    public void truncate(String logKey, long afterSequence) {
+        jdbcTemplate.update("DELETE FROM " + tableName + " WHERE STREAM_KEY = ? AND SEQUENCE_NO > ?", logKey, afterSequence);
+    }
+
+    /**
+     * 연속된 레코드들을 entry 가 compactEntries 개 이상이 될 때까지 모아 마지막 레코드 번호의 레코드 하나로 바꿈
+     * - 합친 레코드는 원래 레코드 중 하나의 번호를 쓰므로 기본 키가 겹치지 않고, 순서도 그대로 유지됨
+     * - 삭제와 추가를 한 트랜잭션에서 수행하므로 도중에 실패해도 로그는 합치기 전 또는 후 상태임
+     */
+    @Override
+    public void compact(String logKey, long upToSequence) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Record> records = jdbcTemplate.query(
+                    "SELECT SEQUENCE_NO, ENTRIES FROM " + tableName + " WHERE STREAM_KEY = ? AND SEQUENCE_NO <= ? ORDER BY SEQUENCE_NO",
+                    (resultSet, rowNum) -> new Record(resultSet.getLong(1), resultSet.getString(2)),
+                    logKey, upToSequence);
+
+            StringBuilder merged = new StringBuilder();
+            int from = 0;
+            int entryCount = 0;
+
+            for (int i = 0; i < records.size(); i++) {
+                String entries = records.get(i).entries;
+                merged.append(entries);
+                entryCount += count(entries);
+
+                if (entryCount >= compactEntries || i == records.size() - 1) {
+                    replace(logKey, records.get(from).sequence, records.get(i).sequence, i - from + 1, merged.toString());
+                    merged.setLength(0);
+                    from = i + 1;
+                    entryCount = 0;
+                }
+            }
+        });
+    }
+
+    @Override
+    public void delete(String logKey) {
+        jdbcTemplate.update("DELETE FROM " + tableName + " WHERE STREAM_KEY = ?", logKey);
+    }
+
+    private void replace(String logKey, long fromSequence, long toSequence, int recordCount, String entries) {
+        if (recordCount < 2) {
+            return; // 합칠 레코드 없음
+        }
+
+        jdbcTemplate.update("DELETE FROM " + tableName + " WHERE STREAM_KEY = ? AND SEQUENCE_NO BETWEEN ? AND ?",
+                logKey, fromSequence, toSequence);
+        jdbcTemplate.update("INSERT INTO " + tableName + " (STREAM_KEY, SEQUENCE_NO, ENTRIES) VALUES (?, ?, ?)",
+                logKey, toSequence, entries);
+    }
+
+    private static int count(String entries) {
+        int count = 0;
+        for (int i = entries.indexOf('\n'); i >= 0; i = entries.indexOf('\n', i + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    public void setTableName(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public void setInitializeSchema(boolean initializeSchema) {
+        this.initializeSchema = initializeSchema;
+    }
+
+    public void setCompactEntries(int compactEntries) {
+        Assert.isTrue(compactEntries > 0, "compactEntries 는 0보다 커야 합니다.");
+        this.compactEntries = compactEntries;
+    }
+
+    private static final class Record {
+
+        private final long sequence;
+
+        private final String entries;
+
+        private Record(long sequence, String entries) {
+            this.sequence = sequence;
+            this.entries = entries;
+        }
+    }
+}
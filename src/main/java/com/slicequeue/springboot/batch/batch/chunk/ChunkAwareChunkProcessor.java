@@ -0,0 +1,107 @@
+package com.slicequeue.springboot.batch.batch.chunk;
+
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.step.item.Chunk;
+import org.springframework.batch.core.step.item.ChunkOrientedTasklet;
+import org.springframework.batch.core.step.item.SimpleChunkProcessor;
+import org.springframework.batch.core.step.item.SimpleChunkProvider;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.repeat.CompletionPolicy;
+import org.springframework.batch.repeat.policy.SimpleCompletionPolicy;
+import org.springframework.batch.repeat.support.RepeatTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 프로세서가 ChunkItemProcessor 를 구현한 경우 청크 전체를 한 번에 넘겨주는 SimpleChunkProcessor
+ * - SimpleChunkProcessor 는 transform 에서 아이템을 하나씩 doProcess 로 처리함
+ * - ChunkItemProcessor 가 아닌 프로세서는 기존과 동일하게 아이템 단위로 처리함
+ * - StepBuilder 의 chunk() 로는 ChunkProcessor 를 바꿀 수 없으므로 newTasklet 으로 ChunkOrientedTasklet 을 직접 구성하여 tasklet() 에 등록함
+ *
+ * @param <I> 입력 아이템 타입
+ * @param <O> 출력 아이템 타입
+ */
+public class ChunkAwareChunkProcessor<I, O> extends SimpleChunkProcessor<I, O> {
+
+    private final ChunkItemProcessor<I, O> chunkItemProcessor;
+
+    @SuppressWarnings("unchecked")
+    public ChunkAwareChunkProcessor(ItemProcessor<? super I, ? extends O> itemProcessor, ItemWriter<? super O> itemWriter) {
+        super(itemProcessor, itemWriter);
+        this.chunkItemProcessor = itemProcessor instanceof ChunkItemProcessor
+                ? (ChunkItemProcessor<I, O>) itemProcessor
+                : null;
+    }
+
+    /**
+     * 청크 인식 처리를 하는 ChunkOrientedTasklet 생성
+     * - 리더가 ItemStream 인 경우 스텝 빌더의 stream() 으로 별도 등록해야 함
+     */
+    public static <I, O> ChunkOrientedTasklet<I> newTasklet(ItemReader<? extends I> itemReader,
+                                                            ItemProcessor<? super I, ? extends O> itemProcessor,
+                                                            ItemWriter<? super O> itemWriter,
+                                                            int chunkSize) {
+        return newTasklet(itemReader, itemProcessor, itemWriter, new SimpleCompletionPolicy(chunkSize));
+    }
+
+    public static <I, O> ChunkOrientedTasklet<I> newTasklet(ItemReader<? extends I> itemReader,
+                                                            ItemProcessor<? super I, ? extends O> itemProcessor,
+                                                            ItemWriter<? super O> itemWriter,
+                                                            CompletionPolicy completionPolicy) {
+        RepeatTemplate repeatTemplate = new RepeatTemplate();
+        repeatTemplate.setCompletionPolicy(completionPolicy);
+
+        SimpleChunkProvider<I> chunkProvider = new SimpleChunkProvider<>(itemReader, repeatTemplate);
+        ChunkAwareChunkProcessor<I, O> chunkProcessor = new ChunkAwareChunkProcessor<>(itemProcessor, itemWriter);
+
+        return new ChunkOrientedTasklet<>(chunkProvider, chunkProcessor);
+    }
+
+    @Override
+    protected Chunk<O> transform(StepContribution contribution, Chunk<I> inputs) throws Exception {
+        if (chunkItemProcessor == null) {
+            return super.transform(contribution, inputs);
+        }
+
+        List<I> items = new ArrayList<>(inputs.getItems());
+        for (I item : items) {
+            getListener().beforeProcess(item);
+        }
+
+        List<O> results;
+        try {
+            results = chunkItemProcessor.processChunk(items);
+        } catch (Exception e) {
+            for (I item : items) {
+                getListener().onProcessError(item, e);
+            }
+            inputs.clear();
+            throw e;
+        }
+
+        if (results.size() != items.size()) {
+            inputs.clear();
+            throw new IllegalStateException("ChunkItemProcessor 결과 크기가 입력과 다릅니다. input=" + items.size() + ", output=" + results.size());
+        }
+
+        Chunk<O> outputs = new Chunk<>();
+        int index = 0;
+        for (Chunk<I>.ChunkIterator iterator = inputs.iterator(); iterator.hasNext(); index++) {
+            I item = iterator.next();
+            O output = results.get(index);
+
+            getListener().afterProcess(item, output);
+
+            if (output != null) {
+                outputs.add(output);
+            } else {
+                iterator.remove(); // SimpleChunkProcessor 와 동일하게 필터링된 아이템은 입력 청크에서 제거
+            }
+        }
+
+        return outputs;
+    }
+}
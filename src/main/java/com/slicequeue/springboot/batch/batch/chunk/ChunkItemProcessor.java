@@ -0,0 +1,17 @@
+package com.slicequeue.springboot.batch.batch.chunk;
+
+import java.util.List;
+
+/**
+ * 청크 단위로 아이템을 처리할 수 있는 프로세서
+ * - ChunkAwareChunkProcessor 가 아이템 하나씩이 아닌 청크 전체를 한 번에 넘겨줌
+ * - 반환 리스트는 입력과 같은 크기, 같은 순서여야 하며 null 원소는 필터링된 아이템을 의미함 (ItemProcessor 의 null 반환과 동일)
+ *
+ * @param <I> 입력 아이템 타입
+ * @param <O> 출력 아이템 타입
+ */
+public interface ChunkItemProcessor<I, O> {
+
+    List<O> processChunk(List<? extends I> items) throws Exception;
+
+}
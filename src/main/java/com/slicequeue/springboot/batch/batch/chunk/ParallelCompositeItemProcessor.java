@@ -0,0 +1,210 @@
+package com.slicequeue.springboot.batch.batch.chunk;
+
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 청크의 아이템들을 워커 풀에서 병렬로 처리하는 CompositeItemProcessor
+ * - sequentialDelegates: UniqueLastNameValidator 처럼 상태를 가지는 위임 프로세서. 스텝 스레드에서 입력 순서대로 먼저 실행됨
+ * - delegates: 상태가 없는 위임 체인. 청크를 워커 수만큼 연속 구간으로 나누어 구간별로 병렬 실행됨
+ * - 결과는 입력 순서를 유지하며, 체인 중간에 null 이 반환된 아이템은 필터링됨 (CompositeItemProcessor 와 동일)
+ * - 워커 스레드에도 현재 StepExecution 을 등록하므로 @StepScope 위임 프로세서를 그대로 사용할 수 있음
+ * - 한 구간에서 예외가 발생하면 나머지 구간을 취소(인터럽트)하고, 아직 처리하지 않은 아이템은 건너뛴 뒤 원래 예외를 그대로 던짐
+ * - ChunkAwareChunkProcessor 로 구성해야 청크 단위 병렬 처리가 되며, 일반 스텝에서는 아이템 단위로 순차 처리됨
+ *
+ * @param <I> 입력 아이템 타입
+ * @param <O> 출력 아이템 타입
+ */
+public class ParallelCompositeItemProcessor<I, O> implements ItemProcessor<I, O>, ChunkItemProcessor<I, O>,
+        InitializingBean, DisposableBean {
+
+    private List<? extends ItemProcessor<?, ?>> sequentialDelegates = Collections.emptyList();
+
+    private List<? extends ItemProcessor<?, ?>> delegates = Collections.emptyList();
+
+    private int concurrencyLimit = Runtime.getRuntime().availableProcessors();
+
+    private ExecutorService executorService;
+
+    private boolean ownsExecutorService;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        Assert.isTrue(!sequentialDelegates.isEmpty() || !delegates.isEmpty(), "위임 프로세서가 하나 이상 필요합니다.");
+        Assert.isTrue(concurrencyLimit > 0, "concurrencyLimit 는 0보다 커야 합니다.");
+
+        if (executorService == null) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            executorService = Executors.newFixedThreadPool(concurrencyLimit, runnable -> {
+                Thread thread = new Thread(runnable, "parallel-composite-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            ownsExecutorService = true;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (ownsExecutorService) {
+            executorService.shutdown();
+        }
+    }
+
+    @Override
+    public O process(I item) throws Exception {
+        Object result = processChain(sequentialDelegates, item);
+
+        return result == null ? null : processChain(delegates, result);
+    }
+
+    @Override
+    public List<O> processChunk(List<? extends I> items) throws Exception {
+        // 1. 상태를 가지는 위임 프로세서는 스텝 스레드에서 입력 순서대로 실행
+        Object[] intermediates = new Object[items.size()];
+        for (int i = 0; i < intermediates.length; i++) {
+            intermediates[i] = processChain(sequentialDelegates, items.get(i));
+        }
+
+        // 2. 상태가 없는 위임 체인은 연속 구간으로 나누어 병렬 실행 (구간별로 결과 배열의 같은 위치에 기록하므로 순서 유지)
+        Object[] results = new Object[intermediates.length];
+        int sliceCount = Math.min(concurrencyLimit, intermediates.length);
+
+        if (sliceCount <= 1 || delegates.isEmpty()) {
+            processSlice(intermediates, results, 0, intermediates.length, new AtomicBoolean());
+        } else {
+            processSlices(intermediates, results, sliceCount);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<O> outputs = (List<O>) Arrays.asList(results);
+        return outputs;
+    }
+
+    /**
+     * 구간별 작업을 제출하고 완료 순서대로 확인하여, 첫 실패시 나머지 작업을 취소함
+     */
+    private void processSlices(Object[] intermediates, Object[] results, int sliceCount) throws Exception {
+        StepExecution stepExecution = currentStepExecution();
+        CompletionService<Void> completionService = new ExecutorCompletionService<>(executorService);
+        List<Future<Void>> futures = new ArrayList<>(sliceCount);
+        AtomicBoolean cancelled = new AtomicBoolean();
+        int sliceSize = (intermediates.length + sliceCount - 1) / sliceCount;
+
+        try {
+            for (int start = 0; start < intermediates.length; start += sliceSize) {
+                int from = start;
+                int to = Math.min(start + sliceSize, intermediates.length);
+                futures.add(completionService.submit(() -> {
+                    processSlice(stepExecution, intermediates, results, from, to, cancelled);
+                    return null;
+                }));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                await(completionService.take());
+            }
+        } catch (Exception | Error e) {
+            cancelled.set(true); // 인터럽트에 반응하지 않는 위임 프로세서도 다음 아이템부터는 처리하지 않음
+            for (Future<Void> future : futures) {
+                future.cancel(true);
+            }
+            throw e;
+        }
+    }
+
+    private void processSlice(StepExecution stepExecution, Object[] intermediates, Object[] results, int from, int to,
+                              AtomicBoolean cancelled) throws Exception {
+        if (stepExecution != null) {
+            StepSynchronizationManager.register(stepExecution);
+        }
+        try {
+            processSlice(intermediates, results, from, to, cancelled);
+        } finally {
+            if (stepExecution != null) {
+                StepSynchronizationManager.release();
+            }
+        }
+    }
+
+    private void processSlice(Object[] intermediates, Object[] results, int from, int to, AtomicBoolean cancelled) throws Exception {
+        for (int i = from; i < to && !cancelled.get(); i++) {
+            if (intermediates[i] != null) {
+                results[i] = processChain(delegates, intermediates[i]);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T processChain(List<? extends ItemProcessor<?, ?>> chain, Object item) throws Exception {
+        Object result = item;
+
+        for (ItemProcessor<?, ?> delegate : chain) {
+            if (result == null) {
+                return null;
+            }
+            result = ((ItemProcessor<Object, Object>) delegate).process(result);
+        }
+
+        return (T) result;
+    }
+
+    private static StepExecution currentStepExecution() {
+        StepContext context = StepSynchronizationManager.getContext();
+
+        return context != null ? context.getStepExecution() : null;
+    }
+
+    private static void await(Future<Void> future) throws Exception {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    public void setSequentialDelegates(List<? extends ItemProcessor<?, ?>> sequentialDelegates) {
+        this.sequentialDelegates = sequentialDelegates;
+    }
+
+    public void setDelegates(List<? extends ItemProcessor<?, ?>> delegates) {
+        this.delegates = delegates;
+    }
+
+    public void setConcurrencyLimit(int concurrencyLimit) {
+        this.concurrencyLimit = concurrencyLimit;
+    }
+
+    /**
+     * 외부에서 관리하는 ExecutorService 사용 (JDK 21 의 Executors.newVirtualThreadPerTaskExecutor() 등)
+     * - 이 경우 종료는 호출한 쪽에서 관리함
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+}
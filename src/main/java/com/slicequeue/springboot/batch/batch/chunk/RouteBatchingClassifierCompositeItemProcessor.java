@@ -0,0 +1,97 @@
+package com.slicequeue.springboot.batch.batch.chunk;
+
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.classify.Classifier;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 청크를 경로(위임 프로세서)별로 묶어서 처리하는 ClassifierCompositeItemProcessor
+ * - ClassifierCompositeItemProcessor 는 아이템마다 분류 후 바로 위임 프로세서를 호출하므로 경로가 아이템 단위로 번갈아 실행됨
+ * - 이 프로세서는 청크 전체를 먼저 분류하고, 경로별 하위 배치를 한 번에 위임 프로세서로 넘긴 뒤 결과를 입력 순서대로 재조립함
+ * - 위임 프로세서가 ChunkItemProcessor 를 구현하면 하위 배치를 processChunk 로 한 번에 처리하고, 아니면 아이템 단위로 처리함
+ * - ChunkAwareChunkProcessor 로 구성해야 청크 단위로 동작하며, 일반 스텝에서는 ClassifierCompositeItemProcessor 와 같이 동작함
+ *
+ * @param <I> 입력 아이템 타입
+ * @param <O> 출력 아이템 타입
+ */
+public class RouteBatchingClassifierCompositeItemProcessor<I, O> implements ItemProcessor<I, O>, ChunkItemProcessor<I, O>,
+        InitializingBean {
+
+    private Classifier<? super I, ItemProcessor<?, ? extends O>> classifier;
+
+    @Override
+    public void afterPropertiesSet() {
+        Assert.notNull(classifier, "classifier 는 필수입니다.");
+    }
+
+    @Override
+    public O process(I item) throws Exception {
+        return processItem(classifier.classify(item), item);
+    }
+
+    @Override
+    public List<O> processChunk(List<? extends I> items) throws Exception {
+        // 1. 경로별로 입력 위치를 모음 (경로는 처음 등장한 순서대로 실행)
+        Map<ItemProcessor<?, ? extends O>, List<Integer>> routes = new IdentityHashMap<>();
+        List<ItemProcessor<?, ? extends O>> routeOrder = new ArrayList<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            ItemProcessor<?, ? extends O> delegate = classifier.classify(items.get(i));
+
+            List<Integer> indexes = routes.get(delegate);
+            if (indexes == null) {
+                indexes = new ArrayList<>();
+                routes.put(delegate, indexes);
+                routeOrder.add(delegate);
+            }
+            indexes.add(i);
+        }
+
+        // 2. 경로별 하위 배치를 처리하고 결과를 원래 위치에 기록
+        Object[] results = new Object[items.size()];
+
+        for (ItemProcessor<?, ? extends O> delegate : routeOrder) {
+            List<Integer> indexes = routes.get(delegate);
+
+            if (delegate instanceof ChunkItemProcessor) {
+                List<Object> batch = new ArrayList<>(indexes.size());
+                for (int index : indexes) {
+                    batch.add(items.get(index));
+                }
+
+                @SuppressWarnings("unchecked")
+                List<?> outputs = ((ChunkItemProcessor<Object, ?>) delegate).processChunk(batch);
+                Assert.state(outputs.size() == batch.size(),
+                        "ChunkItemProcessor 결과 크기가 입력과 다릅니다. input=" + batch.size() + ", output=" + outputs.size());
+
+                for (int i = 0; i < outputs.size(); i++) {
+                    results[indexes.get(i)] = outputs.get(i);
+                }
+            } else {
+                for (int index : indexes) {
+                    results[index] = processItem(delegate, items.get(index));
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        List<O> outputs = (List<O>) Arrays.asList(results);
+        return outputs;
+    }
+
+    @SuppressWarnings("unchecked")
+    private O processItem(ItemProcessor<?, ? extends O> delegate, I item) throws Exception {
+        return ((ItemProcessor<I, O>) delegate).process(item);
+    }
+
+    public void setClassifier(Classifier<? super I, ItemProcessor<?, ? extends O>> classifier) {
+        this.classifier = classifier;
+    }
+}
@@ -0,0 +1,94 @@
+package com.slicequeue.springboot.batch.batch.classify;
+
+import org.springframework.util.Assert;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 아이템의 경로(route) 번호를 계산하는 함수
+ * - 숫자 문자열을 Integer.parseInt 로 변환하지 않고 문자에서 바로 미리 계산된 테이블을 조회함
+ * - 키가 없거나 잘못된 경우 {@link #INVALID} 를 반환하여 RoutingClassifier 가 fallback 경로로 보내거나 거부하도록 함
+ *
+ * @param <T> 아이템 타입
+ */
+@FunctionalInterface
+public interface RouteKey<T> {
+
+    int INVALID = -1;
+
+    int routeOf(T item);
+
+    /**
+     * 숫자로만 이루어진 필드의 마지막 숫자로 경로 결정 (예: 우편번호 홀/짝)
+     * - 숫자(ASCII 0~9)가 아닌 문자가 하나라도 있으면 Integer.parseInt 처럼 잘못된 키로 판단함 ("12a45", "+1234" 등)
+     *
+     * @param routeTable 숫자(0~9)별 경로 번호, 길이 10
+     */
+    static <T> RouteKey<T> lastDigit(Function<? super T, String> field, int[] routeTable) {
+        Assert.isTrue(routeTable.length == 10, "routeTable 의 길이는 10 이어야 합니다.");
+        int[] table = routeTable.clone();
+
+        return item -> {
+            String value = field.apply(item);
+            if (value == null || value.isEmpty()) {
+                return INVALID;
+            }
+
+            int digit = 0;
+            for (int i = 0; i < value.length(); i++) {
+                digit = value.charAt(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    return INVALID;
+                }
+            }
+            return table[digit];
+        };
+    }
+
+    /**
+     * 필드의 앞 prefixLength 자리 숫자로 경로 결정 (예: 우편번호 앞 3자리)
+     *
+     * @param routeTable 접두 숫자(0 ~ 10^prefixLength - 1)별 경로 번호
+     */
+    static <T> RouteKey<T> digitPrefix(Function<? super T, String> field, int prefixLength, int[] routeTable) {
+        Assert.isTrue(prefixLength > 0 && prefixLength <= 6, "prefixLength 는 1 ~ 6 이어야 합니다.");
+        Assert.isTrue(routeTable.length == (int) Math.pow(10, prefixLength), "routeTable 의 길이는 10^prefixLength 이어야 합니다.");
+        int[] table = routeTable.clone();
+
+        return item -> {
+            String value = field.apply(item);
+            if (value == null || value.length() < prefixLength) {
+                return INVALID;
+            }
+
+            int prefix = 0;
+            for (int i = 0; i < prefixLength; i++) {
+                int digit = value.charAt(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    return INVALID;
+                }
+                prefix = prefix * 10 + digit;
+            }
+            return table[prefix];
+        };
+    }
+
+    /**
+     * 필드 값 자체로 경로 결정 (예: state -> 경로 번호)
+     */
+    static <T> RouteKey<T> lookup(Function<? super T, String> field, Map<String, Integer> routes) {
+        Map<String, Integer> table = new HashMap<>(routes);
+
+        return item -> {
+            String value = field.apply(item);
+            if (value == null) {
+                return INVALID;
+            }
+
+            Integer route = table.get(value);
+            return route != null ? route : INVALID;
+        };
+    }
+}
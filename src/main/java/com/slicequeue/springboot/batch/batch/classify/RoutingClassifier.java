@@ -0,0 +1,55 @@
+package com.slicequeue.springboot.batch.batch.classify;
+
+import org.springframework.classify.Classifier;
+import org.springframework.util.Assert;
+
+import java.util.List;
+
+/**
+ * RouteKey 가 계산한 경로 번호로 N 개의 경로 중 하나를 고르는 분류기
+ * - 경로 번호가 범위를 벗어나면(잘못된 키 포함) fallback 을 반환하고, fallback 이 없으면 IllegalArgumentException 을 던짐
+ *
+ * @param <T> 분류 대상 타입
+ * @param <R> 경로 타입 (예: ItemProcessor)
+ */
+public class RoutingClassifier<T, R> implements Classifier<T, R> {
+
+    private final RouteKey<? super T> routeKey;
+
+    private final Object[] routes;
+
+    private final R fallback;
+
+    /**
+     * 잘못된 키를 가진 아이템은 classify 에서 IllegalArgumentException 으로 거부함
+     */
+    public RoutingClassifier(RouteKey<? super T> routeKey, List<? extends R> routes) {
+        this(routeKey, routes, null);
+    }
+
+    /**
+     * @param fallback 잘못된 키를 가진 아이템의 경로 (null 이면 거부)
+     */
+    public RoutingClassifier(RouteKey<? super T> routeKey, List<? extends R> routes, R fallback) {
+        Assert.notNull(routeKey, "routeKey 는 필수입니다.");
+        Assert.notEmpty(routes, "경로가 하나 이상 필요합니다.");
+
+        this.routeKey = routeKey;
+        this.routes = routes.toArray();
+        this.fallback = fallback;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R classify(T classifiable) {
+        int route = routeKey.routeOf(classifiable);
+
+        if (route >= 0 && route < routes.length) {
+            return (R) routes[route];
+        }
+        if (fallback == null) {
+            throw new IllegalArgumentException("경로를 결정할 수 없는 아이템입니다: " + classifiable);
+        }
+        return fallback;
+    }
+}
@@ -0,0 +1,143 @@
+package com.slicequeue.springboot.batch.batch.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.classify.Classifier;
+import org.springframework.util.Assert;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 경로별 분류 건수를 기록하는 Classifier 래퍼 (ZipCodeClassifier 등)
+ * - 분류 결과(경로 객체)를 routeNames 로 이름을 붙여 Counter(batch.item.route, 태그 name/route)로 노출함
+ * - routeNames 에 없는 경로(fallback 등)는 "other" 로 집계함
+ * - 스텝이 끝나면(afterStep) "instrumentation.<name>.route.<route>" 키로 경로별 건수를 ExecutionContext 에 기록함
+ * - 경로별 건수는 스텝이 시작될 때(beforeStep) 초기화하므로 스텝 실행마다의 값임 (Counter 는 누적값)
+ *   스텝들이 겹쳐 실행되면 처음 시작한 스텝에서만 초기화하므로 겹친 스텝들의 합계임
+ * - enabled=false 이면 위임 분류기를 그대로 호출함
+ *
+ * @param <T> 분류 대상 타입
+ * @param <C> 경로 타입
+ */
+public class InstrumentedClassifier<T, C> implements Classifier<T, C>, StepExecutionListener {
+
+    public static final String COUNTER_NAME = "batch.item.route";
+
+    private static final String OTHER_ROUTE = "other";
+
+    private final Classifier<T, ? extends C> delegate;
+
+    private final String name;
+
+    private final boolean enabled;
+
+    private final Map<C, RouteMetrics> routes = new IdentityHashMap<>();
+
+    private final RouteMetrics otherRoute;
+
+    private int activeSteps;
+
+    public InstrumentedClassifier(Classifier<T, ? extends C> delegate, Map<? extends C, String> routeNames, String name, boolean enabled) {
+        this(delegate, routeNames, name, enabled, Metrics.globalRegistry);
+    }
+
+    public InstrumentedClassifier(Classifier<T, ? extends C> delegate, Map<? extends C, String> routeNames, String name, boolean enabled,
+                                  MeterRegistry meterRegistry) {
+        Assert.notNull(delegate, "delegate 는 필수입니다.");
+
+        this.delegate = delegate;
+        this.name = name;
+        this.enabled = enabled;
+
+        if (enabled) { // 비활성화시 미터를 등록하지 않음
+            routeNames.forEach((route, routeName) -> routes.put(route, new RouteMetrics(routeName, name, meterRegistry)));
+            this.otherRoute = new RouteMetrics(OTHER_ROUTE, name, meterRegistry);
+        } else {
+            this.otherRoute = null;
+        }
+    }
+
+    @Override
+    public C classify(T classifiable) {
+        C route = delegate.classify(classifiable);
+
+        if (enabled) {
+            RouteMetrics metrics = routes.get(route);
+            (metrics != null ? metrics : otherRoute).increment();
+        }
+
+        return route;
+    }
+
+    @Override
+    public synchronized void beforeStep(StepExecution stepExecution) {
+        if (enabled && ++activeSteps == 1) {
+            routes.values().forEach(RouteMetrics::reset);
+            otherRoute.reset();
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        synchronized (this) {
+            activeSteps = Math.max(0, activeSteps - 1);
+        }
+
+        if (!enabled) {
+            return null;
+        }
+
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        String prefix = "instrumentation." + name + ".route.";
+
+        getRouteCounts().forEach((route, count) -> executionContext.putLong(prefix + route, count));
+
+        return null;
+    }
+
+    /**
+     * 경로 이름별 분류 건수
+     */
+    public Map<String, Long> getRouteCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        if (!enabled) {
+            return counts;
+        }
+
+        for (RouteMetrics metrics : routes.values()) {
+            counts.merge(metrics.routeName, metrics.count.sum(), Long::sum);
+        }
+        counts.merge(OTHER_ROUTE, otherRoute.count.sum(), Long::sum);
+
+        return counts;
+    }
+
+    private static final class RouteMetrics {
+
+        private final String routeName;
+        private final Counter counter;
+        private final LongAdder count = new LongAdder();
+
+        private RouteMetrics(String routeName, String name, MeterRegistry meterRegistry) {
+            this.routeName = routeName;
+            this.counter = Counter.builder(COUNTER_NAME).tag("name", name).tag("route", routeName).register(meterRegistry);
+        }
+
+        private void increment() {
+            count.increment();
+            counter.increment();
+        }
+
+        private void reset() {
+            count.reset();
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package com.slicequeue.springboot.batch.batch.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.aop.scope.ScopedObject;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 위임 프로세서별 처리 시간과 건수를 기록하는 CompositeItemProcessor
+ * - 위임 프로세서마다 Micrometer Timer(batch.item.process.delegate, 태그 name/delegate)에 처리 시간을 기록하며,
+ *   p50/p95/p99 와 percentile histogram 은 meterRegistry 에 실제 레지스트리가 설정된 경우에만 노출됨 (기본 Metrics.globalRegistry 는 비어 있으면 기록하지 않음)
+ * - 입력/출력/필터링 건수는 Counter(batch.item.process.items, 태그 name/result)로 노출함
+ * - 스텝이 끝나면(afterStep) "instrumentation.<name>.*" 키로 건수와 위임 프로세서별 처리 시간 요약을 ExecutionContext 에 기록함
+ *   요약의 최대값과 p50/p95/p99 는 레지스트리와 무관하게 로그 스케일 히스토그램(상대 오차 12.5% 이하)으로 직접 집계함
+ * - 건수와 요약은 스텝이 시작될 때(beforeStep) 초기화하므로 스텝 실행마다의 값임 (Micrometer 미터는 누적값)
+ *   스텝들이 겹쳐 실행되면 처음 시작한 스텝에서만 초기화하므로 요약은 겹친 스텝들의 합계임
+ * - enabled=false 이면 측정 없이 CompositeItemProcessor 와 같은 반복만 수행함
+ * - 스텝에 StepExecutionListener 로 등록해야 요약이 기록됨
+ * - 스텝이 시작되면(beforeStep) @StepScope/@JobScope 프록시인 위임 프로세서의 대상 객체를 한 번 꺼내 체인에 직접 넣고, 스텝이 끝나면 프록시로 되돌림
+ *   아이템마다 프록시가 StepSynchronizationManager 에서 스텝 컨텍스트와 대상 빈을 찾는 비용이 없어지며, 체인은 volatile 필드로 교체하므로 process 에는 잠금이 없음
+ *   파티션 워커처럼 여러 스텝이 동시에 같은 인스턴스를 쓰면 대상이 스텝마다 다르므로 모든 스텝이 끝날 때까지 프록시 체인을 그대로 사용함
+ *
+ * @param <I> 입력 아이템 타입
+ * @param <O> 출력 아이템 타입
+ */
+public class InstrumentedCompositeItemProcessor<I, O> implements ItemProcessor<I, O>, StepExecutionListener, InitializingBean {
+
+    public static final String TIMER_NAME = "batch.item.process.delegate";
+
+    public static final String COUNTER_NAME = "batch.item.process.items";
+
+    private static final String SUMMARY_KEY_PREFIX = "instrumentation.";
+
+    private List<? extends ItemProcessor<?, ?>> delegates;
+
+    private List<String> delegateNames;
+
+    private String name = "composite";
+
+    private boolean enabled = true;
+
+    private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+    private boolean resolveScopedDelegates = true;
+
+    private ItemProcessor<Object, Object>[] proxyChain;
+
+    private volatile ItemProcessor<Object, Object>[] chain;
+
+    private int activeSteps;
+
+    private DelegateMetrics[] delegateMetrics;
+
+    private Counter inCounter;
+
+    private Counter outCounter;
+
+    private Counter filteredCounter;
+
+    private final LongAdder inCount = new LongAdder();
+
+    private final LongAdder outCount = new LongAdder();
+
+    private final LongAdder filteredCount = new LongAdder(); // in - out 에는 위임 프로세서가 예외를 던진 아이템도 포함되므로 따로 셈
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void afterPropertiesSet() {
+        Assert.notEmpty(delegates, "위임 프로세서가 하나 이상 필요합니다.");
+        Assert.isTrue(delegateNames == null || delegateNames.size() == delegates.size(), "delegateNames 는 delegates 와 크기가 같아야 합니다.");
+
+        proxyChain = delegates.toArray(new ItemProcessor[0]);
+        chain = proxyChain;
+        if (!enabled) {
+            return; // 비활성화시 미터를 등록하지 않음
+        }
+
+        delegateMetrics = new DelegateMetrics[proxyChain.length];
+
+        for (int i = 0; i < proxyChain.length; i++) {
+            String delegateName = delegateNames != null
+                    ? delegateNames.get(i)
+                    : i + "-" + ClassUtils.getShortName(ClassUtils.getUserClass(proxyChain[i]));
+
+            delegateMetrics[i] = new DelegateMetrics(delegateName, Timer.builder(TIMER_NAME)
+                    .tag("name", name)
+                    .tag("delegate", delegateName)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+
+        inCounter = Counter.builder(COUNTER_NAME).tag("name", name).tag("result", "in").register(meterRegistry);
+        outCounter = Counter.builder(COUNTER_NAME).tag("name", name).tag("result", "out").register(meterRegistry);
+        filteredCounter = Counter.builder(COUNTER_NAME).tag("name", name).tag("result", "filtered").register(meterRegistry);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public O process(I item) throws Exception {
+        ItemProcessor<Object, Object>[] chain = this.chain;
+
+        if (!enabled) {
+            Object result = item;
+            for (ItemProcessor<Object, Object> delegate : chain) {
+                if (result == null) {
+                    return null;
+                }
+                result = delegate.process(result);
+            }
+            return (O) result;
+        }
+
+        inCount.increment();
+        inCounter.increment();
+
+        Object result = item;
+        for (int i = 0; i < chain.length; i++) {
+            long start = System.nanoTime();
+            result = chain[i].process(result);
+            delegateMetrics[i].record(System.nanoTime() - start, result == null);
+
+            if (result == null) {
+                filteredCount.increment();
+                filteredCounter.increment();
+                return null;
+            }
+        }
+
+        outCount.increment();
+        outCounter.increment();
+        return (O) result;
+    }
+
+    @Override
+    public synchronized void beforeStep(StepExecution stepExecution) {
+        activeSteps++;
+        // beforeStep 은 StepSynchronizationManager 에 현재 스텝이 등록된 뒤 호출되므로 프록시가 이번 스텝의 대상을 돌려줌
+        chain = resolveScopedDelegates && activeSteps == 1 ? resolve(proxyChain) : proxyChain;
+
+        if (enabled && activeSteps == 1) { // 이전 스텝 실행의 건수/처리 시간이 요약에 섞이지 않도록 초기화
+            inCount.reset();
+            outCount.reset();
+            filteredCount.reset();
+            for (DelegateMetrics metrics : delegateMetrics) {
+                metrics.reset();
+            }
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        synchronized (this) {
+            activeSteps = Math.max(0, activeSteps - 1);
+            chain = proxyChain; // 끝난 스텝의 대상(스텝 스코프가 정리함)을 계속 참조하지 않도록 프록시로 되돌림
+        }
+
+        if (!enabled) {
+            return null;
+        }
+
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        String prefix = SUMMARY_KEY_PREFIX + name + ".";
+
+        executionContext.putLong(prefix + "in", inCount.sum());
+        executionContext.putLong(prefix + "out", outCount.sum());
+        executionContext.putLong(prefix + "filtered", filteredCount.sum());
+
+        for (DelegateMetrics metrics : delegateMetrics) {
+            metrics.writeSummary(executionContext, prefix + metrics.name + ".");
+        }
+
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ItemProcessor<Object, Object>[] resolve(ItemProcessor<Object, Object>[] delegates) {
+        ItemProcessor<Object, Object>[] resolved = delegates.clone();
+
+        for (int i = 0; i < resolved.length; i++) {
+            if (resolved[i] instanceof ScopedObject) {
+                resolved[i] = (ItemProcessor<Object, Object>) ((ScopedObject) resolved[i]).getTargetObject();
+            }
+        }
+
+        return resolved;
+    }
+
+    public void setDelegates(List<? extends ItemProcessor<?, ?>> delegates) {
+        this.delegates = delegates;
+    }
+
+    /**
+     * 메트릭/요약에 사용할 위임 프로세서 이름 (기본값: 순번-클래스 이름)
+     */
+    public void setDelegateNames(List<String> delegateNames) {
+        this.delegateNames = delegateNames;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void setMeterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * false 이면 스코프 프록시를 풀지 않고 아이템마다 프록시를 거쳐 호출 (기본값: true)
+     */
+    public void setResolveScopedDelegates(boolean resolveScopedDelegates) {
+        this.resolveScopedDelegates = resolveScopedDelegates;
+    }
+
+    private static final class DelegateMetrics {
+
+        private final String name;
+        private final Timer timer;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder filtered = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        private DelegateMetrics(String name, Timer timer) {
+            this.name = name;
+            this.timer = timer;
+        }
+
+        private void record(long nanos, boolean filteredItem) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            histogram.record(nanos);
+            if (filteredItem) {
+                filtered.increment();
+            }
+        }
+
+        private void reset() {
+            count.reset();
+            filtered.reset();
+            totalNanos.reset();
+            maxNanos.reset();
+            histogram.reset();
+        }
+
+        private void writeSummary(ExecutionContext executionContext, String prefix) {
+            long invocations = count.sum();
+
+            executionContext.putLong(prefix + "count", invocations);
+            executionContext.putLong(prefix + "filtered", filtered.sum());
+            executionContext.putLong(prefix + "totalMillis", TimeUnit.NANOSECONDS.toMillis(totalNanos.sum()));
+            executionContext.putLong(prefix + "meanMicros", invocations == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalNanos.sum() / invocations));
+            executionContext.putLong(prefix + "maxMicros", TimeUnit.NANOSECONDS.toMicros(maxNanos.get()));
+
+            long max = maxNanos.get(); // 구간 상한이 실제 최대값을 넘지 않도록 제한
+            executionContext.putLong(prefix + "p50Micros", TimeUnit.NANOSECONDS.toMicros(Math.min(max, histogram.percentile(0.5))));
+            executionContext.putLong(prefix + "p95Micros", TimeUnit.NANOSECONDS.toMicros(Math.min(max, histogram.percentile(0.95))));
+            executionContext.putLong(prefix + "p99Micros", TimeUnit.NANOSECONDS.toMicros(Math.min(max, histogram.percentile(0.99))));
+        }
+    }
+
+    /**
+     * 나노초 단위 처리 시간의 로그 스케일 히스토그램
+     * - 2의 거듭제곱 구간마다 8개 하위 구간으로 나누므로 구간 상한과 실제 값의 상대 오차는 12.5% 이하
+     * - 고정 크기 AtomicLongArray 이므로 기록에 할당과 잠금이 없음
+     */
+    static final class LatencyHistogram {
+
+        private static final int SUB_BUCKET_BITS = 3;
+
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+        private final AtomicLongArray counts = new AtomicLongArray(Long.SIZE * SUB_BUCKETS);
+
+        void record(long nanos) {
+            counts.incrementAndGet(index(Math.max(0, nanos)));
+        }
+
+        void reset() {
+            for (int i = 0; i < counts.length(); i++) {
+                counts.set(i, 0);
+            }
+        }
+
+        /**
+         * quantile(0~1) 위치의 값이 속한 구간의 상한 (기록이 없으면 0)
+         */
+        long percentile(double quantile) {
+            long total = 0;
+            for (int i = 0; i < counts.length(); i++) {
+                total += counts.get(i);
+            }
+            if (total == 0) {
+                return 0;
+            }
+
+            long rank = Math.max(1, (long) Math.ceil(quantile * total));
+            long seen = 0;
+            for (int i = 0; i < counts.length(); i++) {
+                seen += counts.get(i);
+                if (seen >= rank) {
+                    return upperBound(i);
+                }
+            }
+            return upperBound(counts.length() - 1);
+        }
+
+        static int index(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+            return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+        }
+
+        static long upperBound(int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+
+            int shift = index / SUB_BUCKETS - 1;
+            int subBucket = index % SUB_BUCKETS;
+            return ((long) (SUB_BUCKETS + subBucket + 1) << shift) - 1;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.slicequeue.springboot.batch.batch.metrics;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * 시작 시점부터 스텝이 첫 아이템을 읽기 시작할 때까지, 첫 청크를 커밋할 때까지 걸린 시간을 기록하는 리스너
+ * - 기준 시점은 기본적으로 JVM 시작 시각이며, 같은 JVM 에서 여러 번 실행할 때는 실행을 시작한 시각(epoch millis)을 지정함
+ * - 첫 청크의 beforeChunk(첫 read 직전)와 afterChunk(커밋 직후)에서 한 번씩만 시각을 확인하므로 아이템마다의 비용은 없음
+ * - 스텝이 끝나면(afterStep) "startup.firstItemMillis", "startup.firstChunkMillis" 키로 ExecutionContext 에 기록하고 로그로 남김
+ * - 스텝에 ChunkListener 와 StepExecutionListener 로 등록해야 함
+ */
+public class StartupTimingListener implements ChunkListener, StepExecutionListener {
+
+    public static final String FIRST_ITEM_KEY = "startup.firstItemMillis";
+
+    public static final String FIRST_CHUNK_KEY = "startup.firstChunkMillis";
+
+    private static final Log logger = LogFactory.getLog(StartupTimingListener.class);
+
+    private final long startMillis;
+
+    private long firstItemMillis = -1;
+
+    private long firstChunkMillis = -1;
+
+    public StartupTimingListener() {
+        this(ManagementFactory.getRuntimeMXBean().getStartTime());
+    }
+
+    public StartupTimingListener(long startMillis) {
+        this.startMillis = startMillis;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        firstItemMillis = -1;
+        firstChunkMillis = -1;
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        if (firstItemMillis < 0) {
+            firstItemMillis = System.currentTimeMillis() - startMillis;
+        }
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        if (firstChunkMillis < 0) {
+            firstChunkMillis = System.currentTimeMillis() - startMillis;
+        }
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+
+        if (firstItemMillis >= 0) {
+            executionContext.putLong(FIRST_ITEM_KEY, firstItemMillis);
+        }
+        if (firstChunkMillis >= 0) {
+            executionContext.putLong(FIRST_CHUNK_KEY, firstChunkMillis);
+        }
+
+        logger.info("Startup timing for " + stepExecution.getStepName()
+                + ": firstItem=" + firstItemMillis + "ms, firstChunk=" + firstChunkMillis + "ms");
+
+        return null;
+    }
+}
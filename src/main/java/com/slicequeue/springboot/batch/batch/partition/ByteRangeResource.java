@@ -0,0 +1,119 @@
+package com.slicequeue.springboot.batch.batch.partition;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 리소스의 [startOffset, endOffset) 바이트 구간만 읽는 리소스
+ * - 파티션별 FlatFileItemReader 가 파일 전체가 아닌 자기 구간만 읽도록 할 때 사용
+ * - FlatFileItemReader 의 재시작(읽은 라인 수 기준 skip)은 구간 시작점 기준으로 그대로 동작함
+ */
+public class ByteRangeResource extends AbstractResource {
+
+    private final Resource delegate;
+
+    private final long startOffset;
+
+    private final long endOffset;
+
+    public ByteRangeResource(Resource delegate, long startOffset, long endOffset) {
+        Assert.notNull(delegate, "delegate 리소스는 필수입니다.");
+        Assert.isTrue(0 <= startOffset && startOffset <= endOffset, "잘못된 바이트 구간입니다: " + startOffset + "-" + endOffset);
+
+        this.delegate = delegate;
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
+    }
+
+    @Override
+    public boolean exists() {
+        return delegate.exists();
+    }
+
+    @Override
+    public long contentLength() {
+        return endOffset - startOffset;
+    }
+
+    @Override
+    public String getFilename() {
+        return delegate.getFilename();
+    }
+
+    @Override
+    public String getDescription() {
+        return delegate.getDescription() + " [" + startOffset + ", " + endOffset + ")";
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        InputStream inputStream = delegate.getInputStream();
+
+        try {
+            inputStream.skipNBytes(startOffset); // FileInputStream 의 경우 seek 로 동작
+        } catch (IOException e) {
+            inputStream.close();
+            throw e;
+        }
+
+        return new BoundedInputStream(inputStream, endOffset - startOffset);
+    }
+
+    private static class BoundedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        private BoundedInputStream(InputStream in, long remaining) {
+            super(in);
+            this.remaining = remaining;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+
+            int read = super.read();
+            if (read >= 0) {
+                remaining--;
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+
+            int read = super.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
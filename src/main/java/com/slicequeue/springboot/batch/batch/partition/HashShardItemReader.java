@@ -0,0 +1,87 @@
+package com.slicequeue.springboot.batch.batch.partition;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+
+import java.util.function.Function;
+
+/**
+ * 위임 리더가 읽은 아이템 중 키가 자기 샤드(HashShardPartitioner.shardOf)에 속하는 아이템만 반환하는 리더
+ * - 파티션마다 입력 전체를 읽고 다른 샤드의 아이템은 건너뜀 (읽기 건수/필터 건수에 포함되지 않음)
+ * - 체크포인트는 위임 리더의 open/update 를 그대로 사용하므로, 재시작시 위임 리더가 저장한 위치부터 다시 읽으며 샤드 판정도 같음
+ *
+ * @param <T> 아이템 타입
+ */
+public class HashShardItemReader<T> implements ItemStreamReader<T>, InitializingBean {
+
+    private ItemStreamReader<T> delegate;
+
+    private Function<? super T, String> keyExtractor;
+
+    private int shardIndex;
+
+    private int shardCount = 1;
+
+    private long skipped;
+
+    @Override
+    public void afterPropertiesSet() {
+        Assert.notNull(delegate, "delegate 는 필수입니다.");
+        Assert.notNull(keyExtractor, "keyExtractor 는 필수입니다.");
+        Assert.isTrue(shardCount > 0, "shardCount 는 0보다 커야 합니다.");
+        Assert.isTrue(shardIndex >= 0 && shardIndex < shardCount, "shardIndex 는 0 ~ shardCount - 1 사이여야 합니다.");
+    }
+
+    @Override
+    public T read() throws Exception {
+        for (T item = delegate.read(); item != null; item = delegate.read()) {
+            if (HashShardPartitioner.shardOf(keyExtractor.apply(item), shardCount) == shardIndex) {
+                return item;
+            }
+            skipped++;
+        }
+        return null;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        skipped = 0;
+        delegate.open(executionContext);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        delegate.update(executionContext);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        delegate.close();
+    }
+
+    /**
+     * 이번 실행에서 다른 샤드 소속이라 건너뛴 아이템 수
+     */
+    public long getSkipped() {
+        return skipped;
+    }
+
+    public void setDelegate(ItemStreamReader<T> delegate) {
+        this.delegate = delegate;
+    }
+
+    public void setKeyExtractor(Function<? super T, String> keyExtractor) {
+        this.keyExtractor = keyExtractor;
+    }
+
+    public void setShardIndex(int shardIndex) {
+        this.shardIndex = shardIndex;
+    }
+
+    public void setShardCount(int shardCount) {
+        this.shardCount = shardCount;
+    }
+}
@@ -0,0 +1,51 @@
+package com.slicequeue.springboot.batch.batch.partition;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.util.Assert;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 키 공간을 해시로 gridSize 개 샤드로 나누는 Partitioner
+ * - 각 파티션 ExecutionContext 에 shardIndex, shardCount 를 저장하며, 워커는 HashShardItemReader 로 자기 샤드의 아이템만 처리함
+ * - 같은 키(예: lastName)를 가진 아이템은 항상 같은 파티션에서 처리되므로 키 기준 상태(고유성 검증 등)를 파티션마다 따로 가져도 전체 기준으로 정확함
+ * - 샤드 배정은 shardOf 로만 계산하므로 재시작하거나 다른 JVM 에서 실행해도 같은 키는 같은 샤드에 배정됨 (gridSize 가 같은 경우)
+ */
+public class HashShardPartitioner implements Partitioner {
+
+    public static final String SHARD_INDEX_KEY = "shardIndex";
+
+    public static final String SHARD_COUNT_KEY = "shardCount";
+
+    private static final String PARTITION_KEY = "shard";
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Assert.isTrue(gridSize > 0, "gridSize 는 0보다 커야 합니다.");
+
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+
+        for (int i = 0; i < gridSize; i++) {
+            ExecutionContext context = new ExecutionContext();
+            context.putInt(SHARD_INDEX_KEY, i);
+            context.putInt(SHARD_COUNT_KEY, gridSize);
+            partitions.put(PARTITION_KEY + i, context);
+        }
+
+        return partitions;
+    }
+
+    /**
+     * 키가 속한 샤드 번호 (0 ~ shardCount - 1, null 키는 0). String.hashCode 는 JVM 간에 같으므로 노드가 달라도 결과가 같음
+     */
+    public static int shardOf(String key, int shardCount) {
+        if (key == null) {
+            return 0;
+        }
+
+        int hash = key.hashCode() * 0x9E3779B9;
+        return (int) (((hash ^ (hash >>> 16)) & 0xFFFFFFFFL) * shardCount >>> 32);
+    }
+}
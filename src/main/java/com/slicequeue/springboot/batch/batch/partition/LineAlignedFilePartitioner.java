@@ -0,0 +1,87 @@
+package com.slicequeue.springboot.batch.batch.partition;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 입력 파일을 라인 경계에 맞춘 바이트 구간으로 나누는 Partitioner
+ * - 파일 크기를 gridSize 로 나눈 지점에서 다음 개행 문자 바로 뒤를 구간 시작점으로 사용함
+ * - 각 파티션 ExecutionContext 에 startOffset, endOffset 을 저장하며 워커 리더는 ByteRangeResource 로 해당 구간만 읽음
+ * - 파티션 ExecutionContext 는 JobRepository 에 저장되므로 재시작 시 실패한 파티션만 같은 구간으로 다시 실행됨
+ */
+public class LineAlignedFilePartitioner implements Partitioner {
+
+    public static final String START_OFFSET_KEY = "startOffset";
+
+    public static final String END_OFFSET_KEY = "endOffset";
+
+    private static final String PARTITION_KEY = "partition";
+
+    private final Resource resource;
+
+    public LineAlignedFilePartitioner(Resource resource) {
+        Assert.notNull(resource, "resource 는 필수입니다.");
+        this.resource = resource;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Assert.isTrue(gridSize > 0, "gridSize 는 0보다 커야 합니다.");
+
+        try {
+            long length = resource.contentLength();
+            Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+            long start = 0;
+
+            for (int i = 0; i < gridSize && start < length; i++) {
+                long end = i == gridSize - 1 ? length : alignToNextLine(length * (i + 1) / gridSize, length);
+
+                if (end > start) {
+                    ExecutionContext context = new ExecutionContext();
+                    context.putLong(START_OFFSET_KEY, start);
+                    context.putLong(END_OFFSET_KEY, end);
+                    partitions.put(PARTITION_KEY + i, context);
+                }
+
+                start = Math.max(start, end);
+            }
+
+            return partitions;
+        } catch (IOException e) {
+            throw new ItemStreamException("입력 파일을 파티션으로 나눌 수 없습니다: " + resource.getDescription(), e);
+        }
+    }
+
+    /**
+     * offset 이후 처음 나오는 개행 문자 바로 다음 위치 반환 (offset 이 라인 시작이면 그대로 반환)
+     */
+    private long alignToNextLine(long offset, long length) throws IOException {
+        if (offset == 0 || offset >= length) {
+            return Math.min(offset, length);
+        }
+
+        try (InputStream inputStream = new BufferedInputStream(resource.getInputStream())) {
+            inputStream.skipNBytes(offset - 1);
+
+            long position = offset - 1;
+            int read;
+            while ((read = inputStream.read()) != -1) {
+                position++;
+                if (read == '\n') {
+                    return position;
+                }
+            }
+
+            return length;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.slicequeue.springboot.batch.batch.pipeline;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PipelinedItemWriter 와 함께 사용하는 리더 래퍼
+ * - 위임 리더의 체크포인트(읽은 위치)를 바로 반영하지 않고, 해당 위치까지의 청크 쓰기가 끝난 뒤에 ExecutionContext 에 반영함
+ * - 입력이 끝나면(read 가 null 반환) 다음 update 에서 남은 쓰기를 모두 기다린 뒤 마지막 체크포인트를 반영함
+ * - 위임 리더는 스텝에 stream 으로 따로 등록하지 않아야 함
+ * - 읽은 아이템으로 상태를 쌓는 스트림(중복 검증기 등)은 deferredStreams 로 지정하여 리더 위치와 같은 시점의 상태를 함께 반영함
+ *   스텝에 stream 으로 등록하면 쓰기가 실패한 청크의 상태까지 먼저 커밋되어, 재시작시 다시 읽은 아이템이 중복으로 걸러짐
+ *
+ * @param <T> 아이템 타입
+ */
+public class PipelinedItemReader<T> implements ItemStreamReader<T>, InitializingBean {
+
+    private ItemStreamReader<? extends T> delegate;
+
+    private PipelinedItemWriter<?> itemWriter;
+
+    private List<ItemStream> deferredStreams = new ArrayList<>();
+
+    private boolean endOfInput;
+
+    @Override
+    public void afterPropertiesSet() {
+        Assert.notNull(delegate, "delegate 는 필수입니다.");
+        Assert.notNull(itemWriter, "itemWriter 는 필수입니다.");
+    }
+
+    @Override
+    public T read() throws Exception {
+        T item = delegate.read();
+
+        if (item == null) {
+            endOfInput = true;
+        }
+        return item;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        endOfInput = false;
+        delegate.open(executionContext);
+
+        for (ItemStream stream : deferredStreams) {
+            stream.open(executionContext);
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        ExecutionContext readerState = new ExecutionContext();
+
+        delegate.update(readerState);
+        for (ItemStream stream : deferredStreams) {
+            stream.update(readerState);
+        }
+
+        itemWriter.checkpoint(readerState, endOfInput, executionContext);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        try {
+            delegate.close();
+        } finally {
+            for (ItemStream stream : deferredStreams) {
+                stream.close();
+            }
+        }
+    }
+
+    public void setDelegate(ItemStreamReader<? extends T> delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * 리더 위치와 함께 쓰기가 끝난 뒤에 체크포인트를 반영할 스트림 (스텝에 stream 으로 따로 등록하지 않음)
+     */
+    public void setDeferredStreams(List<? extends ItemStream> deferredStreams) {
+        this.deferredStreams = new ArrayList<>(deferredStreams);
+    }
+
+    public void setItemWriter(PipelinedItemWriter<?> itemWriter) {
+        this.itemWriter = itemWriter;
+    }
+}
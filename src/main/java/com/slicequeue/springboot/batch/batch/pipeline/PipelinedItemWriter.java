@@ -0,0 +1,220 @@
+package com.slicequeue.springboot.batch.batch.pipeline;
+
+import org.springframework.aop.scope.ScopedObject;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 청크 쓰기를 전용 쓰기 스레드로 넘기고 바로 반환하는 ItemWriter
+ * - 스텝 스레드가 다음 청크를 읽고 처리하는 동안 이전 청크를 쓰기 스레드에서 씀 (AsyncItemProcessor/AsyncItemWriter 와 반대로 쓰기를 비동기화)
+ * - 아직 끝나지 않은 쓰기는 maxInFlight 청크까지만 허용하고, 넘으면 가장 오래된 쓰기가 끝날 때까지 기다림 (메모리 상한)
+ * - 쓰기 스레드는 하나이므로 청크는 입력 순서대로 쓰여짐
+ * - 체크포인트: PipelinedItemReader 와 함께 사용해야 하며, 쓰기가 끝난 청크의 리더/라이터 상태만 ExecutionContext 에 반영함
+ *   따라서 쓰기 실패 후 재시작하면 마지막으로 쓰기가 끝난 청크 다음부터 다시 읽음
+ * - 쓰기 실패는 다음 write/update 호출에서 스텝 스레드로 다시 던져 스텝을 실패시킴
+ * - 쓰기 스레드는 스텝 트랜잭션 밖에서 실행되므로, 롤백된 청크가 이미 쓰였을 수 있음. 위임 라이터는 멱등(upsert, 위치 기반 파일 쓰기 등)이어야 함
+ * - 위임 라이터가 ItemStream 이면 open/close 는 스텝 스레드에서, update 는 쓰기 스레드에서 각 청크를 쓴 직후 호출함
+ * - 위임 라이터가 @StepScope 프록시면 쓰기 스레드에는 스텝 컨텍스트가 없으므로, open 에서(스텝 스레드) 대상 객체로 풀어 쓰기 스레드에 넘김
+ *
+ * @param <T> 아이템 타입
+ */
+public class PipelinedItemWriter<T> implements ItemWriter<T>, ItemStream, InitializingBean {
+
+    private ItemWriter<? super T> delegate;
+
+    private ItemWriter<? super T> writeTarget;
+
+    private int maxInFlight = 2;
+
+    private ExecutorService executorService;
+
+    private final Deque<PendingWrite> pendingWrites = new ArrayDeque<>();
+
+    private ExecutionContext published = new ExecutionContext();
+
+    @Override
+    public void afterPropertiesSet() {
+        Assert.notNull(delegate, "delegate 는 필수입니다.");
+        Assert.isTrue(maxInFlight > 0, "maxInFlight 는 0보다 커야 합니다.");
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        pendingWrites.clear();
+        published = new ExecutionContext();
+
+        if (delegate instanceof ItemStream) {
+            ((ItemStream) delegate).open(executionContext);
+        }
+
+        writeTarget = resolve(delegate);
+
+        executorService = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pipelined-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void write(List<? extends T> items) throws Exception {
+        List<T> chunk = new ArrayList<>(items); // 스텝 스레드가 청크 리스트를 재사용하거나 비울 수 있으므로 복사
+
+        pendingWrites.addLast(new PendingWrite(executorService.submit(() -> writeChunk(chunk))));
+
+        while (pendingWrites.size() > maxInFlight) {
+            complete(pendingWrites.removeFirst());
+        }
+    }
+
+    /**
+     * 체크포인트는 PipelinedItemReader 의 update 를 통해서만 반영함
+     */
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        try {
+            if (executorService != null) {
+                try {
+                    drain();
+                } finally {
+                    executorService.shutdown();
+                    executorService = null;
+                }
+            }
+        } finally {
+            writeTarget = null;
+
+            if (delegate instanceof ItemStream) {
+                ((ItemStream) delegate).close();
+            }
+        }
+    }
+
+    /**
+     * 리더의 현재 상태(readerState)를 마지막으로 쓰기를 요청한 청크에 연결하고,
+     * 쓰기가 끝난 청크들의 리더/라이터 상태를 executionContext 에 반영함
+     *
+     * @param endOfInput true 면 모든 쓰기가 끝날 때까지 기다린 뒤 반영 (마지막 청크)
+     */
+    void checkpoint(ExecutionContext readerState, boolean endOfInput, ExecutionContext executionContext) {
+        PendingWrite last = pendingWrites.peekLast();
+
+        if (last != null) {
+            // 이후 청크가 모두 필터링되었다면 더 뒤의 리더 위치로 덮어씀. 증분으로 기록하는 상태(세그먼트 키 등)가 있으므로 교체하지 않고 합침
+            if (last.readerState == null) {
+                last.readerState = new ExecutionContext();
+            }
+            for (Map.Entry<String, Object> entry : readerState.entrySet()) {
+                last.readerState.put(entry.getKey(), entry.getValue());
+            }
+        } else {
+            merge(readerState);
+        }
+
+        if (endOfInput) {
+            drain();
+        } else {
+            while (!pendingWrites.isEmpty() && pendingWrites.peekFirst().future.isDone()) {
+                complete(pendingWrites.removeFirst());
+            }
+        }
+
+        for (Map.Entry<String, Object> entry : published.entrySet()) {
+            executionContext.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void drain() {
+        while (!pendingWrites.isEmpty()) {
+            complete(pendingWrites.removeFirst());
+        }
+    }
+
+    private ExecutionContext writeChunk(List<T> chunk) throws Exception {
+        writeTarget.write(chunk);
+
+        ExecutionContext writerState = new ExecutionContext();
+        if (writeTarget instanceof ItemStream) {
+            ((ItemStream) writeTarget).update(writerState);
+        }
+        return writerState;
+    }
+
+    /**
+     * 스코프 프록시면 현재(스텝) 스레드의 스텝 컨텍스트로 대상 객체를 찾음
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> ItemWriter<? super T> resolve(ItemWriter<? super T> delegate) {
+        if (delegate instanceof ScopedObject) {
+            return (ItemWriter<? super T>) ((ScopedObject) delegate).getTargetObject();
+        }
+        return delegate;
+    }
+
+    private void complete(PendingWrite pendingWrite) {
+        ExecutionContext writerState;
+        try {
+            writerState = pendingWrite.future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ItemStreamException("청크 쓰기를 기다리는 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            drainQuietly();
+            throw new ItemStreamException("비동기 청크 쓰기에 실패했습니다.", e.getCause());
+        }
+
+        merge(writerState);
+        if (pendingWrite.readerState != null) {
+            merge(pendingWrite.readerState);
+        }
+    }
+
+    private void drainQuietly() {
+        for (PendingWrite pendingWrite : pendingWrites) {
+            pendingWrite.future.cancel(false);
+        }
+        pendingWrites.clear();
+    }
+
+    private void merge(ExecutionContext state) {
+        for (Map.Entry<String, Object> entry : state.entrySet()) {
+            published.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    public void setDelegate(ItemWriter<? super T> delegate) {
+        this.delegate = delegate;
+    }
+
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    private static final class PendingWrite {
+
+        private final Future<ExecutionContext> future;
+        private ExecutionContext readerState;
+
+        private PendingWrite(Future<ExecutionContext> future) {
+            this.future = future;
+        }
+    }
+}
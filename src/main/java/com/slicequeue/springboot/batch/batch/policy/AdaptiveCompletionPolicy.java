@@ -0,0 +1,214 @@
+package com.slicequeue.springboot.batch.batch.policy;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.repeat.RepeatContext;
+import org.springframework.batch.repeat.policy.CompletionPolicySupport;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * 청크 처리(커밋 포함) 시간이 targetCommitMillis 에 가까워지도록 청크 크기를 실행 중에 조절하는 CompletionPolicy
+ * - 청크 크기를 고정(chunk(5))하면 레코드 수가 많을 때 청크마다 발생하는 트랜잭션 커밋/ExecutionContext 저장이 병목이 됨
+ * - 청크 처리 시간은 커밋까지 포함하도록 이전 청크의 beforeChunk 부터 다음 청크의 beforeChunk 까지로 측정함
+ * - 꽉 찬 청크의 처리율로 목표 시간에 맞는 크기를 계산하고, 현재 크기와의 중간값으로 이동함
+ * - 청크 크기는 minChunkSize ~ maxChunkSize 로 제한하며, 힙 사용률이 maxHeapUsage 를 넘거나 청크가 롤백되면 절반으로 줄임
+ * - 힙 사용률은 old generation 풀의 마지막 GC 직후 사용량(MemoryPoolMXBean.getCollectionUsage)으로 판단함
+ *   (totalMemory - freeMemory 는 아직 수거되지 않은 garbage 까지 포함하므로 정상 처리 중에도 청크가 계속 줄어듦)
+ *   old generation 풀을 찾을 수 없는 JVM 에서는 힙 사용률로 청크 크기를 줄이지 않음
+ * - 현재 청크 크기는 Micrometer 게이지(batch.chunk.size, 태그 name)로 노출함
+ * - 스텝에 ChunkListener 로도 등록해야 크기가 조절됨
+ */
+public class AdaptiveCompletionPolicy extends CompletionPolicySupport implements ChunkListener, InitializingBean {
+
+    private static final Log logger = LogFactory.getLog(AdaptiveCompletionPolicy.class);
+
+    public static final String METRIC_NAME = "batch.chunk.size";
+
+    private String name = "adaptive";
+
+    private int minChunkSize = 10;
+
+    private int maxChunkSize = 10_000;
+
+    private int initialChunkSize = 100;
+
+    private long targetCommitMillis = 1_000;
+
+    private double maxHeapUsage = 0.7;
+
+    private LongSupplier clock = System::nanoTime;
+
+    private DoubleSupplier heapUsage = oldGenerationUsage();
+
+    private volatile int chunkSize;
+
+    private long chunkStartNanos;
+
+    private long chunkStartReadCount;
+
+    private StepExecution stepExecution;
+
+    @Override
+    public void afterPropertiesSet() {
+        Assert.isTrue(minChunkSize > 0, "minChunkSize 는 0보다 커야 합니다.");
+        Assert.isTrue(minChunkSize <= maxChunkSize, "minChunkSize 는 maxChunkSize 보다 클 수 없습니다.");
+        Assert.isTrue(targetCommitMillis > 0, "targetCommitMillis 는 0보다 커야 합니다.");
+        Assert.isTrue(maxHeapUsage > 0 && maxHeapUsage <= 1, "maxHeapUsage 는 0 ~ 1 사이여야 합니다.");
+
+        chunkSize = clamp(initialChunkSize);
+
+        Gauge.builder(METRIC_NAME, this, AdaptiveCompletionPolicy::getChunkSize)
+                .description("Chunk size chosen by AdaptiveCompletionPolicy")
+                .tag("name", name)
+                .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public boolean isComplete(RepeatContext context) {
+        return context.getStartedCount() >= chunkSize;
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        long now = clock.getAsLong();
+        StepExecution currentStepExecution = context.getStepContext().getStepExecution();
+        long readCount = currentStepExecution.getReadCount();
+
+        if (stepExecution != currentStepExecution) {
+            stepExecution = currentStepExecution; // 새 스텝 실행(재시작 포함)은 이전 측정값을 사용하지 않음
+            chunkStartNanos = 0;
+        }
+
+        if (chunkStartNanos != 0) {
+            adjust(readCount - chunkStartReadCount, now - chunkStartNanos);
+        }
+
+        chunkStartNanos = now;
+        chunkStartReadCount = readCount;
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        if (heapUsage.getAsDouble() > maxHeapUsage) {
+            resize(chunkSize / 2, "heap usage");
+            chunkStartNanos = 0; // 크기가 바뀐 청크는 처리율 측정에 사용하지 않음
+        }
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        resize(chunkSize / 2, "rollback");
+        chunkStartNanos = 0;
+    }
+
+    private void adjust(long itemCount, long elapsedNanos) {
+        if (itemCount < chunkSize || elapsedNanos <= 0) {
+            return; // 덜 찬 청크는 처리율 측정에 사용하지 않음
+        }
+
+        double itemsPerMilli = itemCount / (elapsedNanos / 1_000_000.0);
+        long desired = Math.round(itemsPerMilli * targetCommitMillis);
+
+        resize((int) Math.min(Integer.MAX_VALUE, (chunkSize + desired) / 2), "throughput");
+    }
+
+    private void resize(int requested, String reason) {
+        int next = clamp(requested);
+
+        if (next != chunkSize) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Chunk size " + chunkSize + " -> " + next + " (" + reason + ")");
+            }
+            chunkSize = next;
+        }
+    }
+
+    private int clamp(int size) {
+        return Math.max(minChunkSize, Math.min(maxChunkSize, size));
+    }
+
+    /**
+     * 오래 살아남은 객체가 모이는 힙 풀의 마지막 GC 직후 사용률 (GC 전이면 0)
+     */
+    private static DoubleSupplier oldGenerationUsage() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isCollectionUsageThresholdSupported() && isLongLived(pool.getName())) {
+                return () -> usage(pool.getCollectionUsage());
+            }
+        }
+
+        logger.info("Old generation memory pool not found; chunk size will not react to heap usage");
+        return () -> 0;
+    }
+
+    private static boolean isLongLived(String poolName) {
+        return poolName.endsWith("Old Gen") // PS, G1, CMS
+                || poolName.endsWith("Tenured Gen") // Serial
+                || poolName.equals("ZHeap") || poolName.equals("ZGC Old Generation")
+                || poolName.equals("Shenandoah");
+    }
+
+    private static double usage(MemoryUsage usage) {
+        if (usage == null) {
+            return 0;
+        }
+
+        long max = usage.getMax() > 0 ? usage.getMax() : Runtime.getRuntime().maxMemory();
+        return (double) usage.getUsed() / max;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public void setMinChunkSize(int minChunkSize) {
+        this.minChunkSize = minChunkSize;
+    }
+
+    public void setMaxChunkSize(int maxChunkSize) {
+        this.maxChunkSize = maxChunkSize;
+    }
+
+    public void setInitialChunkSize(int initialChunkSize) {
+        this.initialChunkSize = initialChunkSize;
+    }
+
+    public void setTargetCommitMillis(long targetCommitMillis) {
+        this.targetCommitMillis = targetCommitMillis;
+    }
+
+    public void setMaxHeapUsage(double maxHeapUsage) {
+        this.maxHeapUsage = maxHeapUsage;
+    }
+
+    /**
+     * 청크 처리 시간 측정용 시계 (나노초, 테스트에서 교체)
+     */
+    void setClock(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * 힙 사용률(0 ~ 1) 측정 방법 (테스트에서 교체)
+     */
+    void setHeapUsage(DoubleSupplier heapUsage) {
+        this.heapUsage = heapUsage;
+    }
+}
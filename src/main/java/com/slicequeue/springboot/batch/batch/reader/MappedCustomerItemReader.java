@@ -0,0 +1,332 @@
+package com.slicequeue.springboot.batch.batch.reader;
+
+import com.slicequeue.springboot.batch.domain.Customer;
+import com.slicequeue.springboot.batch.domain.NumberedCustomer;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 입력 파일을 메모리 맵(FileChannel.map)으로 읽는 Customer 전용 구분자 리더
+ * - FlatFileItemReader 는 라인마다 BufferedReader 라인 → String[] 토큰 → FieldSet → BeanWrapperFieldSetMapper 리플렉션을 거침
+ * - 이 리더는 매핑된 버퍼에서 직접 구분자를 찾고, 라인 바이트를 한 번 복사한 뒤 필드 문자열을 만들어 7개 인자 생성자로 Customer 를 생성함
+ * - 읽은 위치(바이트 오프셋)를 ExecutionContext 에 저장하므로 재시작시 라인을 다시 읽어 건너뛰지 않고 해당 위치부터 바로 읽음
+ * - startOffset/endOffset 을 지정하면 파일의 일부 구간만 읽음 (라인 경계에 맞춰진 구간이어야 함)
+ * - 따옴표(quote) 처리는 지원하지 않으며 필드 안에 구분자가 없는 단순 CSV 를 대상으로 함
+ * - jar 안의 클래스패스 리소스처럼 파일 시스템의 파일이 아닌 리소스(!isFile)는 매핑할 수 없으므로 입력 스트림으로 순차적으로 읽음
+ *   재시작시에는 저장된 위치까지 바이트를 건너뛰며, 리소스가 없으면 open 에서 실패함
+ * - 매핑한 윈도우는 다음 윈도우로 넘어갈 때와 close 에서 바로 해제함 (GC 를 기다리지 않으므로 파일 삭제/교체가 막히지 않음)
+ * - numbered 를 설정하면 NumberedCustomer 를 생성하고 ItemCountAware 로 아이템 번호(빈 라인을 제외한 1부터의 라인 번호, 구간 시작 기준)를 설정함
+ */
+public class MappedCustomerItemReader extends ItemStreamSupport implements ItemStreamReader<Customer> {
+
+    private static final String POSITION_KEY = "position";
+
+    private static final String ITEM_COUNT_KEY = "itemCount";
+
+    private static final int FIELD_COUNT = 7;
+
+    private static final long DEFAULT_WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private Resource resource;
+
+    private byte delimiter = ',';
+
+    private Charset charset = StandardCharsets.UTF_8;
+
+    private long startOffset = 0;
+
+    private long endOffset = -1;
+
+    private long windowSize = DEFAULT_WINDOW_SIZE;
+
+    private boolean numbered;
+
+    private int itemCount;
+
+    private FileChannel channel;
+
+    private MappedByteBuffer window;
+
+    private InputStream input;
+
+    private long windowStart;
+
+    private long limit;
+
+    private long position;
+
+    private byte[] line = new byte[256];
+
+    private final int[] fieldEnds = new int[FIELD_COUNT];
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        Assert.notNull(resource, "resource 는 필수입니다.");
+
+        if (!resource.exists()) {
+            throw new ItemStreamException("입력 파일이 없습니다: " + resource.getDescription());
+        }
+
+        try {
+            position = executionContext.containsKey(getExecutionContextKey(POSITION_KEY))
+                    ? executionContext.getLong(getExecutionContextKey(POSITION_KEY))
+                    : startOffset;
+            itemCount = executionContext.getInt(getExecutionContextKey(ITEM_COUNT_KEY), 0);
+
+            if (resource.isFile()) {
+                channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ);
+                limit = endOffset < 0 ? channel.size() : Math.min(endOffset, channel.size());
+
+                mapWindow(position);
+            } else {
+                input = new BufferedInputStream(resource.getInputStream());
+                limit = endOffset < 0 ? Long.MAX_VALUE : endOffset; // 스트림 끝(-1)에서도 멈춤
+
+                skipTo(position);
+            }
+        } catch (IOException e) {
+            throw new ItemStreamException("입력 파일을 열 수 없습니다: " + resource.getDescription(), e);
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putLong(getExecutionContextKey(POSITION_KEY), position);
+        executionContext.putInt(getExecutionContextKey(ITEM_COUNT_KEY), itemCount);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        unmap(window);
+        window = null;
+
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+            if (input != null) {
+                input.close();
+            }
+        } catch (IOException e) {
+            throw new ItemStreamException("입력 파일을 닫을 수 없습니다: " + resource.getDescription(), e);
+        } finally {
+            channel = null;
+            input = null;
+        }
+    }
+
+    @Override
+    public Customer read() throws Exception {
+        while (position < limit) {
+            int length = readLine();
+
+            if (length > 0) {
+                return mapLine();
+            }
+            // 빈 라인은 건너뜀
+        }
+
+        return null;
+    }
+
+    /**
+     * 현재 위치의 한 라인을 line 버퍼에 복사하고 필드 경계를 기록함. 개행 문자를 제외한 라인 길이 반환
+     */
+    private int readLine() throws IOException {
+        int fieldCount = 0;
+        int length = 0;
+        long cursor = position;
+
+        while (true) {
+            int next = nextByte(cursor);
+            if (next < 0) {
+                limit = cursor; // 스트림 끝
+                break;
+            }
+
+            byte b = (byte) next;
+            cursor++;
+
+            if (b == '\n') {
+                break;
+            }
+            if (b == delimiter && fieldCount < FIELD_COUNT) {
+                fieldEnds[fieldCount++] = length;
+            }
+
+            ensureCapacity(length + 1);
+            line[length++] = b;
+        }
+
+        position = cursor;
+
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        if (length > 0) {
+            itemCount++; // 필드 수가 잘못된 라인도 번호를 차지함 (FirstOccurrenceTasklet 과 같은 기준)
+            if (fieldCount != FIELD_COUNT - 1) {
+                throw new FlatFileParseException("필드 수가 올바르지 않습니다. expected=" + FIELD_COUNT + ", actual=" + (fieldCount + 1),
+                        new String(line, 0, length, charset));
+            }
+            fieldEnds[FIELD_COUNT - 1] = length;
+        }
+
+        return length;
+    }
+
+    private Customer mapLine() {
+        if (numbered) {
+            NumberedCustomer customer = new NumberedCustomer(field(0), field(1), field(2), field(3), field(4), field(5), field(6));
+            customer.setItemCount(itemCount);
+            return customer;
+        }
+
+        return new Customer(
+                field(0),
+                field(1),
+                field(2),
+                field(3),
+                field(4),
+                field(5),
+                field(6));
+    }
+
+    private String field(int index) {
+        int start = index == 0 ? 0 : fieldEnds[index - 1] + 1;
+        int end = fieldEnds[index];
+
+        return new String(line, start, end - start, charset);
+    }
+
+    /**
+     * cursor 위치의 바이트 (구간/파일 끝이면 -1)
+     * - 라인이 윈도우 경계에 걸친 경우 앞부분은 이미 line 버퍼에 복사되었으므로 cursor 위치부터 다음 윈도우를 매핑함
+     */
+    private int nextByte(long cursor) throws IOException {
+        if (cursor >= limit) {
+            return -1;
+        }
+        if (input != null) {
+            return input.read();
+        }
+        if (cursor >= windowStart + window.limit()) {
+            mapWindow(cursor);
+        }
+        return window.get((int) (cursor - windowStart)) & 0xFF;
+    }
+
+    private void mapWindow(long offset) throws IOException {
+        unmap(window);
+        windowStart = offset;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(windowSize, Math.max(0, limit - offset)));
+    }
+
+    private void skipTo(long offset) throws IOException {
+        long remaining = offset;
+
+        while (remaining > 0) {
+            long skipped = input.skip(remaining);
+            if (skipped <= 0) {
+                if (input.read() < 0) {
+                    throw new ItemStreamException("재시작 위치가 입력의 끝을 넘습니다. position=" + offset + ", resource=" + resource.getDescription());
+                }
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
+    }
+
+    /**
+     * 매핑을 바로 해제함. JDK 에 공개 API 가 없으므로 sun.misc.Unsafe.invokeCleaner 를 사용하고, 사용할 수 없으면 GC 에 맡김
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        if (buffer == null || Unmapper.INVOKE_CLEANER == null) {
+            return;
+        }
+
+        try {
+            Unmapper.INVOKE_CLEANER.invoke(Unmapper.UNSAFE, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // 해제하지 못한 매핑은 버퍼가 GC 될 때 해제됨
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > line.length) {
+            byte[] grown = new byte[Math.max(capacity, line.length * 2)];
+            System.arraycopy(line, 0, grown, 0, line.length);
+            line = grown;
+        }
+    }
+
+    public void setResource(Resource resource) {
+        this.resource = resource;
+    }
+
+    public void setDelimiter(char delimiter) {
+        Assert.isTrue(delimiter < 0x80, "구분자는 ASCII 문자여야 합니다.");
+        this.delimiter = (byte) delimiter;
+    }
+
+    public void setCharset(Charset charset) {
+        this.charset = charset;
+    }
+
+    public void setStartOffset(long startOffset) {
+        this.startOffset = startOffset;
+    }
+
+    public void setEndOffset(long endOffset) {
+        this.endOffset = endOffset;
+    }
+
+    public void setNumbered(boolean numbered) {
+        this.numbered = numbered;
+    }
+
+    public void setWindowSize(long windowSize) {
+        Assert.isTrue(windowSize > 0 && windowSize <= Integer.MAX_VALUE, "windowSize 는 1 ~ Integer.MAX_VALUE 범위여야 합니다.");
+        this.windowSize = windowSize;
+    }
+
+    private static final class Unmapper {
+
+        private static final Object UNSAFE;
+
+        private static final Method INVOKE_CLEANER;
+
+        static {
+            Object unsafe = null;
+            Method invokeCleaner = null;
+            try {
+                Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                Field field = unsafeClass.getDeclaredField("theUnsafe");
+                field.setAccessible(true);
+                unsafe = field.get(null);
+                invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                // jdk.unsupported 모듈이 없는 경우
+            }
+            UNSAFE = unsafe;
+            INVOKE_CLEANER = invokeCleaner;
+        }
+    }
+}
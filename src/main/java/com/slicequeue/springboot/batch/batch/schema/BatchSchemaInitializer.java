@@ -0,0 +1,126 @@
+package com.slicequeue.springboot.batch.batch.schema;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.batch.support.DatabaseType;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Spring Batch 메타데이터 테이블이 없을 때만 스키마 스크립트를 실행하는 초기화기
+ * - spring.batch.initialize-schema=always 는 실행할 때마다 DDL 스크립트 전체를 실행하고, 이미 있는 테이블에 대한 오류를 무시함
+ * - 여기서는 DatabaseMetaData 로 현재 카탈로그/스키마에 <tablePrefix>JOB_INSTANCE 테이블이 있는지만 확인하고, 없으면 ResourceDatabasePopulator 로 스크립트를 실행함
+ * - 스크립트 위치의 @@platform@@ 은 DatabaseType 으로 확인한 DB 종류를 Spring Batch 스크립트 이름(mysql, h2, postgresql, hsqldb, oracle10g 등)으로 바꿈
+ *   DatabaseType 이름과 스크립트 이름이 다른 DB 는 PLATFORMS 에 명시하며, platform 을 지정하면 확인하지 않고 그대로 사용함
+ * - JobRepository 가 테이블을 사용하기 전에 실행되도록 싱글톤 빈으로 등록하며, spring.batch.initialize-schema 는 never 로 둠
+ */
+public class BatchSchemaInitializer implements InitializingBean {
+
+    private static final Log logger = LogFactory.getLog(BatchSchemaInitializer.class);
+
+    private static final String DEFAULT_SCHEMA = "classpath:org/springframework/batch/core/schema-@@platform@@.sql";
+
+    private static final String PLATFORM_PLACEHOLDER = "@@platform@@";
+
+    private static final Map<DatabaseType, String> PLATFORMS = new EnumMap<>(DatabaseType.class);
+
+    static {
+        PLATFORMS.put(DatabaseType.POSTGRES, "postgresql");
+        PLATFORMS.put(DatabaseType.HSQL, "hsqldb");
+        PLATFORMS.put(DatabaseType.ORACLE, "oracle10g");
+        PLATFORMS.put(DatabaseType.DB2VSE, "db2");
+        PLATFORMS.put(DatabaseType.DB2ZOS, "db2");
+        PLATFORMS.put(DatabaseType.DB2AS400, "db2");
+    }
+
+    private final DataSource dataSource;
+
+    private String tablePrefix = "BATCH_";
+
+    private String schema = DEFAULT_SCHEMA;
+
+    private String platform;
+
+    private ResourceLoader resourceLoader = new DefaultResourceLoader();
+
+    public BatchSchemaInitializer(DataSource dataSource) {
+        Assert.notNull(dataSource, "dataSource 는 필수입니다.");
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        String tableName = tablePrefix + "JOB_INSTANCE";
+
+        if (JdbcUtils.extractDatabaseMetaData(dataSource, metaData -> tableExists(metaData, tableName))) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Batch schema already exists, skipping initialization: " + tableName);
+            }
+            return;
+        }
+
+        String location = schema.replace(PLATFORM_PLACEHOLDER, platform != null ? platform : platform(DatabaseType.fromMetaData(dataSource)));
+
+        logger.info("Initializing batch schema: " + location);
+        new ResourceDatabasePopulator(resourceLoader.getResource(location)).execute(dataSource);
+    }
+
+    /**
+     * Spring Batch 스키마 스크립트 이름에 쓰이는 DB 종류 (schema-<platform>.sql)
+     */
+    static String platform(DatabaseType databaseType) {
+        return PLATFORMS.getOrDefault(databaseType, databaseType.name().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * DB 마다 식별자 대소문자 저장 방식이 다르므로 그대로/대문자/소문자 이름을 차례로 확인
+     */
+    private static boolean tableExists(DatabaseMetaData metaData, String tableName) throws SQLException {
+        String catalog = metaData.getConnection().getCatalog();
+        String schemaPattern = metaData.getConnection().getSchema();
+
+        for (String name : new String[]{tableName, tableName.toUpperCase(Locale.ROOT), tableName.toLowerCase(Locale.ROOT)}) {
+            try (ResultSet tables = metaData.getTables(catalog, schemaPattern, name, new String[]{"TABLE"})) {
+                if (tables.next()) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    public void setTablePrefix(String tablePrefix) {
+        this.tablePrefix = tablePrefix;
+    }
+
+    /**
+     * 스키마 스크립트 위치 (기본값: Spring Batch 의 schema-@@platform@@.sql)
+     */
+    public void setSchema(String schema) {
+        this.schema = schema;
+    }
+
+    /**
+     * @@platform@@ 을 바꿀 값 (기본값: DatabaseType 으로 확인)
+     */
+    public void setPlatform(String platform) {
+        this.platform = platform;
+    }
+
+    public void setResourceLoader(ResourceLoader resourceLoader) {
+        this.resourceLoader = resourceLoader;
+    }
+}
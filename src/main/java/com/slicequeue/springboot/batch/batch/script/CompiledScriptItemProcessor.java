@@ -0,0 +1,308 @@
+package com.slicequeue.springboot.batch.batch.script;
+
+import com.slicequeue.springboot.batch.batch.chunk.ChunkItemProcessor;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+import org.springframework.util.FileCopyUtils;
+import org.springframework.util.StringUtils;
+
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineManager;
+import javax.script.ScriptException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * ScriptItemProcessor 를 그대로 대체할 수 있는 스크립트 프로세서
+ * - ScriptItemProcessor 는 아이템마다 새로운 Bindings(Nashorn 의 경우 새로운 Global)를 만들고 스크립트를 평가함
+ * - 이 구현체는 스크립트를 한 번만 컴파일(Compilable/CompiledScript)하고, 스레드별 Bindings 를 재사용함
+ * - 컴파일 결과는 리소스 + lastModified 기준으로 캐시되어 스텝 스코프 재생성이나 재시작시 다시 파싱하지 않음
+ * - chunkScript 를 지정하면 청크(또는 경로별 하위 배치) 전체를 "items" 변수로 바인딩하여 엔진 호출 한 번으로 처리함
+ * - itemType 을 지정하면 필드 매핑만 하는 단순한 JavaScript 는 시작 시점에 바이트코드로 번역하여 스크립트 엔진 없이 호출함 (ScriptTranslator)
+ *   번역할 수 없는 스크립트는 기존처럼 스크립트 엔진으로 처리함. chunkScript 를 지정하면 명시한 설정을 따르도록 번역하지 않음
+ * - ScriptEngineManager(클래스패스의 엔진 팩토리를 ServiceLoader 로 탐색)는 처음 컴파일할 때 만들므로, 번역된 스크립트만 쓰면 엔진을 초기화하지 않음
+ *
+ * @param <I> 입력 아이템 타입
+ * @param <O> 출력 아이템 타입
+ */
+public class CompiledScriptItemProcessor<I, O> implements ItemProcessor<I, O>, ChunkItemProcessor<I, O>, InitializingBean {
+
+    public static final String ITEM_BINDING_VARIABLE_NAME = "item";
+
+    public static final String ITEMS_BINDING_VARIABLE_NAME = "items";
+
+    private static final Map<ScriptKey, CompiledScript> COMPILED_SCRIPTS = new ConcurrentHashMap<>();
+
+    private static final Map<List<Object>, Function<Object, Object>> TRANSLATED_SCRIPTS = new ConcurrentHashMap<>();
+
+    private static final Function<Object, Object> NOT_TRANSLATABLE = item -> item;
+
+    private static final List<String> JAVASCRIPT_ENGINE_NAMES = Arrays.asList("js", "javascript", "ecmascript", "nashorn");
+
+    private Resource script;
+
+    private String language;
+
+    private String itemBindingVariableName = ITEM_BINDING_VARIABLE_NAME;
+
+    private Resource chunkScript;
+
+    private String itemsBindingVariableName = ITEMS_BINDING_VARIABLE_NAME;
+
+    private Class<?> itemType;
+
+    private Function<Object, Object> translatedScript;
+
+    private CompiledScript compiledScript;
+
+    private CompiledScript compiledChunkScript;
+
+    private ThreadLocal<Bindings> bindings;
+
+    private ThreadLocal<Bindings> chunkBindings;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        Assert.notNull(script, "script 리소스는 필수입니다.");
+
+        if (itemType != null && chunkScript == null) {
+            this.translatedScript = translate(script, language, itemType, itemBindingVariableName);
+            if (translatedScript != null) {
+                return;
+            }
+        }
+
+        this.compiledScript = compile(script, language);
+        if (chunkScript != null) {
+            this.compiledChunkScript = compile(chunkScript, language);
+            this.chunkBindings = ThreadLocal.withInitial(() -> compiledChunkScript.getEngine().createBindings());
+        }
+        this.bindings = ThreadLocal.withInitial(() -> compiledScript.getEngine().createBindings());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public O process(I item) throws Exception {
+        if (translatedScript != null) {
+            return (O) translatedScript.apply(item);
+        }
+
+        Bindings threadBindings = bindings.get();
+
+        threadBindings.put(itemBindingVariableName, item);
+        try {
+            return (O) compiledScript.eval(threadBindings);
+        } finally {
+            threadBindings.remove(itemBindingVariableName); // 다음 아이템 처리 전까지 이전 아이템 참조를 들고 있지 않도록 함
+        }
+    }
+
+    /**
+     * chunkScript 가 있으면 하위 배치 전체를 한 번에 평가하고, 없으면 아이템마다 script 를 평가함
+     * - chunkScript 는 입력과 같은 크기, 같은 순서의 List 를 반환해야 함
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<O> processChunk(List<? extends I> items) throws Exception {
+        if (compiledChunkScript == null) { // 번역된 경우 포함
+            List<O> outputs = new ArrayList<>(items.size());
+            for (I item : items) {
+                outputs.add(process(item));
+            }
+            return outputs;
+        }
+
+        Bindings threadBindings = chunkBindings.get(); // 엔진(Global)이 다르므로 script 와 Bindings 를 공유하지 않음
+
+        threadBindings.put(itemsBindingVariableName, items);
+        try {
+            Object result = compiledChunkScript.eval(threadBindings);
+            Assert.state(result instanceof List, "chunkScript 는 List 를 반환해야 합니다: " + result);
+
+            return new ArrayList<>((List<O>) result);
+        } finally {
+            threadBindings.remove(itemsBindingVariableName);
+        }
+    }
+
+    /**
+     * 스크립트 캐시를 비움 (테스트 또는 스크립트 핫 리로드용)
+     */
+    public static void clearCache() {
+        COMPILED_SCRIPTS.clear();
+        TRANSLATED_SCRIPTS.clear();
+    }
+
+    /**
+     * @return 번역한 변환 함수, JavaScript 가 아니거나 지원하지 않는 문법이면 null
+     */
+    static Function<Object, Object> translate(Resource script, String language, Class<?> itemType, String itemVariable)
+            throws IOException {
+        String engineName = resolveEngineName(script, language);
+        if (!JAVASCRIPT_ENGINE_NAMES.contains(engineName.toLowerCase(Locale.ROOT))) {
+            return null;
+        }
+
+        long lastModified = lastModified(script);
+        String source = lastModified < 0 ? read(script) : null;
+        List<Object> key = Arrays.asList(new ScriptKey(script.getDescription(), lastModified, engineName, source), itemType, itemVariable);
+
+        Function<Object, Object> cached = TRANSLATED_SCRIPTS.get(key);
+        if (cached == null) {
+            Function<Object, Object> translated = ScriptTranslator.translate(source != null ? source : read(script), itemVariable, itemType);
+            Function<Object, Object> previous = TRANSLATED_SCRIPTS.putIfAbsent(key, translated != null ? translated : NOT_TRANSLATABLE);
+            cached = previous != null ? previous : (translated != null ? translated : NOT_TRANSLATABLE);
+        }
+
+        return cached != NOT_TRANSLATABLE ? cached : null;
+    }
+
+    static CompiledScript compile(Resource script, String language) throws IOException, ScriptException {
+        String engineName = resolveEngineName(script, language);
+        String source = null;
+        long lastModified = lastModified(script);
+
+        if (lastModified < 0) {
+            // lastModified 를 얻을 수 없는 리소스는 스크립트 내용 자체를 키로 사용함
+            source = read(script);
+        }
+
+        ScriptKey key = new ScriptKey(script.getDescription(), lastModified, engineName, source);
+        CompiledScript cached = COMPILED_SCRIPTS.get(key);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        ScriptEngine engine = getEngine(engineName);
+        Assert.state(engine instanceof Compilable, "스크립트 엔진이 Compilable 을 지원하지 않습니다: " + engineName);
+
+        CompiledScript compiled = ((Compilable) engine).compile(source != null ? source : read(script));
+        CompiledScript previous = COMPILED_SCRIPTS.putIfAbsent(key, compiled);
+
+        return previous != null ? previous : compiled;
+    }
+
+    private static String resolveEngineName(Resource script, String language) {
+        if (StringUtils.hasText(language)) {
+            return language;
+        }
+
+        String extension = StringUtils.getFilenameExtension(script.getFilename());
+        Assert.hasText(extension, "스크립트 언어를 확인할 수 없습니다. language 를 지정하세요: " + script.getDescription());
+
+        return extension;
+    }
+
+    private static ScriptEngine getEngine(String engineName) {
+        ScriptEngineManager engineManager = EngineManagerHolder.ENGINE_MANAGER;
+        ScriptEngine engine = engineManager.getEngineByExtension(engineName);
+
+        if (engine == null) {
+            engine = engineManager.getEngineByName(engineName);
+        }
+
+        Assert.notNull(engine, "스크립트 엔진을 찾을 수 없습니다: " + engineName);
+
+        return engine;
+    }
+
+    private static long lastModified(Resource script) {
+        try {
+            return script.lastModified();
+        } catch (IOException e) {
+            return -1L;
+        }
+    }
+
+    private static String read(Resource script) throws IOException {
+        try (Reader reader = new InputStreamReader(script.getInputStream(), StandardCharsets.UTF_8)) {
+            return FileCopyUtils.copyToString(reader);
+        }
+    }
+
+    public void setScript(Resource script) {
+        this.script = script;
+    }
+
+    public void setLanguage(String language) {
+        this.language = language;
+    }
+
+    public void setItemBindingVariableName(String itemBindingVariableName) {
+        this.itemBindingVariableName = itemBindingVariableName;
+    }
+
+    public void setChunkScript(Resource chunkScript) {
+        this.chunkScript = chunkScript;
+    }
+
+    public void setItemsBindingVariableName(String itemsBindingVariableName) {
+        this.itemsBindingVariableName = itemsBindingVariableName;
+    }
+
+    /**
+     * 지정하면 스크립트를 이 타입에 대한 바이트코드로 번역 시도 (지정하지 않거나 chunkScript 를 지정하면 항상 스크립트 엔진으로 처리)
+     */
+    public void setItemType(Class<?> itemType) {
+        this.itemType = itemType;
+    }
+
+    /**
+     * @return 스크립트가 바이트코드로 번역되어 스크립트 엔진 없이 처리되는지 여부
+     */
+    public boolean isTranslated() {
+        return translatedScript != null;
+    }
+
+    private static final class EngineManagerHolder {
+
+        private static final ScriptEngineManager ENGINE_MANAGER = new ScriptEngineManager();
+    }
+
+    private static final class ScriptKey {
+
+        private final String description;
+        private final long lastModified;
+        private final String engineName;
+        private final String source;
+
+        private ScriptKey(String description, long lastModified, String engineName, String source) {
+            this.description = description;
+            this.lastModified = lastModified;
+            this.engineName = engineName;
+            this.source = source;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ScriptKey)) return false;
+            ScriptKey that = (ScriptKey) o;
+            return lastModified == that.lastModified
+                    && description.equals(that.description)
+                    && engineName.equals(that.engineName)
+                    && Objects.equals(source, that.source);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(description, lastModified, engineName, source);
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package com.slicequeue.springboot.batch.batch.script;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 필드 매핑만 하는 단순한 JavaScript 를 아이템 타입에 대한 자바 바이트코드로 번역
+ * - 지원하는 형식 (lowerCase.js, upperCase.js 형태)
+ *   item.setX(식); 을 0개 이상 나열하고 마지막에 item; 으로 아이템을 반환
+ *   식 := item.getY() 또는 문자열 리터럴, 뒤에 .toLowerCase() / .toUpperCase() 를 이어서 호출할 수 있음
+ * - 주석(//, 블록 주석)과 공백은 무시하며, 그 외 문법이 있으면 번역하지 않고 null 을 반환함 (스크립트 엔진으로 처리)
+ * - Nashorn 과 결과가 같도록 toLowerCase/toUpperCase 는 Locale.ROOT 로 호출함
+ * - 생성한 클래스는 아이템 타입의 클래스로더를 부모로 하는 전용 클래스로더에 정의하며 public 멤버만 호출함
+ */
+final class ScriptTranslator {
+
+    private static final Log logger = LogFactory.getLog(ScriptTranslator.class);
+
+    private static final AtomicInteger CLASS_COUNTER = new AtomicInteger();
+
+    private static final String CLASS_NAME_PREFIX = Type.getInternalName(ScriptTranslator.class) + "$Translated";
+
+    private ScriptTranslator() {
+    }
+
+    /**
+     * @return 번역한 변환 함수 (입력 아이템을 변경하고 그대로 반환), 지원하지 않는 스크립트면 null
+     */
+    static Function<Object, Object> translate(String source, String itemVariable, Class<?> itemType) {
+        if (!Modifier.isPublic(itemType.getModifiers())) {
+            return null;
+        }
+
+        List<Assignment> assignments = new Parser(source, itemVariable, itemType).parse();
+        if (assignments == null) {
+            return null;
+        }
+
+        try {
+            return define(itemType, generate(itemType, assignments));
+        } catch (ReflectiveOperationException | LinkageError e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Script translation failed, falling back to script engine", e);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * public final class ...$TranslatedN implements Function {
+     *     public Object apply(Object o) { T item = (T) o; item.setX(...); ...; return o; }
+     * }
+     */
+    private static byte[] generate(Class<?> itemType, List<Assignment> assignments) {
+        String className = CLASS_NAME_PREFIX + CLASS_COUNTER.incrementAndGet();
+        String owner = Type.getInternalName(itemType);
+
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS); // 분기가 없으므로 스택 맵 프레임이 필요 없음
+        cw.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER, className, null,
+                "java/lang/Object", new String[]{"java/util/function/Function"});
+
+        MethodVisitor init = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        init.visitCode();
+        init.visitVarInsn(Opcodes.ALOAD, 0);
+        init.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        init.visitInsn(Opcodes.RETURN);
+        init.visitMaxs(0, 0);
+        init.visitEnd();
+
+        MethodVisitor apply = cw.visitMethod(Opcodes.ACC_PUBLIC, "apply", "(Ljava/lang/Object;)Ljava/lang/Object;", null, null);
+        apply.visitCode();
+        apply.visitVarInsn(Opcodes.ALOAD, 1);
+        apply.visitTypeInsn(Opcodes.CHECKCAST, owner);
+        apply.visitVarInsn(Opcodes.ASTORE, 2);
+
+        for (Assignment assignment : assignments) {
+            apply.visitVarInsn(Opcodes.ALOAD, 2);
+
+            Expression value = assignment.value;
+            if (value.getter != null) {
+                apply.visitVarInsn(Opcodes.ALOAD, 2);
+                invoke(apply, itemType, owner, value.getter);
+            } else {
+                apply.visitLdcInsn(value.literal);
+            }
+
+            for (String function : value.functions) {
+                apply.visitFieldInsn(Opcodes.GETSTATIC, "java/util/Locale", "ROOT", "Ljava/util/Locale;");
+                apply.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/String", function,
+                        "(Ljava/util/Locale;)Ljava/lang/String;", false);
+            }
+
+            invoke(apply, itemType, owner, assignment.setter);
+
+            Class<?> returnType = assignment.setter.getReturnType();
+            if (returnType == long.class || returnType == double.class) {
+                apply.visitInsn(Opcodes.POP2);
+            } else if (returnType != void.class) {
+                apply.visitInsn(Opcodes.POP);
+            }
+        }
+
+        apply.visitVarInsn(Opcodes.ALOAD, 1);
+        apply.visitInsn(Opcodes.ARETURN);
+        apply.visitMaxs(0, 0);
+        apply.visitEnd();
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    private static void invoke(MethodVisitor mv, Class<?> itemType, String owner, Method method) {
+        boolean isInterface = itemType.isInterface();
+        mv.visitMethodInsn(isInterface ? Opcodes.INVOKEINTERFACE : Opcodes.INVOKEVIRTUAL, owner, method.getName(),
+                Type.getMethodDescriptor(method), isInterface);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> define(Class<?> itemType, byte[] bytecode) throws ReflectiveOperationException {
+        ClassLoader parent = itemType.getClassLoader() != null ? itemType.getClassLoader() : ScriptTranslator.class.getClassLoader();
+        Class<?> translated = new TranslatedScriptClassLoader(parent).define(bytecode);
+
+        return (Function<Object, Object>) translated.getDeclaredConstructor().newInstance();
+    }
+
+    private static final class TranslatedScriptClassLoader extends ClassLoader {
+
+        private TranslatedScriptClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        private Class<?> define(byte[] bytecode) {
+            return defineClass(null, bytecode, 0, bytecode.length);
+        }
+    }
+
+    private static final class Assignment {
+
+        private final Method setter;
+        private final Expression value;
+
+        private Assignment(Method setter, Expression value) {
+            this.setter = setter;
+            this.value = value;
+        }
+    }
+
+    private static final class Expression {
+
+        private Method getter;
+        private String literal;
+        private final List<String> functions = new ArrayList<>();
+
+        private Class<?> type() {
+            return getter != null ? getter.getReturnType() : String.class;
+        }
+    }
+
+    /**
+     * 지원하는 문법만 인식하는 토크나이저 + 재귀 하강 파서. 지원하지 않는 문법을 만나면 null 을 반환함
+     */
+    private static final class Parser {
+
+        private static final String LITERAL_PREFIX = "'";
+
+        private final String source;
+        private final String itemVariable;
+        private final Class<?> itemType;
+        private List<String> tokens;
+        private int position;
+
+        private Parser(String source, String itemVariable, Class<?> itemType) {
+            this.source = source;
+            this.itemVariable = itemVariable;
+            this.itemType = itemType;
+        }
+
+        private List<Assignment> parse() {
+            tokens = tokenize();
+            if (tokens == null) {
+                return null;
+            }
+
+            List<Assignment> assignments = new ArrayList<>();
+
+            while (itemVariable.equals(peek(0)) && ".".equals(peek(1))) {
+                Assignment assignment = assignment();
+                if (assignment == null) {
+                    return null;
+                }
+                assignments.add(assignment);
+            }
+
+            // 마지막 문장은 아이템 자체여야 함 (Nashorn 은 마지막 식의 값을 반환)
+            if (!accept(itemVariable)) {
+                return null;
+            }
+            accept(";");
+
+            return position == tokens.size() ? assignments : null;
+        }
+
+        private Assignment assignment() {
+            position += 2; // item .
+
+            String setterName = next();
+            if (setterName == null || !accept("(")) {
+                return null;
+            }
+
+            Expression value = expression();
+            if (value == null || !accept(")") || !accept(";")) {
+                return null;
+            }
+
+            Method setter = setter(setterName, value.type());
+            return setter != null ? new Assignment(setter, value) : null;
+        }
+
+        private Expression expression() {
+            Expression expression = new Expression();
+            String token = next();
+
+            if (token == null) {
+                return null;
+            } else if (token.startsWith(LITERAL_PREFIX)) {
+                expression.literal = token.substring(LITERAL_PREFIX.length());
+            } else if (token.equals(itemVariable) && accept(".")) {
+                String getterName = next();
+                if (getterName == null || !accept("(") || !accept(")")) {
+                    return null;
+                }
+                expression.getter = getter(getterName);
+                if (expression.getter == null) {
+                    return null;
+                }
+            } else {
+                return null;
+            }
+
+            while (".".equals(peek(0))) {
+                position++;
+                String function = next();
+                if (!"toLowerCase".equals(function) && !"toUpperCase".equals(function)) {
+                    return null;
+                }
+                if (expression.type() != String.class || !accept("(") || !accept(")")) {
+                    return null;
+                }
+                expression.functions.add(function);
+            }
+
+            return expression;
+        }
+
+        private Method getter(String name) {
+            try {
+                Method getter = itemType.getMethod(name);
+                return getter.getReturnType() != void.class ? getter : null;
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+
+        /**
+         * 이름이 같은 public 단일 인자 메서드가 하나뿐이고 값 타입을 그대로 받을 수 있을 때만 번역 (오버로드 해석은 스크립트 엔진에 맡김)
+         */
+        private Method setter(String name, Class<?> valueType) {
+            Method setter = null;
+
+            for (Method method : itemType.getMethods()) {
+                if (method.getName().equals(name) && method.getParameterCount() == 1) {
+                    if (setter != null) {
+                        return null;
+                    }
+                    setter = method;
+                }
+            }
+
+            if (setter == null) {
+                return null;
+            }
+
+            Class<?> parameterType = setter.getParameterTypes()[0];
+            boolean assignable = parameterType.isPrimitive() ? parameterType == valueType : parameterType.isAssignableFrom(valueType);
+
+            return assignable ? setter : null;
+        }
+
+        private List<String> tokenize() {
+            List<String> tokens = new ArrayList<>();
+            int length = source.length();
+            int i = 0;
+
+            while (i < length) {
+                char c = source.charAt(i);
+
+                if (Character.isWhitespace(c)) {
+                    i++;
+                } else if (source.startsWith("//", i)) {
+                    int end = source.indexOf('\n', i);
+                    i = end < 0 ? length : end + 1;
+                } else if (source.startsWith("/*", i)) {
+                    int end = source.indexOf("*/", i + 2);
+                    if (end < 0) {
+                        return null;
+                    }
+                    i = end + 2;
+                } else if (c == '.' || c == '(' || c == ')' || c == ';') {
+                    tokens.add(String.valueOf(c));
+                    i++;
+                } else if (c == '\'' || c == '"') {
+                    int end = source.indexOf(c, i + 1);
+                    if (end < 0) {
+                        return null;
+                    }
+                    String literal = source.substring(i + 1, end);
+                    if (literal.indexOf('\\') >= 0 || literal.indexOf('\n') >= 0) {
+                        return null; // 이스케이프 해석은 지원하지 않음
+                    }
+                    tokens.add(LITERAL_PREFIX + literal);
+                    i = end + 1;
+                } else if (Character.isJavaIdentifierStart(c)) {
+                    int start = i;
+                    while (i < length && Character.isJavaIdentifierPart(source.charAt(i))) {
+                        i++;
+                    }
+                    tokens.add(source.substring(start, i));
+                } else {
+                    return null;
+                }
+            }
+
+            return tokens;
+        }
+
+        private String peek(int offset) {
+            int index = position + offset;
+            return index < tokens.size() ? tokens.get(index) : null;
+        }
+
+        private String next() {
+            return position < tokens.size() ? tokens.get(position++) : null;
+        }
+
+        private boolean accept(String token) {
+            if (token.equals(peek(0))) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.slicequeue.springboot.batch.batch.transform;
+
+import java.util.Locale;
+
+/**
+ * ASCII 빠른 경로를 가진 대소문자 변환
+ * - 변환할 문자가 없으면 새 String 을 만들지 않고 같은 인스턴스를 반환함
+ * - ASCII 가 아닌 문자가 있으면 String.toUpperCase(Locale.ROOT)/toLowerCase(Locale.ROOT) 로 처리함
+ *   ASCII 빠른 경로와 같은 규칙을 쓰도록 기본 로케일(예: tr-TR 의 i -> İ)에 영향받지 않게 함
+ */
+public final class AsciiCase {
+
+    private AsciiCase() {
+    }
+
+    public static String toUpperCase(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        int length = value.length();
+        int first = -1;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                return value.toUpperCase(Locale.ROOT);
+            }
+            if (first < 0 && c >= 'a' && c <= 'z') {
+                first = i;
+            }
+        }
+
+        if (first < 0) {
+            return value;
+        }
+
+        char[] chars = value.toCharArray();
+        for (int i = first; i < length; i++) {
+            char c = chars[i];
+            if (c >= 'a' && c <= 'z') {
+                chars[i] = (char) (c - ('a' - 'A'));
+            }
+        }
+        return new String(chars);
+    }
+
+    public static String toLowerCase(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        int length = value.length();
+        int first = -1;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                return value.toLowerCase(Locale.ROOT);
+            }
+            if (first < 0 && c >= 'A' && c <= 'Z') {
+                first = i;
+            }
+        }
+
+        if (first < 0) {
+            return value;
+        }
+
+        char[] chars = value.toCharArray();
+        for (int i = first; i < length; i++) {
+            char c = chars[i];
+            if (c >= 'A' && c <= 'Z') {
+                chars[i] = (char) (c + ('a' - 'A'));
+            }
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,35 @@
+package com.slicequeue.springboot.batch.batch.transform;
+
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.util.Assert;
+
+import java.util.List;
+
+/**
+ * 위임 단계들이 같은 아이템을 그 자리에서 변경하는 CompositeItemProcessor
+ * - CompositeItemProcessor 는 단계마다 새 객체를 반환할 수 있어 레코드당 여러 객체/문자열이 만들어짐
+ * - 이 프로세서는 리더가 만든 아이템 하나만 끝까지 사용하므로 writer 로 전달되는 객체는 레코드당 정확히 하나임
+ *
+ * @param <T> 아이템 타입
+ */
+public class InPlaceCompositeItemProcessor<T> implements ItemProcessor<T, T> {
+
+    private final ItemMutator<? super T>[] mutators;
+
+    @SuppressWarnings("unchecked")
+    public InPlaceCompositeItemProcessor(List<? extends ItemMutator<? super T>> mutators) {
+        Assert.notEmpty(mutators, "ItemMutator 가 하나 이상 필요합니다.");
+        this.mutators = mutators.toArray(new ItemMutator[0]);
+    }
+
+    @Override
+    public T process(T item) throws Exception {
+        for (ItemMutator<? super T> mutator : mutators) {
+            if (!mutator.mutate(item)) {
+                return null;
+            }
+        }
+
+        return item;
+    }
+}
@@ -0,0 +1,33 @@
+package com.slicequeue.springboot.batch.batch.transform;
+
+import org.springframework.batch.item.ItemProcessor;
+
+/**
+ * 아이템을 새로 만들지 않고 그 자리에서 변경하는 변환 단계
+ *
+ * @param <T> 아이템 타입
+ */
+@FunctionalInterface
+public interface ItemMutator<T> {
+
+    /**
+     * item 을 직접 변경함. false 를 반환하면 아이템을 필터링함
+     */
+    boolean mutate(T item) throws Exception;
+
+    /**
+     * 입력 아이템을 그대로(또는 null 을) 반환하는 ItemProcessor 를 ItemMutator 로 사용
+     * - ValidatingItemProcessor, lowerCase.js 를 실행하는 스크립트 프로세서 등
+     * - 다른 인스턴스를 반환하면 레코드당 하나의 객체만 writer 로 전달된다는 보장이 깨지므로 예외를 던짐
+     */
+    static <T> ItemMutator<T> of(ItemProcessor<T, T> itemProcessor) {
+        return item -> {
+            T result = itemProcessor.process(item);
+
+            if (result != null && result != item) {
+                throw new IllegalStateException("ItemMutator 로 사용하는 ItemProcessor 는 입력 아이템을 그대로 반환해야 합니다: " + itemProcessor);
+            }
+            return result != null;
+        };
+    }
+}
@@ -0,0 +1,131 @@
+package com.slicequeue.springboot.batch.batch.unique;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.util.Assert;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.BitSet;
+
+/**
+ * 블룸 필터 기반 근사 중복 판정 저장소
+ * - 예상 건수(expectedInsertions)와 오탐률(falsePositiveRate)로 비트 수/해시 수를 정하므로 메모리는 레코드 수와 무관하게 고정됨
+ * - 중복을 놓치는 경우는 없지만, 오탐률만큼 처음 보는 값도 중복으로 판정될 수 있음
+ * - 비트 배열을 블록(기본 1024 long = 8KB) 단위로 나누어, 체크포인트시 마지막 체크포인트 이후 변경된 블록만 기록함
+ */
+public class BloomFilterUniquenessStore implements UniquenessStore {
+
+    private static final String BLOCK_KEY = ".bloom.";
+
+    private static final String SHAPE_KEY = ".bloom.shape";
+
+    private static final int WORDS_PER_BLOCK = 1024;
+
+    private final long[] words;
+
+    private final long bitCount;
+
+    private final int hashCount;
+
+    private final BitSet dirtyBlocks;
+
+    public BloomFilterUniquenessStore(long expectedInsertions, double falsePositiveRate) {
+        Assert.isTrue(expectedInsertions > 0, "expectedInsertions 는 0보다 커야 합니다.");
+        Assert.isTrue(falsePositiveRate > 0 && falsePositiveRate < 1, "falsePositiveRate 는 0 ~ 1 사이여야 합니다.");
+
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, (bits + Long.SIZE - 1) / Long.SIZE);
+
+        this.words = new long[wordCount];
+        this.bitCount = (long) wordCount * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        this.dirtyBlocks = new BitSet((wordCount + WORDS_PER_BLOCK - 1) / WORDS_PER_BLOCK);
+    }
+
+    @Override
+    public boolean add(String key) {
+        long hash = hash64(key);
+        long h1 = hash;
+        long h2 = fmix64(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+        boolean added = false;
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+
+            if ((words[word] & mask) == 0) {
+                words[word] |= mask;
+                dirtyBlocks.set(word / WORDS_PER_BLOCK);
+                added = true;
+            }
+        }
+
+        return added;
+    }
+
+    @Override
+    public void checkpoint(ExecutionContext executionContext, String keyPrefix) {
+        executionContext.putString(keyPrefix + SHAPE_KEY, shape());
+
+        for (int block = dirtyBlocks.nextSetBit(0); block >= 0; block = dirtyBlocks.nextSetBit(block + 1)) {
+            int from = block * WORDS_PER_BLOCK;
+            int to = Math.min(from + WORDS_PER_BLOCK, words.length);
+            ByteBuffer buffer = ByteBuffer.allocate((to - from) * Long.BYTES);
+
+            buffer.asLongBuffer().put(words, from, to - from);
+            executionContext.putString(keyPrefix + BLOCK_KEY + block, Base64.getEncoder().encodeToString(buffer.array()));
+        }
+
+        dirtyBlocks.clear();
+    }
+
+    @Override
+    public void restore(ExecutionContext executionContext, String keyPrefix) {
+        if (!executionContext.containsKey(keyPrefix + SHAPE_KEY)) {
+            return;
+        }
+
+        Assert.state(shape().equals(executionContext.getString(keyPrefix + SHAPE_KEY)),
+                "저장된 블룸 필터 설정과 현재 설정이 다릅니다. expectedInsertions/falsePositiveRate 를 변경하지 마세요.");
+
+        int blockCount = (words.length + WORDS_PER_BLOCK - 1) / WORDS_PER_BLOCK;
+        for (int block = 0; block < blockCount; block++) {
+            String key = keyPrefix + BLOCK_KEY + block;
+
+            if (executionContext.containsKey(key)) {
+                int from = block * WORDS_PER_BLOCK;
+                ByteBuffer.wrap(Base64.getDecoder().decode(executionContext.getString(key)))
+                        .asLongBuffer()
+                        .get(words, from, Math.min(WORDS_PER_BLOCK, words.length - from));
+            }
+        }
+    }
+
+    private String shape() {
+        return bitCount + ":" + hashCount;
+    }
+
+    /**
+     * 문자열 char 를 직접 순회하는 FNV-1a 64 + murmur3 finalizer (getBytes 등 할당 없음)
+     */
+    private static long hash64(String key) {
+        long hash = 0xcbf29ce484222325L;
+
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+
+        return fmix64(hash);
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
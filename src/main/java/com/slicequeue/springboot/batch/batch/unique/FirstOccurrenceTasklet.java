@@ -0,0 +1,352 @@
+package com.slicequeue.springboot.batch.batch.unique;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 입력 파일에서 키(기본: 3번째 필드 lastName)가 처음 등장한 아이템 번호를 외부 정렬로 찾는 사전 단계 Tasklet
+ * - 파일을 한 번 읽으며 (키, 아이템 번호)를 키 해시로 partitionCount 개 파티션에 나누어 메모리 버퍼(runBufferBytes)에 모으고,
+ *   버퍼가 차면 (파티션, 키, 번호) 순으로 정렬하여 파티션별 런(run) 파일로 디스크에 내림
+ * - 파티션마다 런 파일들을 k-way 병합하여 키별로 가장 작은 번호만 RoaringBitmap 에 추가함 (파티션을 나누므로 한 번에 여는 런 파일은 해당 파티션 것뿐)
+ * - 결과 비트맵은 workDirectory 에 파일로 저장하고 경로를 Job ExecutionContext 의 "firstOccurrences" 키로 넘김
+ *   본 스텝은 FirstOccurrenceValidator 로 아이템 번호가 비트맵에 있는지만 확인하므로 키 전체를 메모리에 들고 있지 않음
+ * - 아이템 번호는 MappedCustomerItemReader(numbered) 와 같은 기준 (빈 라인을 제외한 1부터의 라인 번호)
+ * - 런 파일은 끝나면 지우며, 비트맵 파일은 재시작에 필요하므로 남김
+ */
+public class FirstOccurrenceTasklet implements Tasklet, InitializingBean {
+
+    public static final String FIRST_OCCURRENCES_KEY = "firstOccurrences";
+
+    private static final Log logger = LogFactory.getLog(FirstOccurrenceTasklet.class);
+
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    private static final Comparator<Entry> ENTRY_ORDER = Comparator.<Entry>comparingInt(entry -> entry.partition)
+            .thenComparing((a, b) -> Arrays.compare(a.key, b.key))
+            .thenComparingInt(entry -> entry.itemNumber);
+
+    private Resource resource;
+
+    private byte delimiter = ',';
+
+    private int keyField = 2;
+
+    private Path workDirectory = Paths.get(System.getProperty("java.io.tmpdir"));
+
+    private int partitionCount = 16;
+
+    private long runBufferBytes = 64L * 1024 * 1024;
+
+    @Override
+    public void afterPropertiesSet() {
+        Assert.notNull(resource, "resource 는 필수입니다.");
+        Assert.isTrue(keyField >= 0, "keyField 는 0 이상이어야 합니다.");
+        Assert.isTrue(partitionCount > 0, "partitionCount 는 0보다 커야 합니다.");
+        Assert.isTrue(runBufferBytes > 0, "runBufferBytes 는 0보다 커야 합니다.");
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+        Files.createDirectories(workDirectory);
+        Path runDirectory = Files.createTempDirectory(workDirectory, "first-occurrence-");
+
+        try {
+            Runs runs = spill(runDirectory);
+
+            RoaringBitmap firstOccurrences = new RoaringBitmap();
+            for (List<Path> partitionRuns : runs.files) {
+                merge(partitionRuns, firstOccurrences);
+            }
+            firstOccurrences.runOptimize();
+
+            Path output = workDirectory.resolve("first-occurrences-" + stepExecution.getJobExecutionId() + ".bitmap");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(output)))) {
+                firstOccurrences.serialize(out);
+            }
+
+            stepExecution.getJobExecution().getExecutionContext().putString(FIRST_OCCURRENCES_KEY, output.toUri().toString());
+
+            ExecutionContext executionContext = stepExecution.getExecutionContext();
+            executionContext.putInt("itemCount", runs.itemCount);
+            executionContext.putInt("uniqueCount", firstOccurrences.getCardinality());
+            executionContext.putInt("runCount", runs.runCount);
+
+            if (logger.isInfoEnabled()) {
+                logger.info("First occurrences: items=" + runs.itemCount + ", unique=" + firstOccurrences.getCardinality()
+                        + ", runs=" + runs.runCount + ", bitmap=" + firstOccurrences.getSizeInBytes() + " bytes");
+            }
+        } finally {
+            FileSystemUtils.deleteRecursively(runDirectory);
+        }
+
+        return RepeatStatus.FINISHED;
+    }
+
+    /**
+     * 입력을 읽으며 버퍼가 찰 때마다 정렬된 런 파일로 내림
+     */
+    private Runs spill(Path runDirectory) throws IOException {
+        Runs runs = new Runs(partitionCount);
+        List<Entry> buffer = new ArrayList<>();
+        long bufferedBytes = 0;
+
+        byte[] chunk = new byte[64 * 1024];
+        byte[] key = new byte[64];
+        int keyLength = 0;
+        int field = 0;
+        int lineLength = 0;
+        boolean carriageReturn = false;
+
+        try (InputStream in = resource.getInputStream()) {
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                for (int i = 0; i < read; i++) {
+                    byte b = chunk[i];
+                    if (b != '\n') {
+                        if (b == delimiter) {
+                            field++;
+                        } else if (field == keyField) {
+                            if (keyLength == key.length) {
+                                key = Arrays.copyOf(key, key.length * 2);
+                            }
+                            key[keyLength++] = b;
+                        }
+                        carriageReturn = b == '\r';
+                        lineLength++;
+                        continue;
+                    }
+
+                    bufferedBytes += endLine(buffer, runs, key, keyLength, field, lineLength, carriageReturn);
+                    if (bufferedBytes >= runBufferBytes) {
+                        writeRuns(buffer, runs, runDirectory);
+                        bufferedBytes = 0;
+                    }
+
+                    keyLength = 0;
+                    field = 0;
+                    lineLength = 0;
+                    carriageReturn = false;
+                }
+            }
+        }
+
+        endLine(buffer, runs, key, keyLength, field, lineLength, carriageReturn); // 마지막 라인에 개행 문자가 없는 경우
+        if (!buffer.isEmpty()) {
+            writeRuns(buffer, runs, runDirectory);
+        }
+
+        return runs;
+    }
+
+    /**
+     * 라인 하나를 마무리하고 버퍼에 추가한 바이트 수(추정치) 반환
+     */
+    private long endLine(List<Entry> buffer, Runs runs, byte[] key, int keyLength, int field, int lineLength, boolean carriageReturn) {
+        if (lineLength - (carriageReturn ? 1 : 0) <= 0) {
+            return 0; // 빈 라인은 번호를 차지하지 않음
+        }
+
+        Assert.state(runs.itemCount < Integer.MAX_VALUE, "아이템 번호는 Integer.MAX_VALUE 를 넘을 수 없습니다.");
+        runs.itemCount++;
+
+        if (field < keyField) {
+            return 0; // 키 필드가 없는 라인은 본 스텝의 리더가 거부함
+        }
+        if (field == keyField && carriageReturn && keyLength > 0) {
+            keyLength--; // 키가 마지막 필드인 경우 CR 제외
+        }
+
+        byte[] entryKey = Arrays.copyOf(key, keyLength);
+        buffer.add(new Entry(Math.floorMod(mix(Arrays.hashCode(entryKey)), partitionCount), entryKey, runs.itemCount));
+
+        return keyLength + ENTRY_OVERHEAD_BYTES;
+    }
+
+    private void writeRuns(List<Entry> buffer, Runs runs, Path runDirectory) throws IOException {
+        buffer.sort(ENTRY_ORDER);
+        runs.runCount++;
+
+        int start = 0;
+        while (start < buffer.size()) {
+            int partition = buffer.get(start).partition;
+            Path file = runDirectory.resolve("p" + partition + "-r" + runs.files.get(partition).size() + ".run");
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024))) {
+                for (; start < buffer.size() && buffer.get(start).partition == partition; start++) {
+                    Entry entry = buffer.get(start);
+                    out.writeInt(entry.key.length);
+                    out.write(entry.key);
+                    out.writeInt(entry.itemNumber);
+                }
+            }
+
+            runs.files.get(partition).add(file);
+        }
+
+        buffer.clear();
+    }
+
+    /**
+     * 한 파티션의 런 파일들을 (키, 번호) 순으로 병합하며 키마다 첫 번째 번호만 비트맵에 추가
+     */
+    private static void merge(List<Path> runFiles, RoaringBitmap firstOccurrences) throws IOException {
+        PriorityQueue<RunCursor> cursors = new PriorityQueue<>((a, b) -> {
+            int compare = Arrays.compare(a.key, b.key);
+            return compare != 0 ? compare : Integer.compare(a.itemNumber, b.itemNumber);
+        });
+
+        try {
+            for (Path runFile : runFiles) {
+                RunCursor cursor = new RunCursor(runFile);
+                if (cursor.advance()) {
+                    cursors.add(cursor);
+                } else {
+                    cursor.close();
+                }
+            }
+
+            byte[] previousKey = null;
+            while (!cursors.isEmpty()) {
+                RunCursor cursor = cursors.poll();
+
+                if (previousKey == null || !Arrays.equals(previousKey, cursor.key)) {
+                    firstOccurrences.add(cursor.itemNumber);
+                    previousKey = cursor.key;
+                }
+
+                if (cursor.advance()) {
+                    cursors.add(cursor);
+                } else {
+                    cursor.close();
+                }
+            }
+        } finally {
+            for (RunCursor cursor : cursors) {
+                cursor.close();
+            }
+        }
+    }
+
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    public void setResource(Resource resource) {
+        this.resource = resource;
+    }
+
+    public void setDelimiter(char delimiter) {
+        Assert.isTrue(delimiter < 0x80, "구분자는 ASCII 문자여야 합니다.");
+        this.delimiter = (byte) delimiter;
+    }
+
+    /**
+     * 키로 사용할 필드 위치 (0부터, 기본 2 = lastName)
+     */
+    public void setKeyField(int keyField) {
+        this.keyField = keyField;
+    }
+
+    /**
+     * 런 파일과 결과 비트맵을 저장할 디렉토리 (기본: java.io.tmpdir)
+     */
+    public void setWorkDirectory(Path workDirectory) {
+        this.workDirectory = workDirectory;
+    }
+
+    public void setPartitionCount(int partitionCount) {
+        this.partitionCount = partitionCount;
+    }
+
+    /**
+     * 런 파일로 내리기 전까지 메모리에 모을 (키, 번호) 항목의 크기 (추정치, 기본 64MB)
+     */
+    public void setRunBufferBytes(long runBufferBytes) {
+        this.runBufferBytes = runBufferBytes;
+    }
+
+    private static final class Entry {
+
+        private final int partition;
+        private final byte[] key;
+        private final int itemNumber;
+
+        private Entry(int partition, byte[] key, int itemNumber) {
+            this.partition = partition;
+            this.key = key;
+            this.itemNumber = itemNumber;
+        }
+    }
+
+    private static final class Runs {
+
+        private final List<List<Path>> files;
+        private int itemCount;
+        private int runCount;
+
+        private Runs(int partitionCount) {
+            this.files = new ArrayList<>(partitionCount);
+            for (int i = 0; i < partitionCount; i++) {
+                files.add(new ArrayList<>());
+            }
+        }
+    }
+
+    private static final class RunCursor {
+
+        private final DataInputStream in;
+        private byte[] key;
+        private int itemNumber;
+
+        private RunCursor(Path file) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 64 * 1024));
+        }
+
+        private boolean advance() throws IOException {
+            int length;
+            try {
+                length = in.readInt();
+            } catch (EOFException e) {
+                return false;
+            }
+
+            key = new byte[length];
+            in.readFully(key);
+            itemNumber = in.readInt();
+            return true;
+        }
+
+        private void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.slicequeue.springboot.batch.batch.unique;
+
+import com.slicequeue.springboot.batch.batch.validator.ResultValidator;
+import com.slicequeue.springboot.batch.batch.validator.ValidationResult;
+import com.slicequeue.springboot.batch.domain.Customer;
+import com.slicequeue.springboot.batch.domain.NumberedCustomer;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.batch.item.validator.ValidationException;
+import org.springframework.batch.item.validator.Validator;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+
+/**
+ * FirstOccurrenceTasklet 이 만든 첫 등장 아이템 번호 비트맵으로 lastName 고유성을 판정하는 검증기
+ * - 아이템 번호(NumberedCustomer.getItemCount)가 비트맵에 있으면 처음 등장한 lastName, 없으면 중복으로 판정함
+ * - 비트맵은 읽기 전용이므로 청크/스텝 간 상태가 없어 체크포인트가 필요 없고, 여러 스레드/파티션에서 함께 사용해도 됨
+ * - UniqueLastNameValidator 와 같은 규칙 이름(lastName.unique)으로 거부하므로 RejectReport 집계가 같음
+ */
+public class FirstOccurrenceValidator implements Validator<Customer>, ResultValidator<Customer>, InitializingBean {
+
+    private static final ValidationResult DUPLICATE = ValidationResult.reject("lastName.unique", "Duplicate last name was found");
+
+    private Resource firstOccurrences;
+
+    private RoaringBitmap bitmap;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        Assert.notNull(firstOccurrences, "firstOccurrences 리소스는 필수입니다. FirstOccurrenceTasklet 이 먼저 실행되어야 합니다.");
+
+        RoaringBitmap bitmap = new RoaringBitmap();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(firstOccurrences.getInputStream()))) {
+            bitmap.deserialize(in);
+        }
+        this.bitmap = bitmap;
+    }
+
+    @Override
+    public ValidationResult check(Customer item) {
+        Assert.state(item instanceof NumberedCustomer, "아이템 번호가 필요합니다. 리더가 NumberedCustomer 를 생성해야 합니다.");
+
+        return bitmap.contains(((NumberedCustomer) item).getItemCount()) ? ValidationResult.VALID : DUPLICATE;
+    }
+
+    @Override
+    public void validate(Customer value) throws ValidationException {
+        if (!check(value).isValid()) {
+            throw new ValidationException("Duplicate last name was found: " + value.getLastName());
+        }
+    }
+
+    public void setFirstOccurrences(Resource firstOccurrences) {
+        this.firstOccurrences = firstOccurrences;
+    }
+}
@@ -0,0 +1,230 @@
+package com.slicequeue.springboot.batch.batch.unique;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.util.Assert;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 정확한 중복 판정을 위한 오프힙 오픈 어드레싱 문자열 해시셋
+ * - 키는 UTF-8 바이트로 1MB 단위 다이렉트 버퍼(arena)에 [길이(int)][바이트] 형태로 추가만 됨 (String 객체를 힙에 유지하지 않음)
+ * - 해시 테이블은 long[] 하나로, 슬롯마다 (해시 상위 32비트 | arena 위치 + 1)를 저장하고 선형 탐사로 충돌을 처리함
+ * - arena 위치는 부호 없는 32비트로 다루므로 arena 는 최대 4GB(1MB segment 4096개)까지 사용할 수 있고, 넘으면 예외를 던짐
+ * - arena 가 추가 전용이므로 체크포인트는 마지막 체크포인트 이후 추가된 구간만 인코딩하여 새로운 키(segment.N)로 기록함
+ *   인코딩 비용은 변경분 크기만큼이지만, 스텝 ExecutionContext 는 커밋마다 전체가 다시 직렬화/저장되므로 커밋 비용은 여전히 O(n) 이고
+ *   커밋 수만큼 키가 늘어남. 그래서 UniqueLastNameValidator 는 기본적으로 CheckpointLog 를 사용하고, 이 경로는 명시적으로 로그를 끈 경우에만 사용함
+ */
+public class OpenAddressingUniquenessStore implements UniquenessStore {
+
+    private static final int DEFAULT_SEGMENT_BITS = 20;
+
+    private static final String SEGMENT_COUNT_KEY = ".segmentCount";
+
+    private static final String SEGMENT_KEY = ".segment.";
+
+    private final int segmentBits;
+
+    private final int segmentSize;
+
+    private final int maxSegments;
+
+    private final List<ByteBuffer> segments = new ArrayList<>();
+
+    private long[] slots;
+
+    private int size;
+
+    private int checkpointSegment;
+
+    private int checkpointPosition;
+
+    private int checkpointCount;
+
+    public OpenAddressingUniquenessStore() {
+        this(1024);
+    }
+
+    public OpenAddressingUniquenessStore(int expectedSize) {
+        this(expectedSize, DEFAULT_SEGMENT_BITS, 1 << (Integer.SIZE - DEFAULT_SEGMENT_BITS));
+    }
+
+    /**
+     * segment 크기(2^segmentBits)와 최대 segment 수를 지정 (테스트에서 작은 segment 로 arena 한도를 확인하는 용도)
+     */
+    OpenAddressingUniquenessStore(int expectedSize, int segmentBits, int maxSegments) {
+        Assert.isTrue(segmentBits > 4 && segmentBits < Integer.SIZE - 1, "segmentBits 는 5 ~ 30 사이여야 합니다.");
+        Assert.isTrue(maxSegments > 0 && maxSegments <= 1L << (Integer.SIZE - segmentBits),
+                "arena 위치가 32비트를 넘지 않도록 maxSegments 는 2^(32 - segmentBits) 이하여야 합니다.");
+
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        this.slots = new long[capacity];
+        this.segmentBits = segmentBits;
+        this.segmentSize = 1 << segmentBits;
+        this.maxSegments = maxSegments;
+        this.segments.add(ByteBuffer.allocateDirect(segmentSize));
+    }
+
+    @Override
+    public boolean add(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        int hash = mix(key.hashCode());
+        int mask = slots.length - 1;
+
+        for (int index = hash & mask; ; index = (index + 1) & mask) {
+            long slot = slots[index];
+
+            if (slot == 0) {
+                slots[index] = slot(hash, append(bytes));
+                if (++size * 2 > slots.length) {
+                    resize();
+                }
+                return true;
+            }
+            if ((int) (slot >>> 32) == hash && equalsAt(location(slot), bytes)) {
+                return false;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void checkpoint(ExecutionContext executionContext, String keyPrefix) {
+        int lastSegment = segments.size() - 1;
+        int lastPosition = segments.get(lastSegment).position();
+
+        if (checkpointSegment == lastSegment && checkpointPosition == lastPosition) {
+            return; // 변경분 없음
+        }
+
+        ByteBuffer delta = ByteBuffer.allocate(deltaSize(lastSegment, lastPosition));
+        for (int segment = checkpointSegment; segment <= lastSegment; segment++) {
+            ByteBuffer source = segments.get(segment).duplicate();
+            source.limit(segment == lastSegment ? lastPosition : source.position());
+            source.position(segment == checkpointSegment ? checkpointPosition : 0);
+            delta.put(source);
+        }
+
+        executionContext.putString(keyPrefix + SEGMENT_KEY + checkpointCount, Base64.getEncoder().encodeToString(delta.array()));
+        executionContext.putInt(keyPrefix + SEGMENT_COUNT_KEY, ++checkpointCount);
+
+        checkpointSegment = lastSegment;
+        checkpointPosition = lastPosition;
+    }
+
+    @Override
+    public void restore(ExecutionContext executionContext, String keyPrefix) {
+        int count = executionContext.getInt(keyPrefix + SEGMENT_COUNT_KEY, 0);
+
+        for (int i = 0; i < count; i++) {
+            ByteBuffer delta = ByteBuffer.wrap(Base64.getDecoder().decode(executionContext.getString(keyPrefix + SEGMENT_KEY + i)));
+
+            while (delta.hasRemaining()) {
+                byte[] bytes = new byte[delta.getInt()];
+                delta.get(bytes);
+                add(new String(bytes, StandardCharsets.UTF_8));
+            }
+        }
+
+        // 복원한 항목은 이미 ExecutionContext 에 있으므로 이후 변경분부터 새 segment 로 기록
+        checkpointCount = count;
+        checkpointSegment = segments.size() - 1;
+        checkpointPosition = segments.get(checkpointSegment).position();
+    }
+
+    private int deltaSize(int lastSegment, int lastPosition) {
+        int deltaSize = 0;
+
+        for (int segment = checkpointSegment; segment <= lastSegment; segment++) {
+            int from = segment == checkpointSegment ? checkpointPosition : 0;
+            int to = segment == lastSegment ? lastPosition : segments.get(segment).position();
+            deltaSize += to - from;
+        }
+
+        return deltaSize;
+    }
+
+    /**
+     * 해시와 arena 위치로 슬롯 값을 만듦 (빈 슬롯 0 과 구분하기 위해 위치 + 1 을 저장)
+     * - 위치는 부호 없는 32비트이므로 int 로 음수여도 부호 확장되어 해시 비트를 덮어쓰지 않도록 마스킹함
+     */
+    static long slot(int hash, int location) {
+        return ((long) hash << 32) | ((location & 0xFFFFFFFFL) + 1L);
+    }
+
+    /**
+     * 슬롯 값의 arena 위치 (부호 없는 32비트, >>> 와 & 로만 해석해야 함)
+     */
+    static int location(long slot) {
+        return (int) (slot - 1L);
+    }
+
+    /**
+     * arena 에 [길이][바이트] 추가 후 논리 위치(segment 번호 << segmentBits | segment 내 위치, 부호 없는 32비트) 반환
+     */
+    private int append(byte[] bytes) {
+        Assert.isTrue(bytes.length + Integer.BYTES <= segmentSize, "키 길이가 너무 깁니다: " + bytes.length);
+
+        ByteBuffer segment = segments.get(segments.size() - 1);
+        if (segment.remaining() < bytes.length + Integer.BYTES) {
+            if (segments.size() == maxSegments) {
+                throw new IllegalStateException("중복 판정 저장소의 arena 가 최대 크기(" + ((long) maxSegments << segmentBits)
+                        + " bytes)에 도달했습니다. 저장소를 나누거나(StripedUniquenessStore) BloomFilterUniquenessStore 를 사용하세요.");
+            }
+            segment = ByteBuffer.allocateDirect(segmentSize);
+            segments.add(segment);
+        }
+
+        int location = (segments.size() - 1) << segmentBits | segment.position();
+        segment.putInt(bytes.length);
+        segment.put(bytes);
+
+        return location;
+    }
+
+    private boolean equalsAt(int location, byte[] bytes) {
+        ByteBuffer segment = segments.get(location >>> segmentBits);
+        int position = location & (segmentSize - 1);
+
+        if (segment.getInt(position) != bytes.length) {
+            return false;
+        }
+
+        position += Integer.BYTES;
+        for (int i = 0; i < bytes.length; i++) {
+            if (segment.get(position + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void resize() {
+        long[] previous = slots;
+        long[] resized = new long[previous.length << 1];
+        int mask = resized.length - 1;
+
+        for (long slot : previous) {
+            if (slot != 0) {
+                int index = (int) (slot >>> 32) & mask;
+                while (resized[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                resized[index] = slot;
+            }
+        }
+
+        slots = resized;
+    }
+
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
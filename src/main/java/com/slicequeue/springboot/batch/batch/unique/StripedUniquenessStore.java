@@ -0,0 +1,86 @@
+package com.slicequeue.springboot.batch.batch.unique;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.util.Assert;
+
+/**
+ * 여러 스레드가 공유할 수 있는 락 스트라이핑 UniquenessStore
+ * - 키 해시로 stripe(OpenAddressingUniquenessStore) 하나를 고르고 해당 stripe 만 잠그므로, 스레드들이 전역 락 없이 서로 다른 stripe 에서 동시에 판정함
+ * - stripe 선택에는 해시 상위 비트를 사용함 (stripe 내부 해시 테이블은 하위 비트로 슬롯을 고르므로 같은 비트를 쓰면 슬롯이 몰림)
+ * - 체크포인트는 stripe 별 변경분을 "keyPrefix.stripe.N" 키로 기록하므로 OpenAddressingUniquenessStore 와 같은 open/update 재시작 방식이 유지됨
+ *   재시작시에는 같은 stripeCount 로 생성해야 함. ExecutionContext 키가 커밋마다 stripe 수만큼 늘어나므로 CheckpointLog 와 함께 사용하는 것이 좋음
+ * - 멀티 스레드 스텝처럼 하나의 StepExecution 을 여러 스레드가 처리하는 경우용. 어떤 중복이 "처음"으로 판정될지는 스레드 실행 순서에 따름
+ * - stripe 마다 1MB 다이렉트 버퍼를 할당하므로 stripeCount 는 처리 스레드 수의 몇 배 정도면 충분함
+ */
+public class StripedUniquenessStore implements UniquenessStore {
+
+    private static final String STRIPE_KEY = ".stripe.";
+
+    private static final String STRIPE_COUNT_KEY = ".stripeCount";
+
+    private final OpenAddressingUniquenessStore[] stripes;
+
+    private final int shift;
+
+    public StripedUniquenessStore() {
+        this(16, 1024);
+    }
+
+    public StripedUniquenessStore(int stripeCount, int expectedSize) {
+        Assert.isTrue(stripeCount > 0 && Integer.bitCount(stripeCount) == 1, "stripeCount 는 2의 거듭제곱이어야 합니다.");
+
+        this.stripes = new OpenAddressingUniquenessStore[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new OpenAddressingUniquenessStore(Math.max(16, expectedSize / stripeCount));
+        }
+        this.shift = Integer.SIZE - Integer.numberOfTrailingZeros(stripeCount);
+    }
+
+    @Override
+    public boolean add(String key) {
+        OpenAddressingUniquenessStore stripe = stripes[stripeOf(key)];
+
+        synchronized (stripe) {
+            return stripe.add(key);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+
+        for (OpenAddressingUniquenessStore stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public void checkpoint(ExecutionContext executionContext, String keyPrefix) {
+        for (int i = 0; i < stripes.length; i++) {
+            synchronized (stripes[i]) {
+                stripes[i].checkpoint(executionContext, keyPrefix + STRIPE_KEY + i);
+            }
+        }
+
+        executionContext.putInt(keyPrefix + STRIPE_COUNT_KEY, stripes.length);
+    }
+
+    @Override
+    public void restore(ExecutionContext executionContext, String keyPrefix) {
+        int stripeCount = executionContext.getInt(keyPrefix + STRIPE_COUNT_KEY, stripes.length);
+        Assert.state(stripeCount == stripes.length,
+                "체크포인트의 stripeCount(" + stripeCount + ")와 현재 stripeCount(" + stripes.length + ")가 다릅니다.");
+
+        for (int i = 0; i < stripes.length; i++) {
+            synchronized (stripes[i]) {
+                stripes[i].restore(executionContext, keyPrefix + STRIPE_KEY + i);
+            }
+        }
+    }
+
+    private int stripeOf(String key) {
+        return shift == Integer.SIZE ? 0 : (key.hashCode() * 0x85EBCA6B) >>> shift;
+    }
+}
@@ -0,0 +1,29 @@
+package com.slicequeue.springboot.batch.batch.unique;
+
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * UniqueLastNameValidator 가 이미 본 키(lastName)를 기억하는 저장소
+ * - OpenAddressingUniquenessStore: 정확한 중복 판정, 오프힙 문자열 해시셋 + 변경분(delta) 체크포인트
+ * - BloomFilterUniquenessStore: 근사 판정(설정한 오탐률만큼 중복이 아닌 값도 중복으로 판정), 레코드 수와 무관한 고정 메모리
+ */
+public interface UniquenessStore {
+
+    /**
+     * 처음 보는 키면 추가 후 true, 이미 본 키(로 판정되면) false 반환
+     */
+    boolean add(String key);
+
+    /**
+     * 마지막 체크포인트 이후 변경분만 ExecutionContext 에 기록 (청크 커밋마다 호출됨)
+     * - ExecutionContext 는 커밋마다 전체가 저장되므로 커밋 비용이 변경분에 비례하지는 않음
+     *   UniqueLastNameValidator 는 기본적으로 CheckpointLog 를 사용하며, setCheckpointLog(null) 인 경우에만 호출함
+     */
+    void checkpoint(ExecutionContext executionContext, String keyPrefix);
+
+    /**
+     * checkpoint 로 기록된 상태를 복원 (스텝 시작/재시작시 호출됨)
+     */
+    void restore(ExecutionContext executionContext, String keyPrefix);
+
+}
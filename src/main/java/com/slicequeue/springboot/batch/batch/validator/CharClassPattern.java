@@ -0,0 +1,142 @@
+package com.slicequeue.springboot.batch.batch.validator;
+
+/**
+ * "문자 클래스 + 반복 횟수" 형태의 단순 정규식을 ASCII 문자 테이블 검사로 바꾼 매처
+ * - 지원 형식: [a-zA-Z]+, [0-9a-zA-Z\. ]+, [A-Z]{2}, \d{5}, \d+, [abc]*, [a-z]{1,3} 처럼 문자 클래스 하나와 수량자 하나
+ * - 지원하지 않는 정규식은 compile 이 null 을 반환하며 호출한 쪽에서 java.util.regex 로 처리함
+ * - 문자 클래스는 ASCII 문자만 허용하므로 비 ASCII 문자는 항상 불일치로 판단함 (java.util.regex 의 결과와 동일)
+ */
+final class CharClassPattern {
+
+    private final boolean[] allowed;
+
+    private final int min;
+
+    private final int max;
+
+    private CharClassPattern(boolean[] allowed, int min, int max) {
+        this.allowed = allowed;
+        this.min = min;
+        this.max = max;
+    }
+
+    boolean matches(CharSequence value) {
+        int length = value.length();
+
+        if (length < min || length > max) {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 128 || !allowed[c]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static CharClassPattern compile(String regex) {
+        boolean[] allowed = new boolean[128];
+        int index;
+
+        if (regex.startsWith("\\d")) {
+            fill(allowed, '0', '9');
+            index = 2;
+        } else if (regex.startsWith("[") && !regex.startsWith("[^")) {
+            index = parseClass(regex, allowed);
+            if (index < 0) {
+                return null;
+            }
+        } else {
+            return null;
+        }
+
+        return quantified(regex, index, allowed);
+    }
+
+    /**
+     * [ ... ] 를 해석하여 allowed 에 표시하고 ']' 다음 위치 반환, 지원하지 않으면 -1
+     */
+    private static int parseClass(String regex, boolean[] allowed) {
+        int i = 1;
+
+        while (i < regex.length() && regex.charAt(i) != ']') {
+            char c = regex.charAt(i);
+
+            if (c == '\\') {
+                if (i + 1 >= regex.length()) {
+                    return -1;
+                }
+                char escaped = regex.charAt(i + 1);
+                if (i + 3 < regex.length() && regex.charAt(i + 2) == '-' && regex.charAt(i + 3) != ']') {
+                    return -1; // \.-z 처럼 이스케이프 문자로 시작하는 범위는 지원하지 않음
+                }
+                if (escaped == 'd') {
+                    fill(allowed, '0', '9');
+                } else if (!Character.isLetterOrDigit(escaped) && escaped < 128) {
+                    allowed[escaped] = true; // \. \- 등 문자 그대로
+                } else {
+                    return -1;
+                }
+                i += 2;
+            } else if (c == '[' || c == '&' || c >= 128) {
+                return -1; // 중첩 클래스, 교집합, 비 ASCII 는 지원하지 않음
+            } else if (i + 2 < regex.length() && regex.charAt(i + 1) == '-' && regex.charAt(i + 2) != ']') {
+                char end = regex.charAt(i + 2);
+                if (end == '\\' || end >= 128 || end < c) {
+                    return -1;
+                }
+                fill(allowed, c, end);
+                i += 3;
+            } else {
+                allowed[c] = true;
+                i++;
+            }
+        }
+
+        return i < regex.length() ? i + 1 : -1;
+    }
+
+    private static CharClassPattern quantified(String regex, int index, boolean[] allowed) {
+        String quantifier = regex.substring(index);
+
+        switch (quantifier) {
+            case "":
+                return new CharClassPattern(allowed, 1, 1);
+            case "+":
+                return new CharClassPattern(allowed, 1, Integer.MAX_VALUE);
+            case "*":
+                return new CharClassPattern(allowed, 0, Integer.MAX_VALUE);
+            case "?":
+                return new CharClassPattern(allowed, 0, 1);
+            default:
+                break;
+        }
+
+        if (!quantifier.startsWith("{") || !quantifier.endsWith("}")) {
+            return null;
+        }
+
+        String range = quantifier.substring(1, quantifier.length() - 1);
+        try {
+            int comma = range.indexOf(',');
+            if (comma < 0) {
+                int count = Integer.parseInt(range);
+                return new CharClassPattern(allowed, count, count);
+            }
+
+            int min = Integer.parseInt(range.substring(0, comma));
+            int max = comma == range.length() - 1 ? Integer.MAX_VALUE : Integer.parseInt(range.substring(comma + 1));
+            return min <= max ? new CharClassPattern(allowed, min, max) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static void fill(boolean[] allowed, char from, char to) {
+        for (char c = from; c <= to; c++) {
+            allowed[c] = true;
+        }
+    }
+}
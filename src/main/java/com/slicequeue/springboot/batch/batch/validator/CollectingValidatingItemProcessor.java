@@ -0,0 +1,117 @@
+package com.slicequeue.springboot.batch.batch.validator;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.util.Assert;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ValidatingItemProcessor(setFilter(true)) 의 예외 없는 버전
+ * - ValidatingItemProcessor 는 거부할 때마다 메시지를 만들고 ValidationException(스택 트레이스 포함)을 던진 뒤 잡아서 필터링함
+ * - 이 프로세서는 ResultValidator 가 반환한 ValidationResult 로 판단하여 거부된 아이템은 null 을 반환(필터링)하고 청크 리포트에 집계만 함
+ * - 청크가 커밋되면(afterChunk) 청크 리포트를 스텝 리포트에 합치고, 롤백되면(afterChunkError) 청크 리포트를 버림
+ * - 스텝이 끝나면(afterStep) 규칙별 거부 건수를 StepExecution 의 ExecutionContext 에 "rejectReport.*" 키로 기록함
+ * - 재시작하면(beforeStep) 이전 실행이 기록한 규칙별 건수를 복원하므로, 이미 커밋된 청크의 거부 건수가 누적됨
+ *   (afterStep 없이 프로세스가 종료된 경우에는 이전 실행의 건수가 남지 않음)
+ * - CompositeItemProcessor 의 위임 프로세서로 쓰는 경우 스텝에 ChunkListener/StepExecutionListener 로 직접 등록해야 함
+ *
+ * @param <T> 검증 대상 타입
+ */
+public class CollectingValidatingItemProcessor<T> implements ItemProcessor<T, T>, ChunkListener, StepExecutionListener {
+
+    private static final Log logger = LogFactory.getLog(CollectingValidatingItemProcessor.class);
+
+    private static final String REPORT_KEY_PREFIX = "rejectReport.";
+
+    private static final String TOTAL_KEY = REPORT_KEY_PREFIX + "total";
+
+    private final ResultValidator<? super T>[] validators;
+
+    private final RejectReport chunkReport;
+
+    private final RejectReport stepReport;
+
+    @SuppressWarnings("unchecked")
+    public CollectingValidatingItemProcessor(List<? extends ResultValidator<? super T>> validators, int sampleSize) {
+        Assert.notEmpty(validators, "검증기가 하나 이상 필요합니다.");
+
+        this.validators = validators.toArray(new ResultValidator[0]);
+        this.chunkReport = new RejectReport(sampleSize);
+        this.stepReport = new RejectReport(sampleSize);
+    }
+
+    @Override
+    public T process(T item) {
+        for (ResultValidator<? super T> validator : validators) {
+            ValidationResult result = validator.check(item);
+
+            if (!result.isValid()) {
+                chunkReport.reject(result, item);
+                return null;
+            }
+        }
+
+        return item;
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        chunkReport.clear();
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        if (!chunkReport.isEmpty()) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Rejected items in chunk: " + chunkReport);
+            }
+            stepReport.merge(chunkReport);
+            chunkReport.clear();
+        }
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        chunkReport.clear(); // 롤백된 청크의 집계는 버림 (재처리시 다시 집계됨)
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        chunkReport.clear();
+        stepReport.clear();
+
+        for (Map.Entry<String, Object> entry : stepExecution.getExecutionContext().entrySet()) {
+            String key = entry.getKey();
+            if (key.startsWith(REPORT_KEY_PREFIX) && !key.equals(TOTAL_KEY) && entry.getValue() instanceof Long) {
+                stepReport.restore(key.substring(REPORT_KEY_PREFIX.length()), (Long) entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+
+        executionContext.putLong(TOTAL_KEY, stepReport.getTotalCount());
+        stepReport.getCounts().forEach((rule, count) -> executionContext.putLong(REPORT_KEY_PREFIX + rule, count));
+
+        if (!stepReport.isEmpty()) {
+            logger.info("Rejected items in step " + stepExecution.getStepName() + ": " + stepReport);
+        }
+
+        return null;
+    }
+
+    public RejectReport getStepReport() {
+        return stepReport;
+    }
+}
@@ -0,0 +1,16 @@
+package com.slicequeue.springboot.batch.batch.validator;
+
+import org.springframework.batch.item.validator.ValidatingItemProcessor;
+
+/**
+ * BeanValidatingItemProcessor 대신 CompiledBeanValidator 로 검증하는 ValidatingItemProcessor
+ *
+ * @param <T> 검증 대상 타입
+ */
+public class CompiledBeanValidatingItemProcessor<T> extends ValidatingItemProcessor<T> {
+
+    public CompiledBeanValidatingItemProcessor(Class<T> targetType) {
+        super(new CompiledBeanValidator<>(targetType));
+    }
+
+}
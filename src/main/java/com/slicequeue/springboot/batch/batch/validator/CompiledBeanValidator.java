@@ -0,0 +1,348 @@
+package com.slicequeue.springboot.batch.batch.validator;
+
+import org.springframework.batch.item.validator.ValidationException;
+import org.springframework.batch.item.validator.Validator;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+import javax.validation.Constraint;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+import javax.validation.groups.Default;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 대상 타입의 Bean Validation 어노테이션(@NotNull, @Size, @Pattern)을 시작 시점에 한 번만 분석하여 만든 전용 검증기
+ * - BeanValidatingItemProcessor 는 아이템마다 Hibernate Validator 메타데이터 조회와 java.util.regex 매칭을 수행함
+ * - 이 검증기는 필드별 규칙 배열을 미리 만들어 두고, 단순 문자 클래스 정규식([a-zA-Z]+, \d{5} 등)은 문자 테이블 검사로 대체함
+ * - 유효한 아이템 검증시에는 객체를 할당하지 않으며, 위반 메시지는 위반이 있을 때만 만듦
+ * - 위반 메시지는 어노테이션의 message (Constants.Messages 기반)를 그대로 사용하고, 기본 메시지는 Hibernate Validator 의 영문 기본 메시지와 같게 만듦
+ * - ResultValidator 로 사용하면 첫 번째 위반을 미리 만들어 둔 ValidationResult("필드.제약조건")로 반환함
+ * - 검증을 조용히 건너뛰지 않도록, 지원하지 않는 제약조건(@NotBlank, @Email, @Valid, 클래스/메서드 제약조건 등)이나
+ *   기본 그룹 외의 groups, @Pattern flags 가 있으면 생성 시점에 IllegalArgumentException 을 던짐 (BeanValidatingItemProcessor 를 사용해야 함)
+ *
+ * @param <T> 검증 대상 타입
+ */
+public class CompiledBeanValidator<T> implements Validator<T>, ResultValidator<T> {
+
+    private static final Set<Class<? extends Annotation>> SUPPORTED = new HashSet<>(Arrays.asList(
+            NotNull.class, NotNull.List.class, Size.class, Size.List.class, Pattern.class, Pattern.List.class));
+
+    private final FieldRule[] rules;
+
+    public CompiledBeanValidator(Class<T> targetType) {
+        Assert.notNull(targetType, "targetType 은 필수입니다.");
+
+        for (Class<?> type = targetType; type != null && type != Object.class; type = type.getSuperclass()) {
+            rejectConstraints(type, "클래스 제약조건");
+        }
+        ReflectionUtils.doWithMethods(targetType, method -> rejectConstraints(method, "메서드(getter) 제약조건"));
+
+        List<FieldRule> fieldRules = new ArrayList<>();
+        ReflectionUtils.doWithFields(targetType, field -> {
+            if (Modifier.isStatic(field.getModifiers())) {
+                return; // Bean Validation 도 static 필드는 검증하지 않음
+            }
+            Constraint[] constraints = constraintsOf(field);
+            if (constraints.length > 0) {
+                fieldRules.add(new FieldRule(field.getName(), getter(targetType, field), constraints));
+            }
+        });
+
+        this.rules = fieldRules.toArray(new FieldRule[0]);
+    }
+
+    @Override
+    public void validate(T value) throws ValidationException {
+        String violations = violationsOf(value);
+
+        if (violations != null) {
+            throw new ValidationException("Validation failed for " + value + ": " + violations);
+        }
+    }
+
+    @Override
+    public ValidationResult check(T item) {
+        for (FieldRule rule : rules) {
+            Object fieldValue = rule.get(item);
+
+            for (int i = 0; i < rule.constraints.length; i++) {
+                if (!rule.constraints[i].isValid(fieldValue)) {
+                    return rule.rejections[i];
+                }
+            }
+        }
+
+        return ValidationResult.VALID;
+    }
+
+    /**
+     * 위반 내용 문자열 반환, 위반이 없으면 null
+     */
+    public String violationsOf(T value) {
+        StringBuilder violations = null;
+
+        for (FieldRule rule : rules) {
+            Object fieldValue = rule.get(value);
+
+            for (Constraint constraint : rule.constraints) {
+                if (!constraint.isValid(fieldValue)) {
+                    if (violations == null) {
+                        violations = new StringBuilder();
+                    }
+                    violations.append("\nField error in object 'item' on field '").append(rule.fieldName)
+                            .append("': rejected value [").append(fieldValue)
+                            .append("]; default message [").append(constraint.message()).append(']');
+                }
+            }
+        }
+
+        return violations == null ? null : violations.toString();
+    }
+
+    private static Constraint[] constraintsOf(Field field) {
+        List<Constraint> constraints = new ArrayList<>();
+
+        for (Annotation annotation : field.getAnnotations()) {
+            Class<? extends Annotation> annotationType = annotation.annotationType();
+            Assert.isTrue(SUPPORTED.contains(annotationType) || !isConstraint(annotationType),
+                    () -> "CompiledBeanValidator 가 지원하지 않는 제약조건입니다: " + field + " @" + annotationType.getName());
+        }
+
+        // getAnnotationsByType 은 반복 어노테이션(@Pattern.List 등)도 함께 반환함
+        for (NotNull notNull : field.getAnnotationsByType(NotNull.class)) {
+            checkGroups(field, notNull.groups());
+            constraints.add(new NotNullConstraint(message(notNull.message(), "must not be null")));
+        }
+
+        for (Size size : field.getAnnotationsByType(Size.class)) {
+            checkGroups(field, size.groups());
+            checkCharSequence(field, "@Size");
+            constraints.add(new SizeConstraint(size.min(), size.max(),
+                    message(size.message(), "size must be between " + size.min() + " and " + size.max())));
+        }
+
+        for (Pattern pattern : field.getAnnotationsByType(Pattern.class)) {
+            checkGroups(field, pattern.groups());
+            checkCharSequence(field, "@Pattern");
+            Assert.isTrue(pattern.flags().length == 0, () -> "@Pattern flags 는 지원하지 않습니다: " + field);
+
+            String message = message(pattern.message(), "must match \"" + pattern.regexp() + "\"");
+            CharClassPattern charClassPattern = CharClassPattern.compile(pattern.regexp());
+
+            constraints.add(charClassPattern != null
+                    ? new CharClassConstraint(charClassPattern, message)
+                    : new RegexConstraint(java.util.regex.Pattern.compile(pattern.regexp()), message));
+        }
+
+        return constraints.toArray(new Constraint[0]);
+    }
+
+    private static void rejectConstraints(AnnotatedElement element, String kind) {
+        for (Annotation annotation : element.getDeclaredAnnotations()) {
+            Assert.isTrue(!isConstraint(annotation.annotationType()),
+                    () -> "CompiledBeanValidator 는 " + kind + "을 지원하지 않습니다: " + element + " @" + annotation.annotationType().getName());
+        }
+    }
+
+    /**
+     * 제약조건 어노테이션(@Constraint 메타 어노테이션), 그 반복 컨테이너(@X.List), 연쇄 검증(@Valid) 여부
+     */
+    private static boolean isConstraint(Class<? extends Annotation> annotationType) {
+        Class<?> enclosingType = annotationType.getEnclosingClass();
+
+        return annotationType == Valid.class
+                || annotationType.isAnnotationPresent(Constraint.class)
+                || enclosingType != null && enclosingType.isAnnotationPresent(Constraint.class);
+    }
+
+    private static void checkGroups(Field field, Class<?>[] groups) {
+        Assert.isTrue(groups.length == 0 || groups.length == 1 && groups[0] == Default.class,
+                () -> "기본 그룹 외의 groups 는 지원하지 않습니다: " + field + " " + Arrays.toString(groups));
+    }
+
+    private static void checkCharSequence(Field field, String constraint) {
+        Assert.isTrue(CharSequence.class.isAssignableFrom(field.getType()),
+                () -> constraint + " 는 문자열 필드만 지원합니다: " + field);
+    }
+
+    private static String message(String message, String defaultMessage) {
+        return message.startsWith("{javax.validation.constraints.") ? defaultMessage : message;
+    }
+
+    private static MethodHandle getter(Class<?> targetType, Field field) {
+        try {
+            return MethodHandles.privateLookupIn(targetType, MethodHandles.lookup())
+                    .unreflectGetter(field)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("필드에 접근할 수 없습니다: " + field, e);
+        }
+    }
+
+    private static final class FieldRule {
+
+        private final String fieldName;
+        private final MethodHandle getter;
+        private final Constraint[] constraints;
+        private final ValidationResult[] rejections;
+
+        private FieldRule(String fieldName, MethodHandle getter, Constraint[] constraints) {
+            this.fieldName = fieldName;
+            this.getter = getter;
+            this.constraints = constraints;
+            this.rejections = new ValidationResult[constraints.length];
+
+            for (int i = 0; i < constraints.length; i++) {
+                rejections[i] = ValidationResult.reject(fieldName + "." + constraints[i].name(), constraints[i].message());
+            }
+        }
+
+        private Object get(Object target) {
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private interface Constraint {
+
+        boolean isValid(Object value);
+
+        String name();
+
+        String message();
+    }
+
+    private static final class NotNullConstraint implements Constraint {
+
+        private final String message;
+
+        private NotNullConstraint(String message) {
+            this.message = message;
+        }
+
+        @Override
+        public boolean isValid(Object value) {
+            return value != null;
+        }
+
+        @Override
+        public String name() {
+            return "NotNull";
+        }
+
+        @Override
+        public String message() {
+            return message;
+        }
+    }
+
+    /**
+     * Bean Validation 과 동일하게 null 은 유효한 값으로 판단함 (@NotNull 에서 검사)
+     */
+    private static final class SizeConstraint implements Constraint {
+
+        private final int min;
+        private final int max;
+        private final String message;
+
+        private SizeConstraint(int min, int max, String message) {
+            this.min = min;
+            this.max = max;
+            this.message = message;
+        }
+
+        @Override
+        public boolean isValid(Object value) {
+            if (value == null) {
+                return true;
+            }
+
+            int length = ((CharSequence) value).length();
+            return min <= length && length <= max;
+        }
+
+        @Override
+        public String name() {
+            return "Size";
+        }
+
+        @Override
+        public String message() {
+            return message;
+        }
+    }
+
+    private static final class CharClassConstraint implements Constraint {
+
+        private final CharClassPattern pattern;
+        private final String message;
+
+        private CharClassConstraint(CharClassPattern pattern, String message) {
+            this.pattern = pattern;
+            this.message = message;
+        }
+
+        @Override
+        public boolean isValid(Object value) {
+            return value == null || pattern.matches((CharSequence) value);
+        }
+
+        @Override
+        public String name() {
+            return "Pattern";
+        }
+
+        @Override
+        public String message() {
+            return message;
+        }
+    }
+
+    /**
+     * 문자 테이블로 변환할 수 없는 정규식은 미리 컴파일한 java.util.regex.Pattern 으로 검사
+     */
+    private static final class RegexConstraint implements Constraint {
+
+        private final java.util.regex.Pattern pattern;
+        private final String message;
+
+        private RegexConstraint(java.util.regex.Pattern pattern, String message) {
+            this.pattern = pattern;
+            this.message = message;
+        }
+
+        @Override
+        public boolean isValid(Object value) {
+            return value == null || pattern.matcher((CharSequence) value).matches();
+        }
+
+        @Override
+        public String name() {
+            return "Pattern";
+        }
+
+        @Override
+        public String message() {
+            return message;
+        }
+    }
+}
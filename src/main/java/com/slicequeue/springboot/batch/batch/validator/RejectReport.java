@@ -0,0 +1,118 @@
+package com.slicequeue.springboot.batch.batch.validator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 거부된 아이템의 규칙별 건수와 샘플 레코드 집계
+ * - 샘플은 규칙마다 sampleSize 개까지만 문자열로 보관하므로 거부 건수가 많아도 메모리가 늘지 않음
+ */
+public class RejectReport {
+
+    private final int sampleSize;
+
+    private final Map<String, RuleStatistics> statistics = new LinkedHashMap<>();
+
+    public RejectReport(int sampleSize) {
+        this.sampleSize = sampleSize;
+    }
+
+    public void reject(ValidationResult result, Object item) {
+        RuleStatistics ruleStatistics = statistics.computeIfAbsent(result.getRule(), rule -> new RuleStatistics(result.getMessage()));
+
+        if (ruleStatistics.message == null) {
+            ruleStatistics.message = result.getMessage();
+        }
+        ruleStatistics.count++;
+        if (ruleStatistics.samples.size() < sampleSize) {
+            ruleStatistics.samples.add(String.valueOf(item));
+        }
+    }
+
+    /**
+     * 다른 리포트(청크 리포트)의 집계를 합침
+     */
+    public void merge(RejectReport other) {
+        other.statistics.forEach((rule, otherStatistics) -> {
+            RuleStatistics ruleStatistics = statistics.computeIfAbsent(rule, key -> new RuleStatistics(otherStatistics.message));
+
+            if (ruleStatistics.message == null) {
+                ruleStatistics.message = otherStatistics.message;
+            }
+            ruleStatistics.count += otherStatistics.count;
+            for (String sample : otherStatistics.samples) {
+                if (ruleStatistics.samples.size() >= sampleSize) {
+                    break;
+                }
+                ruleStatistics.samples.add(sample);
+            }
+        });
+    }
+
+    /**
+     * 이전 실행에서 기록한 규칙별 거부 건수를 복원 (재시작용)
+     * - 메시지와 샘플은 ExecutionContext 에 남기지 않으므로 복원되지 않고, 이후 거부되는 아이템으로 다시 채워짐
+     */
+    public void restore(String rule, long count) {
+        statistics.computeIfAbsent(rule, key -> new RuleStatistics(null)).count += count;
+    }
+
+    public void clear() {
+        statistics.clear();
+    }
+
+    public boolean isEmpty() {
+        return statistics.isEmpty();
+    }
+
+    public long getTotalCount() {
+        long total = 0;
+        for (RuleStatistics ruleStatistics : statistics.values()) {
+            total += ruleStatistics.count;
+        }
+        return total;
+    }
+
+    /**
+     * 규칙별 거부 건수
+     */
+    public Map<String, Long> getCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        statistics.forEach((rule, ruleStatistics) -> counts.put(rule, ruleStatistics.count));
+        return counts;
+    }
+
+    public List<String> getSamples(String rule) {
+        RuleStatistics ruleStatistics = statistics.get(rule);
+        return ruleStatistics == null ? Collections.emptyList() : Collections.unmodifiableList(ruleStatistics.samples);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("RejectReport{total=").append(getTotalCount());
+
+        statistics.forEach((rule, ruleStatistics) -> {
+            builder.append(", ").append(rule).append("=").append(ruleStatistics.count);
+            if (ruleStatistics.message != null) {
+                builder.append(" (").append(ruleStatistics.message).append(")");
+            }
+            builder.append(" samples=").append(ruleStatistics.samples);
+        });
+
+        return builder.append('}').toString();
+    }
+
+    private static final class RuleStatistics {
+
+        private String message;
+        private final List<String> samples = new ArrayList<>();
+        private long count;
+
+        private RuleStatistics(String message) {
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.slicequeue.springboot.batch.batch.validator;
+
+/**
+ * ValidationException 을 던지는 대신 ValidationResult 를 반환하는 검증기
+ * - CollectingValidatingItemProcessor 가 사용하며, 거부된 아이템은 필터링되고 RejectReport 에 규칙별로 집계됨
+ *
+ * @param <T> 검증 대상 타입
+ */
+public interface ResultValidator<T> {
+
+    /**
+     * 유효하면 ValidationResult.VALID, 아니면 미리 만들어 둔 거부 결과 반환
+     */
+    ValidationResult check(T item);
+
+}
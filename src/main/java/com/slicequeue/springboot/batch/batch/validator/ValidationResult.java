@@ -0,0 +1,40 @@
+package com.slicequeue.springboot.batch.batch.validator;
+
+/**
+ * 예외 대신 반환하는 가벼운 검증 결과
+ * - 검증기는 거부 결과를 시작 시점에 미리 만들어 두고 재사용하므로, 거부된 아이템이 많아도 예외/스택 트레이스/메시지 문자열을 만들지 않음
+ */
+public final class ValidationResult {
+
+    public static final ValidationResult VALID = new ValidationResult(null, null);
+
+    private final String rule;
+
+    private final String message;
+
+    private ValidationResult(String rule, String message) {
+        this.rule = rule;
+        this.message = message;
+    }
+
+    public static ValidationResult reject(String rule, String message) {
+        return new ValidationResult(rule, message);
+    }
+
+    public boolean isValid() {
+        return rule == null;
+    }
+
+    public String getRule() {
+        return rule;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ? "VALID" : rule + ": " + message;
+    }
+}
@@ -0,0 +1,343 @@
+package com.slicequeue.springboot.batch.batch.writer;
+
+import com.slicequeue.springboot.batch.domain.Customer;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.batch.item.ItemStreamWriter;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Customer 를 구분자 형식으로 파일(또는 콘솔 등 OutputStream)에 쓰는 버퍼링 라이터
+ * - Customer.toString() 문자열을 만들지 않고 필드를 재사용하는 바이트 버퍼에 바로 인코딩함 (ASCII 는 문자 하나당 바이트 하나)
+ * - 가득 찬 버퍼는 전용 쓰기 스레드가 채널에 씀. 버퍼는 bufferCount 개를 돌려 쓰며, 남은 버퍼가 없으면 스텝 스레드가 기다림 (backpressure)
+ * - update(청크 커밋 직전)에서 쓰기 스레드가 모든 버퍼를 쓰고 force 할 때까지 기다린 뒤 파일 위치를 ExecutionContext 에 저장함
+ * - 재시작시 저장된 위치로 파일을 잘라내므로 커밋되지 않은 청크의 출력은 남지 않음
+ * - OutputStream 으로 설정한 경우(콘솔 등)는 재시작 위치를 저장하지 않으며 스트림을 닫지 않음
+ * - 쓰기 스레드의 실패는 이후의 write/update/close 호출에서 ItemStreamException 으로 전달됨
+ */
+public class BufferedCustomerItemWriter extends ItemStreamSupport implements ItemStreamWriter<Customer>, InitializingBean {
+
+    private static final String POSITION_KEY = "position";
+
+    private static final Object STOP = new Object();
+
+    private Resource resource;
+
+    private OutputStream outputStream;
+
+    private byte delimiter = ',';
+
+    private int bufferSize = 64 * 1024;
+
+    private int bufferCount = 4;
+
+    private WritableByteChannel channel;
+
+    private FileChannel fileChannel;
+
+    private BlockingQueue<ByteBuffer> freeBuffers;
+
+    private BlockingQueue<Object> filledBuffers;
+
+    private ByteBuffer buffer;
+
+    private Thread writerThread;
+
+    private volatile Throwable failure;
+
+    @Override
+    public void afterPropertiesSet() {
+        Assert.isTrue(resource != null || outputStream != null, "resource 또는 outputStream 이 필요합니다.");
+        Assert.isTrue(bufferSize >= 1024, "bufferSize 는 1024 이상이어야 합니다.");
+        Assert.isTrue(bufferCount >= 2, "bufferCount 는 2 이상이어야 합니다.");
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        super.open(executionContext);
+
+        try {
+            if (resource != null) {
+                fileChannel = FileChannel.open(resource.getFile().toPath(),
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+
+                long position = executionContext.getLong(getExecutionContextKey(POSITION_KEY), 0L);
+                fileChannel.truncate(position); // 재시작시 마지막 커밋 이후에 쓰인 출력을 버림
+                fileChannel.position(position);
+                channel = fileChannel;
+            } else {
+                channel = Channels.newChannel(outputStream);
+            }
+        } catch (IOException e) {
+            throw new ItemStreamException("출력 파일을 열 수 없습니다: " + resource, e);
+        }
+
+        failure = null;
+        freeBuffers = new ArrayBlockingQueue<>(bufferCount);
+        filledBuffers = new ArrayBlockingQueue<>(bufferCount + 1);
+        for (int i = 0; i < bufferCount; i++) {
+            freeBuffers.add(ByteBuffer.allocateDirect(bufferSize));
+        }
+        buffer = takeFreeBuffer();
+
+        writerThread = new Thread(this::drainLoop, "buffered-customer-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void write(List<? extends Customer> items) throws Exception {
+        checkFailure();
+
+        for (Customer customer : items) {
+            putField(customer.getFirstName());
+            put(delimiter);
+            putField(customer.getMiddleInitial());
+            put(delimiter);
+            putField(customer.getLastName());
+            put(delimiter);
+            putField(customer.getAddress());
+            put(delimiter);
+            putField(customer.getCity());
+            put(delimiter);
+            putField(customer.getState());
+            put(delimiter);
+            putField(customer.getZip());
+            put((byte) '\n');
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        super.update(executionContext);
+
+        flush();
+
+        if (fileChannel != null) {
+            try {
+                executionContext.putLong(getExecutionContextKey(POSITION_KEY), fileChannel.position());
+            } catch (IOException e) {
+                throw new ItemStreamException("출력 파일 위치를 확인할 수 없습니다.", e);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        super.close();
+
+        if (writerThread == null) {
+            return;
+        }
+
+        try {
+            flush(); // 쓰기 스레드가 실패했으면 남은 버퍼를 버리고 실패를 던짐
+        } finally {
+            enqueue(STOP);
+            join(writerThread);
+            writerThread = null;
+
+            if (fileChannel != null) {
+                try {
+                    fileChannel.close();
+                } catch (IOException e) {
+                    throw new ItemStreamException("출력 파일을 닫을 수 없습니다.", e);
+                } finally {
+                    fileChannel = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * 현재 버퍼를 쓰기 스레드로 넘기고, 지금까지 넘긴 모든 버퍼가 쓰이고 force 될 때까지 기다림
+     */
+    private void flush() {
+        checkFailure();
+
+        if (buffer.position() > 0) {
+            enqueue(buffer);
+            buffer = takeFreeBuffer();
+        }
+
+        CountDownLatch flushed = new CountDownLatch(1);
+        enqueue(flushed);
+        try {
+            flushed.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ItemStreamException("출력 버퍼를 비우는 중 인터럽트되었습니다.", e);
+        }
+
+        checkFailure();
+    }
+
+    private void drainLoop() {
+        try {
+            while (true) {
+                Object next = filledBuffers.take();
+
+                if (next == STOP) {
+                    return;
+                }
+
+                if (next instanceof CountDownLatch) {
+                    try {
+                        if (fileChannel != null && failure == null) {
+                            fileChannel.force(false);
+                        }
+                    } finally {
+                        ((CountDownLatch) next).countDown();
+                    }
+                    continue;
+                }
+
+                ByteBuffer filled = (ByteBuffer) next;
+                try {
+                    if (failure == null) {
+                        filled.flip();
+                        while (filled.hasRemaining()) {
+                            channel.write(filled);
+                        }
+                    }
+                } finally {
+                    filled.clear();
+                    freeBuffers.put(filled);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            failure = e;
+            drainAfterFailure();
+        }
+    }
+
+    /**
+     * 쓰기 실패 후에도 스텝 스레드가 버퍼나 flush 를 기다리며 멈추지 않도록 남은 요청을 계속 처리함
+     */
+    private void drainAfterFailure() {
+        try {
+            while (true) {
+                Object next = filledBuffers.take();
+
+                if (next == STOP) {
+                    return;
+                }
+                if (next instanceof CountDownLatch) {
+                    ((CountDownLatch) next).countDown();
+                } else {
+                    ByteBuffer filled = (ByteBuffer) next;
+                    filled.clear();
+                    freeBuffers.put(filled);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void putField(String value) {
+        if (value == null) {
+            return;
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (c < 0x80) {
+                put((byte) c);
+            } else {
+                putNonAscii(value.substring(i));
+                return;
+            }
+        }
+    }
+
+    private void putNonAscii(String value) {
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            put(b);
+        }
+    }
+
+    private void put(byte b) {
+        if (!buffer.hasRemaining()) {
+            checkFailure();
+            enqueue(buffer);
+            buffer = takeFreeBuffer(); // 남은 버퍼가 없으면 쓰기 스레드가 버퍼를 돌려줄 때까지 기다림
+        }
+        buffer.put(b);
+    }
+
+    private ByteBuffer takeFreeBuffer() {
+        try {
+            return freeBuffers.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ItemStreamException("출력 버퍼를 기다리는 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    private void enqueue(Object next) {
+        try {
+            filledBuffers.put(next);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ItemStreamException("출력 버퍼를 넘기는 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    private static void join(Thread thread) {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void checkFailure() {
+        if (failure != null) {
+            throw new ItemStreamException("출력 쓰기에 실패했습니다.", failure);
+        }
+    }
+
+    public void setResource(Resource resource) {
+        this.resource = resource;
+    }
+
+    /**
+     * 파일 대신 스트림에 씀 (예: new FileOutputStream(FileDescriptor.out) 으로 System.out 의 잠금 없이 콘솔 출력)
+     */
+    public void setOutputStream(OutputStream outputStream) {
+        this.outputStream = outputStream;
+    }
+
+    public void setDelimiter(char delimiter) {
+        Assert.isTrue(delimiter < 0x80, "구분자는 ASCII 문자여야 합니다.");
+        this.delimiter = (byte) delimiter;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public void setBufferCount(int bufferCount) {
+        this.bufferCount = bufferCount;
+    }
+}
@@ -0,0 +1,245 @@
+package com.slicequeue.springboot.batch.batch.writer;
+
+import com.slicequeue.springboot.batch.domain.Customer;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.StatementCallback;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Customer 를 CUSTOMER 테이블에 쓰는 JDBC 배치 라이터
+ * - 한 문장에 rowsPerStatement 행을 담는 multi-row VALUES 문장을 JDBC 배치로 실행함
+ *   (MySQL 은 URL 에 rewriteBatchedStatements=true 를 주면 배치가 한 번의 왕복으로 전송됨)
+ * - (FIRST_NAME, MIDDLE_INITIAL, LAST_NAME, ZIP) 유니크 키에 대해 ON DUPLICATE KEY UPDATE 로 upsert 하므로
+ *   재시작으로 같은 청크를 다시 써도 행이 중복되지 않음
+ *   MySQL 유니크 키는 NULL 을 서로 다른 값으로 보므로 MIDDLE_INITIAL 은 NOT NULL DEFAULT '' 이며, 없는 중간 이름은 '' 로 씀
+ *   (이전 DDL 로 만든 테이블은 ALTER TABLE ... MODIFY MIDDLE_INITIAL VARCHAR(1) NOT NULL DEFAULT '' 가 필요함)
+ * - 청크가 loadDataThreshold 건 이상이면 LOAD DATA LOCAL INFILE 로 청크를 스트리밍함 (MySQL 드라이버 + allowLoadLocalInfile=true 필요)
+ *   MySQL 드라이버가 아니면 JDBC 배치로 처리함
+ * - 스텝 트랜잭션의 커넥션을 그대로 사용하므로 청크 롤백시 함께 롤백됨
+ */
+public class CustomerJdbcItemWriter implements ItemWriter<Customer>, InitializingBean {
+
+    private static final String DEFAULT_TABLE_NAME = "CUSTOMER";
+
+    private static final String COLUMNS = "FIRST_NAME, MIDDLE_INITIAL, LAST_NAME, ADDRESS, CITY, STATE, ZIP";
+
+    private static final int COLUMN_COUNT = 7;
+
+    private static final String MYSQL_STATEMENT_CLASS_NAME = "com.mysql.cj.jdbc.JdbcStatement";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private String tableName = DEFAULT_TABLE_NAME;
+
+    private boolean initializeSchema = true;
+
+    private int rowsPerStatement = 100;
+
+    private int loadDataThreshold = 0;
+
+    private String fullStatementSql;
+
+    private Class<?> mysqlStatementClass;
+
+    private Method setLocalInfileInputStream;
+
+    public CustomerJdbcItemWriter(DataSource dataSource) {
+        Assert.notNull(dataSource, "dataSource 는 필수입니다.");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        Assert.isTrue(rowsPerStatement > 0, "rowsPerStatement 는 0보다 커야 합니다.");
+
+        if (initializeSchema) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + tableName + " ("
+                    + "ID BIGINT NOT NULL AUTO_INCREMENT, "
+                    + "FIRST_NAME VARCHAR(100) NOT NULL, "
+                    + "MIDDLE_INITIAL VARCHAR(1) NOT NULL DEFAULT '', "
+                    + "LAST_NAME VARCHAR(100) NOT NULL, "
+                    + "ADDRESS VARCHAR(255), "
+                    + "CITY VARCHAR(100), "
+                    + "STATE VARCHAR(2), "
+                    + "ZIP VARCHAR(10) NOT NULL, "
+                    + "PRIMARY KEY (ID), "
+                    + "CONSTRAINT UK_" + tableName + " UNIQUE (FIRST_NAME, MIDDLE_INITIAL, LAST_NAME, ZIP))");
+        }
+
+        fullStatementSql = upsertSql(rowsPerStatement);
+
+        if (loadDataThreshold > 0 && ClassUtils.isPresent(MYSQL_STATEMENT_CLASS_NAME, getClass().getClassLoader())) {
+            mysqlStatementClass = ClassUtils.forName(MYSQL_STATEMENT_CLASS_NAME, getClass().getClassLoader());
+            setLocalInfileInputStream = mysqlStatementClass.getMethod("setLocalInfileInputStream", InputStream.class);
+        }
+    }
+
+    @Override
+    public void write(List<? extends Customer> items) throws Exception {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        if (setLocalInfileInputStream != null && items.size() >= loadDataThreshold && loadData(items)) {
+            return;
+        }
+
+        int fullStatementCount = items.size() / rowsPerStatement;
+        int remainder = items.size() % rowsPerStatement;
+
+        if (fullStatementCount > 0) {
+            jdbcTemplate.batchUpdate(fullStatementSql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    bind(ps, items, i * rowsPerStatement, rowsPerStatement);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return fullStatementCount;
+                }
+            });
+        }
+
+        if (remainder > 0) {
+            jdbcTemplate.update(upsertSql(remainder), ps -> bind(ps, items, fullStatementCount * rowsPerStatement, remainder));
+        }
+    }
+
+    /**
+     * LOAD DATA LOCAL INFILE 로 청크를 스트리밍. 유니크 키가 같은 행은 REPLACE 로 덮어씀
+     *
+     * @return MySQL 커넥션이 아니어서 처리하지 못했으면 false
+     */
+    private boolean loadData(List<? extends Customer> items) {
+        byte[] rows = toTabSeparatedRows(items);
+
+        Boolean loaded = jdbcTemplate.execute((StatementCallback<Boolean>) statement -> {
+            if (!statement.isWrapperFor(mysqlStatementClass)) {
+                return false;
+            }
+
+            Statement mysqlStatement = (Statement) statement.unwrap(mysqlStatementClass);
+            try {
+                setLocalInfileInputStream.invoke(mysqlStatement, new ByteArrayInputStream(rows));
+                mysqlStatement.execute("LOAD DATA LOCAL INFILE 'customer.tsv' REPLACE INTO TABLE " + tableName
+                        + " CHARACTER SET utf8mb4 FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n' ("
+                        + COLUMNS + ")");
+                return true;
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("LOAD DATA 입력 스트림을 설정할 수 없습니다.", e);
+            } finally {
+                try {
+                    setLocalInfileInputStream.invoke(mysqlStatement, (Object) null);
+                } catch (ReflectiveOperationException ignored) {
+                    // 커넥션 풀로 반환되는 문장에 입력 스트림을 남기지 않기 위한 정리이므로 무시
+                }
+            }
+        });
+
+        return Boolean.TRUE.equals(loaded);
+    }
+
+    private String upsertSql(int rowCount) {
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(tableName).append(" (").append(COLUMNS).append(") VALUES ");
+
+        for (int i = 0; i < rowCount; i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?, ?)");
+        }
+
+        return sql.append(" ON DUPLICATE KEY UPDATE ADDRESS = VALUES(ADDRESS), CITY = VALUES(CITY), STATE = VALUES(STATE)")
+                .toString();
+    }
+
+    private static void bind(PreparedStatement ps, List<? extends Customer> items, int from, int rowCount) throws SQLException {
+        int index = 1;
+
+        for (int i = from; i < from + rowCount; i++) {
+            Customer customer = items.get(i);
+
+            ps.setString(index++, customer.getFirstName());
+            ps.setString(index++, middleInitial(customer));
+            ps.setString(index++, customer.getLastName());
+            ps.setString(index++, customer.getAddress());
+            ps.setString(index++, customer.getCity());
+            ps.setString(index++, customer.getState());
+            ps.setString(index++, customer.getZip());
+        }
+
+        Assert.state(index == rowCount * COLUMN_COUNT + 1, "바인딩한 파라미터 수가 맞지 않습니다.");
+    }
+
+    private static byte[] toTabSeparatedRows(List<? extends Customer> items) {
+        StringBuilder rows = new StringBuilder(items.size() * 64);
+
+        for (Customer customer : items) {
+            appendField(rows, customer.getFirstName()).append('\t');
+            appendField(rows, middleInitial(customer)).append('\t');
+            appendField(rows, customer.getLastName()).append('\t');
+            appendField(rows, customer.getAddress()).append('\t');
+            appendField(rows, customer.getCity()).append('\t');
+            appendField(rows, customer.getState()).append('\t');
+            appendField(rows, customer.getZip()).append('\n');
+        }
+
+        return rows.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 유니크 키 컬럼이므로 NULL 대신 '' 사용
+     */
+    private static String middleInitial(Customer customer) {
+        return customer.getMiddleInitial() != null ? customer.getMiddleInitial() : "";
+    }
+
+    private static StringBuilder appendField(StringBuilder rows, String value) {
+        if (value == null) {
+            return rows.append("\\N");
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\': rows.append("\\\\"); break;
+                case '\t': rows.append("\\t"); break;
+                case '\n': rows.append("\\n"); break;
+                case '\r': rows.append("\\r"); break;
+                default: rows.append(c);
+            }
+        }
+        return rows;
+    }
+
+    public void setTableName(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public void setInitializeSchema(boolean initializeSchema) {
+        this.initializeSchema = initializeSchema;
+    }
+
+    public void setRowsPerStatement(int rowsPerStatement) {
+        this.rowsPerStatement = rowsPerStatement;
+    }
+
+    /**
+     * 청크가 이 건수 이상이면 LOAD DATA LOCAL INFILE 사용 (0 이면 사용하지 않음, 기본값)
+     */
+    public void setLoadDataThreshold(int loadDataThreshold) {
+        this.loadDataThreshold = loadDataThreshold;
+    }
+}
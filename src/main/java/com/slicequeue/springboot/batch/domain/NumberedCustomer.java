@@ -0,0 +1,29 @@
+package com.slicequeue.springboot.batch.domain;
+
+import org.springframework.batch.item.ItemCountAware;
+
+/**
+ * 입력에서 몇 번째 아이템인지 알고 있는 Customer
+ * - ItemCountAware 를 구현하므로 FlatFileItemReader 등 AbstractItemCountingItemStreamItemReader 와 MappedCustomerItemReader(numbered) 가 번호를 설정함
+ * - FirstOccurrenceValidator 가 번호로 첫 등장 여부를 판정할 때 사용함
+ */
+public class NumberedCustomer extends Customer implements ItemCountAware {
+
+    private int itemCount;
+
+    public NumberedCustomer() {
+    }
+
+    public NumberedCustomer(String firstName, String middleInitial, String lastName, String address, String city, String state, String zip) {
+        super(firstName, middleInitial, lastName, address, city, state, zip);
+    }
+
+    @Override
+    public void setItemCount(int count) {
+        this.itemCount = count;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+}
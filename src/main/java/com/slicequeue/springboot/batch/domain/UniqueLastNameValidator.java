@@ -1,56 +1,109 @@
 package com.slicequeue.springboot.batch.domain;
 
+import com.slicequeue.springboot.batch.batch.checkpoint.FileCheckpointLog;
+import com.slicequeue.springboot.batch.batch.checkpoint.IncrementalCheckpointStreamSupport;
+import com.slicequeue.springboot.batch.batch.unique.OpenAddressingUniquenessStore;
+import com.slicequeue.springboot.batch.batch.unique.UniquenessStore;
+import com.slicequeue.springboot.batch.batch.validator.ResultValidator;
+import com.slicequeue.springboot.batch.batch.validator.ValidationResult;
 import org.springframework.batch.item.ExecutionContext;
-import org.springframework.batch.item.ItemStreamSupport;
 import org.springframework.batch.item.validator.ValidationException;
 import org.springframework.batch.item.validator.Validator;
 
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.Set;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
 
 /**
  * lastName 필드 값이 고유해야한다고 가정하는 경우! 레코드가 해당 사항을 준수하는지 확인하기 위해서는 lastName 추적하는 상태를 가진 유효성 검증기를 구현함
  * 검증 기능을 직접 구현하고 싶은 경우이며 유효성 검증기를
  * - org.springframework.batch.item.validator.Validator 인터페이스 구현
  * - org.springframework.batch.item.ItemStreamSupport 이용하여 각 커밋과
+ * - lastName 저장은 UniquenessStore 에 위임함 (기본: 정확한 판정의 OpenAddressingUniquenessStore, 근사 판정: BloomFilterUniquenessStore)
+ * - 커밋별 추가분은 CheckpointLog 에 기록하고 ExecutionContext 에는 로그 키와 sequence 만 저장하며, 재시작시 로그를 재생하여 복원함
+ *   기본은 임시 디렉토리의 FileCheckpointLog 이며, 재시작이 다른 호스트에서 실행될 수 있으면 JdbcCheckpointLog 를 설정해야 함
+ * - setCheckpointLog(null) 인 경우에만 UniquenessStore 의 ExecutionContext 체크포인트를 사용함 (커밋마다 ExecutionContext 전체가 저장되므로 작은 입력용)
  */
-public class UniqueLastNameValidator extends ItemStreamSupport implements Validator<Customer> {
+public class UniqueLastNameValidator extends IncrementalCheckpointStreamSupport implements Validator<Customer>, ResultValidator<Customer> {
 
-    private Set<String> lastNames = new HashSet<>();
+    private static final ValidationResult DUPLICATE = ValidationResult.reject("lastName.unique", "Duplicate last name was found");
+
+    private static final Path DEFAULT_CHECKPOINT_DIRECTORY = Paths.get(System.getProperty("java.io.tmpdir"), "spring-batch-checkpoint");
+
+    private UniquenessStore lastNames = new OpenAddressingUniquenessStore();
+
+    public UniqueLastNameValidator() {
+        setCheckpointLog(new FileCheckpointLog(DEFAULT_CHECKPOINT_DIRECTORY));
+    }
 
     @Override
     public void validate(Customer value) throws ValidationException {
-        if(lastNames.contains(value.getLastName())) {
+        ensureRestored();
+
+        if (!lastNames.add(value.getLastName())) {
             throw new ValidationException("Duplicate last name was found: " + value.getLastName());
         }
 
-        this.lastNames.add(value.getLastName());
+        record(value.getLastName());
+    }
+
+    /**
+     * 예외/메시지 없이 중복 여부만 반환 (CollectingValidatingItemProcessor 용)
+     */
+    @Override
+    public ValidationResult check(Customer value) {
+        ensureRestored();
+
+        if (!lastNames.add(value.getLastName())) {
+            return DUPLICATE;
+        }
+
+        record(value.getLastName());
+        return ValidationResult.VALID;
+    }
+
+    @Override
+    protected void restoreEntry(String lastName) {
+        lastNames.add(lastName);
     }
 
     // update 와 open 메서드는 Execution 간에 상태를 유지하는데 사용함
 
     @Override
     public void open(ExecutionContext executionContext) {
+        if (isCheckpointLogEnabled()) {
+            super.open(executionContext); // 상태 복원은 첫 validate 호출시 로그 재생으로 수행
+            return;
+        }
+
         // lastNames 필드가 이전 Execution 에 저장돼 있는지 확인함
         // 만약 저장되어 있다면 스텝 처리가 시작되기 전에 해당 갑으로 원복함
         String lastNames = getExecutionContextKey("lastNames");
 
         if (executionContext.containsKey(lastNames)) {
-            this.lastNames = (Set<String>) executionContext.get("lastNames");
+            // 이전 버전에서 Set 전체를 저장한 ExecutionContext 로부터 재시작하는 경우
+            for (Object lastName : (Collection<?>) executionContext.get(lastNames)) {
+                this.lastNames.add((String) lastName);
+            }
         }
+
+        this.lastNames.restore(executionContext, lastNames);
     }
 
     @Override
     public void update(ExecutionContext executionContext) {
+        if (isCheckpointLogEnabled()) {
+            super.update(executionContext);
+            return;
+        }
+
         // update 메서드는 트랜잭션이 커밋되면 청크당 한 번 호출된다.
         // 다음 청크에 오류가 발생할 경우 현재 상태를 ExecutionContext 에 저장
-        Iterator<String> itr = lastNames.iterator();
-        Set<String> copiedLastNames = new HashSet<>();
-        while (itr.hasNext()) {
-            copiedLastNames.add(itr.next());
-        }
+        // 전체 Set 을 복사하지 않고 마지막 커밋 이후 추가된 lastName 만 기록함
+        lastNames.checkpoint(executionContext, getExecutionContextKey("lastNames"));
+    }
 
-        executionContext.put(getExecutionContextKey("lastNames"), copiedLastNames);
+    public void setUniquenessStore(UniquenessStore uniquenessStore) {
+        this.lastNames = uniquenessStore;
     }
 }
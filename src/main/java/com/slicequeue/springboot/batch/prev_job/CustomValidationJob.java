@@ -1,10 +1,12 @@
 package com.slicequeue.springboot.batch.prev_job;
 
+import com.slicequeue.springboot.batch.batch.checkpoint.JdbcCheckpointLog;
 import com.slicequeue.springboot.batch.domain.Customer;
 import com.slicequeue.springboot.batch.domain.UniqueLastNameValidator;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParametersValidator;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
 import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
 import org.springframework.batch.core.configuration.annotation.StepScope;
@@ -20,6 +22,8 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.io.Resource;
 
+import javax.sql.DataSource;
+
 //@EnableBatchProcessing
 //@SpringBootApplication
 public class CustomValidationJob {
@@ -69,9 +73,15 @@ public class CustomValidationJob {
     public UniqueLastNameValidator validator() { // UniqueLastNameValidator 빈 등록
         UniqueLastNameValidator uniqueLastNameValidator = new UniqueLastNameValidator();
         uniqueLastNameValidator.setName("validator");
+        uniqueLastNameValidator.setCheckpointLog(checkpointLog(null)); // 커밋마다 추가된 lastName 만 BATCH_CHECKPOINT_LOG 에 기록
         return uniqueLastNameValidator;
     }
 
+    @Bean
+    public JdbcCheckpointLog checkpointLog(DataSource dataSource) { // 배치 메타데이터와 같은 데이터소스 사용 -> 청크 트랜잭션과 함께 커밋
+        return new JdbcCheckpointLog(dataSource);
+    }
+
     @Bean
     public Step copyFileStep() {
         return this.stepBuilderFactory.get("copyFileStep")
@@ -80,6 +90,7 @@ public class CustomValidationJob {
                 .processor(customerValidatingItemProcessor())
                 .writer(itemWriter())
                 .stream(validator()) // ItemStream 관련 메서드를 호출할 수 잇도록 등록 -> UniqueLastNameValidator 에서 ItemStreamSupport 상속 구현 한 것 적용되도록!
+                .listener((StepExecutionListener) validator()) // 스텝이 COMPLETED 로 끝나면 체크포인트 로그 삭제
                 .build();
     }
 
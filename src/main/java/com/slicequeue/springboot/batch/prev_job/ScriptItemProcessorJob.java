@@ -1,5 +1,6 @@
 package com.slicequeue.springboot.batch.prev_job;
 
+import com.slicequeue.springboot.batch.batch.script.CompiledScriptItemProcessor;
 import com.slicequeue.springboot.batch.domain.Customer;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParametersValidator;
@@ -12,7 +13,6 @@ import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.file.FlatFileItemReader;
 import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
-import org.springframework.batch.item.support.ScriptItemProcessor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
@@ -63,11 +63,11 @@ public class ScriptItemProcessorJob {
 
     @Bean
     @StepScope
-    public ScriptItemProcessor<Customer, Customer> scriptItemProcessor(
+    public CompiledScriptItemProcessor<Customer, Customer> scriptItemProcessor(
             @Value("#{jobParameters['script']}") Resource script) {
 
-        ScriptItemProcessor<Customer, Customer> itemProcessor =
-                new ScriptItemProcessor<>();
+        CompiledScriptItemProcessor<Customer, Customer> itemProcessor =
+                new CompiledScriptItemProcessor<>();
 
         itemProcessor.setScript(script);
 
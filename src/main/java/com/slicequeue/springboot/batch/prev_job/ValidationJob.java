@@ -1,5 +1,6 @@
 package com.slicequeue.springboot.batch.prev_job;
 
+import com.slicequeue.springboot.batch.batch.validator.CompiledBeanValidatingItemProcessor;
 import com.slicequeue.springboot.batch.domain.Customer;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParametersValidator;
@@ -12,7 +13,6 @@ import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.file.FlatFileItemReader;
 import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
-import org.springframework.batch.item.validator.BeanValidatingItemProcessor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
@@ -59,14 +59,15 @@ public class ValidationJob {
 
     // 프로세서 정의
     @Bean
-    public BeanValidatingItemProcessor<Customer> customerBeanValidatingItemProcessor() {
+    public CompiledBeanValidatingItemProcessor<Customer> customerBeanValidatingItemProcessor() {
         /*
          * ValidatingItemProcessor 의 유효성 검증 기능은 org.springframework.batch.item.validator.Validator 구현체를 통해 제공
          * 이 Validator 인터페이스는 void validate(T value) 라는 단일 메서드를 가지고 잇으며 아이템이 유효시 수행하지 않으며 다음 프로세스 또는 writer 로 진행
          * 검증 실패시 ValidationException 발행함! 따라서 BeanValidatingItemProcessor 는 JSR-303 사양에 따르는 Validator 객체를 생성하는 점에서 특별한 ItemProcessor 임
          * - 스프링 배치와 스프링 코어의 Validator 인터페이스는 동일하지 않기에 스프링 배치에서는 SpringValidator 라는 어뎁터 클래스를 제공함
+         * - CompiledBeanValidatingItemProcessor 는 같은 Customer 어노테이션을 시작 시점에 한 번만 분석하여 아이템마다 Hibernate Validator 를 거치지 않음
          */
-        return new BeanValidatingItemProcessor<>();
+        return new CompiledBeanValidatingItemProcessor<>(Customer.class);
     }
 
     @Bean
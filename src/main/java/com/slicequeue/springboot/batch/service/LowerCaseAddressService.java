@@ -0,0 +1,21 @@
+package com.slicequeue.springboot.batch.service;
+
+import com.slicequeue.springboot.batch.batch.transform.AsciiCase;
+import com.slicequeue.springboot.batch.domain.Customer;
+import org.springframework.stereotype.Service;
+
+/**
+ * lowerCase.js 와 같은 변환(주소 관련 필드를 소문자로 변경)을 스크립트 엔진 없이 제자리에서 수행
+ */
+@Service
+public class LowerCaseAddressService {
+
+    public Customer lowerCaseInPlace(Customer customer) {
+        customer.setAddress(AsciiCase.toLowerCase(customer.getAddress()));
+        customer.setCity(AsciiCase.toLowerCase(customer.getCity()));
+        customer.setState(AsciiCase.toLowerCase(customer.getState()));
+
+        return customer;
+    }
+
+}
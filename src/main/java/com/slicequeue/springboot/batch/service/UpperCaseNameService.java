@@ -1,5 +1,6 @@
 package com.slicequeue.springboot.batch.service;
 
+import com.slicequeue.springboot.batch.batch.transform.AsciiCase;
 import com.slicequeue.springboot.batch.domain.Customer;
 import org.springframework.stereotype.Service;
 
@@ -9,11 +10,19 @@ public class UpperCaseNameService {
     public Customer upperCase(Customer customer) {
         Customer newCustomer = new Customer(customer);
 
-        newCustomer.setFirstName(newCustomer.getFirstName().toUpperCase());
-        newCustomer.setMiddleInitial(newCustomer.getMiddleInitial().toUpperCase());
-        newCustomer.setLastName(newCustomer.getLastName().toUpperCase());
+        return upperCaseInPlace(newCustomer);
+    }
+
+    /**
+     * 새 Customer 를 만들지 않고 전달받은 고객의 이름을 대문자로 변경
+     * - 이미 대문자인 필드는 같은 String 인스턴스를 유지함
+     */
+    public Customer upperCaseInPlace(Customer customer) {
+        customer.setFirstName(AsciiCase.toUpperCase(customer.getFirstName()));
+        customer.setMiddleInitial(AsciiCase.toUpperCase(customer.getMiddleInitial()));
+        customer.setLastName(AsciiCase.toUpperCase(customer.getLastName()));
 
-        return newCustomer;
+        return customer;
     }
 
 }
@@ -0,0 +1,7 @@
+for (var i = 0; i < items.size(); i++) {
+    var item = items.get(i);
+    item.setAddress(item.getAddress().toLowerCase());
+    item.setCity(item.getCity().toLowerCase());
+    item.setState(item.getState().toLowerCase());
+}
+items;
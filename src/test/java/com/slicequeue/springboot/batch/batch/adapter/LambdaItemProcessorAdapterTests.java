@@ -0,0 +1,79 @@
+package com.slicequeue.springboot.batch.batch.adapter;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LambdaItemProcessorAdapterTests {
+
+	static final IOException CHECKED = new IOException("checked");
+
+	static final IllegalArgumentException UNCHECKED = new IllegalArgumentException("unchecked");
+
+	/**
+	 * publicTarget: LambdaMetafactory 로 만든 람다 호출, 그 외: MethodHandle 호출로 대체
+	 */
+	@ParameterizedTest
+	@ValueSource(booleans = {true, false})
+	void invokesTargetMethod(boolean publicTarget) throws Exception {
+		LambdaItemProcessorAdapter<String, String> adapter = adapter(publicTarget);
+
+		assertThat(adapter.process("darrow")).isEqualTo("DARROW");
+		assertThat(adapter.process("")).isNull(); // null 반환은 필터링
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = {true, false})
+	void rethrowsCheckedExceptionUnchanged(boolean publicTarget) throws Exception {
+		LambdaItemProcessorAdapter<String, String> adapter = adapter(publicTarget);
+
+		assertThatThrownBy(() -> adapter.process("checked")).isSameAs(CHECKED);
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = {true, false})
+	void rethrowsUncheckedExceptionUnchanged(boolean publicTarget) throws Exception {
+		LambdaItemProcessorAdapter<String, String> adapter = adapter(publicTarget);
+
+		assertThatThrownBy(() -> adapter.process("unchecked")).isSameAs(UNCHECKED);
+	}
+
+	private static LambdaItemProcessorAdapter<String, String> adapter(boolean publicTarget) throws Exception {
+		LambdaItemProcessorAdapter<String, String> adapter = new LambdaItemProcessorAdapter<>();
+		adapter.setTargetObject(publicTarget ? new PublicTarget() : new PackagePrivateTarget());
+		adapter.setTargetMethod("upperCase");
+		adapter.afterPropertiesSet();
+		return adapter;
+	}
+
+	private static String upperCase(String value) throws IOException {
+		switch (value) {
+			case "checked":
+				throw CHECKED;
+			case "unchecked":
+				throw UNCHECKED;
+			case "":
+				return null;
+			default:
+				return value.toUpperCase();
+		}
+	}
+
+	public static class PublicTarget {
+
+		public String upperCase(String value) throws IOException {
+			return LambdaItemProcessorAdapterTests.upperCase(value);
+		}
+	}
+
+	static class PackagePrivateTarget {
+
+		String upperCase(String value) throws IOException {
+			return LambdaItemProcessorAdapterTests.upperCase(value);
+		}
+	}
+}
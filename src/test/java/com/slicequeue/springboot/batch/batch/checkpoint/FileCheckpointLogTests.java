@@ -0,0 +1,38 @@
+package com.slicequeue.springboot.batch.batch.checkpoint;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileCheckpointLogTests {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void truncateKeepsEveryCommittedEntryAcrossManyCommits() {
+		FileCheckpointLog checkpointLog = new FileCheckpointLog(directory);
+		List<String> expected = new ArrayList<>();
+
+		for (long sequence = 1; sequence <= 250; sequence++) {
+			List<String> entries = Arrays.asList("Last" + sequence + "a", "Last" + sequence + "\nb");
+			checkpointLog.append("log", sequence, entries);
+			if (sequence <= 240) {
+				expected.addAll(entries);
+			}
+		}
+
+		checkpointLog.truncate("log", 240); // 240 번째 커밋까지만 ExecutionContext 에 반영된 뒤 실패한 경우
+
+		List<String> replayed = new ArrayList<>();
+		checkpointLog.replay("log", Long.MAX_VALUE, replayed::add);
+
+		assertThat(replayed).isEqualTo(expected);
+	}
+}
@@ -0,0 +1,79 @@
+package com.slicequeue.springboot.batch.batch.checkpoint;
+
+import com.slicequeue.springboot.support.H2BatchApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcCheckpointLogTests {
+
+	private JdbcCheckpointLog checkpointLog;
+
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(H2BatchApplication.newDatabaseUrl());
+		checkpointLog = new JdbcCheckpointLog(dataSource);
+		checkpointLog.setCompactEntries(50);
+		checkpointLog.afterPropertiesSet();
+		jdbcTemplate = new JdbcTemplate(dataSource);
+	}
+
+	@Test
+	void replayAfterCompactionRestoresSameEntries() {
+		List<String> expected = new ArrayList<>();
+
+		for (long sequence = 1; sequence <= 250; sequence++) {
+			List<String> entries = Arrays.asList("Last" + sequence + "a", "Last" + sequence + "\nb");
+			checkpointLog.append("log", sequence, entries);
+			if (sequence <= 240) {
+				expected.addAll(entries);
+			}
+		}
+
+		// 240 번째 커밋까지만 ExecutionContext 에 반영된 뒤 실패하고 재시작한 경우 open 에서의 순서
+		checkpointLog.truncate("log", 240);
+		checkpointLog.compact("log", 240);
+
+		assertThat(replay(240)).isEqualTo(expected);
+		assertThat(recordCount()).isEqualTo(10); // 커밋당 entry 2개, 50개 단위로 합침
+
+		// 합친 레코드는 커밋된 sequence 이하이므로 이후 재시작의 truncate 로 지워지지 않음
+		checkpointLog.append("log", 241, Collections.singletonList("Next"));
+		checkpointLog.truncate("log", 240);
+		checkpointLog.compact("log", 240);
+
+		assertThat(replay(Long.MAX_VALUE)).isEqualTo(expected);
+	}
+
+	@Test
+	void deleteRemovesWholeLog() {
+		checkpointLog.append("log", 1, Collections.singletonList("Darrow"));
+		checkpointLog.append("other", 1, Collections.singletonList("Obama"));
+
+		checkpointLog.delete("log");
+
+		assertThat(replay(Long.MAX_VALUE)).isEmpty();
+		assertThat(recordCount()).isZero();
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM BATCH_CHECKPOINT_LOG", Integer.class)).isEqualTo(1);
+	}
+
+	private List<String> replay(long upToSequence) {
+		List<String> replayed = new ArrayList<>();
+		checkpointLog.replay("log", upToSequence, replayed::add);
+		return replayed;
+	}
+
+	private int recordCount() {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM BATCH_CHECKPOINT_LOG WHERE STREAM_KEY = 'log'", Integer.class);
+	}
+}
@@ -0,0 +1,105 @@
+package com.slicequeue.springboot.batch.batch.chunk;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ItemProcessor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelCompositeItemProcessorTests {
+
+	private ParallelCompositeItemProcessor<Integer, String> processor;
+
+	@AfterEach
+	void tearDown() {
+		processor.destroy();
+	}
+
+	@Test
+	void keepsInputOrder() throws Exception {
+		processor = processor(Collections.emptyList(), Collections.singletonList((ItemProcessor<Integer, String>) item -> {
+			TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextInt(3)); // 구간마다 끝나는 순서가 달라지도록
+			return "item-" + item;
+		}));
+
+		List<String> results = processor.processChunk(items(100));
+
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			expected.add("item-" + i);
+		}
+		assertThat(results).isEqualTo(expected);
+	}
+
+	@Test
+	void filtersItemsWhenAnyDelegateReturnsNull() throws Exception {
+		AtomicInteger parallelCalls = new AtomicInteger();
+		processor = processor(
+				Collections.singletonList((ItemProcessor<Integer, Integer>) item -> item % 3 == 0 ? null : item),
+				Collections.singletonList((ItemProcessor<Integer, String>) item -> {
+					parallelCalls.incrementAndGet();
+					return item % 5 == 0 ? null : "item-" + item;
+				}));
+
+		List<String> results = processor.processChunk(items(30));
+
+		for (int i = 0; i < 30; i++) {
+			assertThat(results.get(i)).as("item %d", i).isEqualTo(i % 3 == 0 || i % 5 == 0 ? null : "item-" + i);
+		}
+		assertThat(parallelCalls.get()).isEqualTo(20); // 순차 위임 프로세서가 거른 아이템은 병렬 체인에 넘기지 않음
+		assertThat(processor.process(4)).isEqualTo("item-4");
+		assertThat(processor.process(3)).isNull();
+	}
+
+	@Test
+	void propagatesDelegateExceptionAndCancelsRemainingSlices() {
+		IllegalStateException failure = new IllegalStateException("boom");
+		AtomicInteger processed = new AtomicInteger();
+		processor = processor(Collections.emptyList(), Collections.singletonList((ItemProcessor<Integer, String>) item -> {
+			if (item == 0) {
+				throw failure;
+			}
+			TimeUnit.MILLISECONDS.sleep(50); // 취소되면 인터럽트로 중단됨
+			processed.incrementAndGet();
+			return "item-" + item;
+		}));
+
+		long start = System.nanoTime();
+		// 4개 구간 x 25건: 첫 구간의 첫 아이템이 실패하면 나머지 구간(각 1.25초 분량)은 취소돼야 함
+		assertThatThrownBy(() -> processor.processChunk(items(100))).isSameAs(failure);
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		assertThat(elapsedMillis).isLessThan(1_000);
+		assertThat(processed.get()).isLessThan(75);
+	}
+
+	private static ParallelCompositeItemProcessor<Integer, String> processor(List<? extends ItemProcessor<?, ?>> sequentialDelegates,
+																			 List<? extends ItemProcessor<?, ?>> delegates) {
+		ParallelCompositeItemProcessor<Integer, String> processor = new ParallelCompositeItemProcessor<>();
+		processor.setSequentialDelegates(sequentialDelegates);
+		processor.setDelegates(delegates);
+		processor.setConcurrencyLimit(4);
+		try {
+			processor.afterPropertiesSet();
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+		return processor;
+	}
+
+	private static List<Integer> items(int count) {
+		List<Integer> items = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			items.add(i);
+		}
+		return items;
+	}
+}
@@ -0,0 +1,87 @@
+package com.slicequeue.springboot.batch.batch.classify;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class RoutingClassifierTests {
+
+	private static final int[] PARITY = {0, 1, 0, 1, 0, 1, 0, 1, 0, 1};
+
+	@ParameterizedTest
+	@ValueSource(strings = {"0", "12344", "00000", "99998"})
+	void lastDigitRoutesEvenValues(String value) {
+		assertThat(parity().classify(value)).isEqualTo("even");
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"1", "12345", "00001", "99999"})
+	void lastDigitRoutesOddValues(String value) {
+		assertThat(parity().classify(value)).isEqualTo("odd");
+	}
+
+	@ParameterizedTest
+	@NullAndEmptySource
+	@ValueSource(strings = {"12a45", "ZIP1A", "1234 ", " 1234", "+1234", "-1234", "1234５"})
+	void rejectsMalformedKeysWithoutFallback(String value) {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> parity().classify(value))
+				.withMessageContaining("경로를 결정할 수 없는 아이템");
+	}
+
+	@ParameterizedTest
+	@NullAndEmptySource
+	@ValueSource(strings = {"12a45", "ZIP1A", "+1234"})
+	void routesMalformedKeysToFallback(String value) {
+		RoutingClassifier<String, String> classifier = new RoutingClassifier<>(
+				RouteKey.lastDigit(Function.identity(), PARITY), Arrays.asList("even", "odd"), "fallback");
+
+		assertThat(classifier.classify(value)).isEqualTo("fallback");
+	}
+
+	@Test
+	void digitPrefixRoutesByLeadingDigits() {
+		int[] table = new int[100];
+		table[12] = 1;
+		RoutingClassifier<String, String> classifier = new RoutingClassifier<>(
+				RouteKey.digitPrefix(Function.identity(), 2, table), Arrays.asList("other", "twelve"));
+
+		assertThat(classifier.classify("12345")).isEqualTo("twelve");
+		assertThat(classifier.classify("99999")).isEqualTo("other");
+		assertThatIllegalArgumentException().isThrownBy(() -> classifier.classify("1"));
+		assertThatIllegalArgumentException().isThrownBy(() -> classifier.classify("1a345"));
+	}
+
+	@Test
+	void outOfRangeRouteGoesToFallback() {
+		RoutingClassifier<String, String> classifier = new RoutingClassifier<>(
+				RouteKey.lookup(Function.identity(), Collections.singletonMap("CA", 5)),
+				Collections.singletonList("only"), "fallback");
+
+		assertThat(classifier.classify("CA")).isEqualTo("fallback");
+		assertThat(classifier.classify("NY")).isEqualTo("fallback");
+	}
+
+	@Test
+	void lookupRoutesKnownValues() {
+		RoutingClassifier<String, String> classifier = new RoutingClassifier<>(
+				RouteKey.lookup(Function.identity(), Collections.singletonMap("CA", 1)),
+				Arrays.asList("zero", "one"));
+
+		assertThat(classifier.classify("CA")).isEqualTo("one");
+		assertThatIllegalArgumentException().isThrownBy(() -> classifier.classify("NY"));
+		assertThatIllegalArgumentException().isThrownBy(() -> classifier.classify(null));
+	}
+
+	private static RoutingClassifier<String, String> parity() {
+		return new RoutingClassifier<>(RouteKey.lastDigit(Function.identity(), PARITY), Arrays.asList("even", "odd"));
+	}
+}
@@ -0,0 +1,51 @@
+package com.slicequeue.springboot.batch.batch.classify;
+
+import com.slicequeue.springboot.batch.batch.ZipCodeClassifier;
+import com.slicequeue.springboot.batch.domain.Customer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.batch.item.ItemProcessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class ZipCodeClassifierTests {
+
+	private final ItemProcessor<Customer, Customer> odd = item -> item;
+
+	private final ItemProcessor<Customer, Customer> even = item -> item;
+
+	private final ItemProcessor<Customer, Customer> filter = item -> null;
+
+	@ParameterizedTest
+	@ValueSource(strings = {"00000", "12344", "54321", "99999", "10007"})
+	void routesLikeParseInt(String zip) {
+		ZipCodeClassifier classifier = new ZipCodeClassifier(odd, even);
+
+		assertThat(classifier.classify(customer(zip))).isSameAs(Integer.parseInt(zip) % 2 == 0 ? even : odd);
+	}
+
+	@ParameterizedTest
+	@NullAndEmptySource
+	@ValueSource(strings = {"12a45", "ZIP1A", "1234 "})
+	void rejectsMalformedZipByDefault(String zip) {
+		ZipCodeClassifier classifier = new ZipCodeClassifier(odd, even);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> classifier.classify(customer(zip)));
+	}
+
+	@Test
+	void routesMalformedZipToExplicitFallback() {
+		ZipCodeClassifier classifier = new ZipCodeClassifier(odd, even, filter);
+
+		assertThat(classifier.classify(customer("12a45"))).isSameAs(filter);
+		assertThat(classifier.classify(customer("ZIP1A"))).isSameAs(filter);
+		assertThat(classifier.classify(customer("12345"))).isSameAs(odd);
+	}
+
+	private static Customer customer(String zip) {
+		return new Customer("Jane", "A", "Doe", "1 Main St.", "Springfield", "IL", zip);
+	}
+}
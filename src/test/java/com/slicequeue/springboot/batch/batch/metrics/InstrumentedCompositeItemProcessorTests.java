@@ -0,0 +1,216 @@
+package com.slicequeue.springboot.batch.batch.metrics;
+
+import com.slicequeue.springboot.batch.domain.Customer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.StepScope;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Scope;
+import org.springframework.context.annotation.ScopedProxyMode;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InstrumentedCompositeItemProcessorTests {
+
+	private AnnotationConfigApplicationContext context;
+
+	private ItemProcessor<Customer, Customer> proxy;
+
+	@BeforeEach
+	void setUp() {
+		context = new AnnotationConfigApplicationContext();
+		context.registerBean(StepScope.class, () -> {
+			StepScope stepScope = new StepScope();
+			stepScope.setAutoProxy(false); // @EnableBatchProcessing 과 같이 @StepScope 의 프록시만 사용
+			return stepScope;
+		});
+		context.register(CountingItemProcessor.class);
+		context.refresh();
+
+		proxy = context.getBean(CountingItemProcessor.class);
+	}
+
+	@AfterEach
+	void tearDown() {
+		context.close();
+	}
+
+	@Test
+	void resolvesStepScopedDelegatesOncePerStep() throws Exception {
+		InstrumentedCompositeItemProcessor<Customer, Customer> composite = composite();
+		StepExecution stepExecution = stepExecution(1L);
+
+		StepSynchronizationManager.register(stepExecution);
+		composite.beforeStep(stepExecution);
+		StepSynchronizationManager.close(); // 스텝 컨텍스트가 없으면 프록시 호출은 실패하므로, 아래 처리는 대상 객체를 직접 호출한 것
+
+		Customer customer = customer();
+		composite.process(customer);
+		composite.process(customer);
+
+		assertThat(customer.getMiddleInitial()).isEqualTo("2");
+
+		composite.afterStep(stepExecution);
+
+		assertThatThrownBy(() -> composite.process(customer)).isInstanceOf(BeanCreationException.class);
+	}
+
+	@Test
+	void keepsProxiesWhileStepsOverlap() throws Exception {
+		InstrumentedCompositeItemProcessor<Customer, Customer> composite = composite();
+		StepExecution first = stepExecution(1L);
+		StepExecution second = stepExecution(2L);
+
+		StepSynchronizationManager.register(first);
+		composite.beforeStep(first);
+		StepSynchronizationManager.close();
+
+		StepSynchronizationManager.register(second);
+		composite.beforeStep(second);
+		StepSynchronizationManager.close();
+
+		assertThatThrownBy(() -> composite.process(customer())).isInstanceOf(BeanCreationException.class);
+
+		composite.afterStep(first);
+		composite.afterStep(second);
+
+		// 겹치는 스텝이 모두 끝나면 다음 스텝은 다시 대상 객체를 직접 사용함
+		StepExecution third = stepExecution(3L);
+		StepSynchronizationManager.register(third);
+		composite.beforeStep(third);
+		StepSynchronizationManager.close();
+
+		Customer customer = customer();
+		composite.process(customer);
+
+		assertThat(customer.getMiddleInitial()).isEqualTo("1");
+	}
+
+	@Test
+	void summaryCoversOnlyTheCurrentStepExecution() throws Exception {
+		InstrumentedCompositeItemProcessor<Customer, Customer> composite = new InstrumentedCompositeItemProcessor<>();
+		composite.setDelegates(Collections.singletonList((ItemProcessor<Customer, Customer>) item -> {
+			if ("Slow".equals(item.getLastName())) {
+				TimeUnit.MILLISECONDS.sleep(5);
+			}
+			return item;
+		}));
+		composite.setDelegateNames(Collections.singletonList("delegate"));
+		composite.setName("summary");
+		composite.afterPropertiesSet(); // 기본 Metrics.globalRegistry (등록된 레지스트리 없음)
+
+		StepExecution first = stepExecution(1L);
+		composite.beforeStep(first);
+		for (int i = 0; i < 3; i++) {
+			composite.process(customer());
+		}
+		composite.afterStep(first);
+
+		StepExecution second = stepExecution(2L);
+		composite.beforeStep(second);
+		composite.process(customer());
+		Customer slow = customer();
+		slow.setLastName("Slow");
+		composite.process(slow);
+		composite.afterStep(second);
+
+		assertThat(first.getExecutionContext().getLong("instrumentation.summary.in")).isEqualTo(3);
+
+		ExecutionContext executionContext = second.getExecutionContext();
+		assertThat(executionContext.getLong("instrumentation.summary.in")).isEqualTo(2);
+		assertThat(executionContext.getLong("instrumentation.summary.delegate.count")).isEqualTo(2);
+		assertThat(executionContext.getLong("instrumentation.summary.delegate.maxMicros")).isGreaterThanOrEqualTo(5_000);
+		assertThat(executionContext.getLong("instrumentation.summary.delegate.p99Micros")).isGreaterThanOrEqualTo(5_000);
+		assertThat(executionContext.getLong("instrumentation.summary.delegate.p50Micros")).isLessThan(5_000);
+	}
+
+	@Test
+	void filteredCountExcludesItemsWhoseDelegateThrew() throws Exception {
+		InstrumentedCompositeItemProcessor<Customer, Customer> composite = new InstrumentedCompositeItemProcessor<>();
+		composite.setDelegates(Collections.singletonList((ItemProcessor<Customer, Customer>) item -> {
+			if ("Filtered".equals(item.getLastName())) {
+				return null;
+			}
+			if ("Broken".equals(item.getLastName())) {
+				throw new IllegalArgumentException("broken");
+			}
+			return item;
+		}));
+		composite.setName("filtered");
+		composite.afterPropertiesSet();
+
+		StepExecution stepExecution = stepExecution(1L);
+		composite.beforeStep(stepExecution);
+		for (String lastName : new String[]{"Darrow", "Filtered", "Broken", "Broken"}) {
+			Customer customer = customer();
+			customer.setLastName(lastName);
+			try {
+				composite.process(customer);
+			} catch (IllegalArgumentException e) {
+				// 스킵 대상 예외
+			}
+		}
+		composite.afterStep(stepExecution);
+
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		assertThat(executionContext.getLong("instrumentation.filtered.in")).isEqualTo(4);
+		assertThat(executionContext.getLong("instrumentation.filtered.out")).isEqualTo(1);
+		assertThat(executionContext.getLong("instrumentation.filtered.filtered")).isEqualTo(1);
+	}
+
+	@Test
+	void latencyHistogramBucketsBoundEveryValue() {
+		for (long value : new long[]{0, 1, 7, 8, 15, 16, 17, 1_000, 123_456_789L, Long.MAX_VALUE}) {
+			int index = InstrumentedCompositeItemProcessor.LatencyHistogram.index(value);
+
+			assertThat(InstrumentedCompositeItemProcessor.LatencyHistogram.upperBound(index)).isGreaterThanOrEqualTo(value);
+			if (index > 0) {
+				assertThat(InstrumentedCompositeItemProcessor.LatencyHistogram.upperBound(index - 1)).isLessThan(value);
+			}
+		}
+	}
+
+	private InstrumentedCompositeItemProcessor<Customer, Customer> composite() {
+		InstrumentedCompositeItemProcessor<Customer, Customer> composite = new InstrumentedCompositeItemProcessor<>();
+
+		composite.setDelegates(Collections.singletonList(proxy));
+		composite.setEnabled(false);
+		composite.afterPropertiesSet();
+
+		return composite;
+	}
+
+	private static StepExecution stepExecution(long id) {
+		return new StepExecution("step", new JobExecution(id), id);
+	}
+
+	private static Customer customer() {
+		return new Customer("Richard", "N", "Darrow", "5570 Isabella Ave", "St. Louis", "IL", "58540");
+	}
+
+	/**
+	 * 스텝 실행마다 새로 만들어지는 대상 객체. 처리한 건수를 middleInitial 에 기록
+	 */
+	@Scope(value = "step", proxyMode = ScopedProxyMode.TARGET_CLASS) // @StepScope 와 같음
+	static class CountingItemProcessor implements ItemProcessor<Customer, Customer> {
+
+		private int count;
+
+		@Override
+		public Customer process(Customer item) {
+			item.setMiddleInitial(String.valueOf(++count));
+			return item;
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package com.slicequeue.springboot.batch.batch.partition;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashShardItemReaderTests {
+
+	@Test
+	void shardsPartitionKeysWithoutOverlap() throws Exception {
+		List<String> keys = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			keys.add("Last" + (i % 700)); // 중복 키 포함
+		}
+
+		Map<String, ExecutionContext> partitions = new HashShardPartitioner().partition(4);
+		assertThat(partitions).hasSize(4);
+
+		List<String> all = new ArrayList<>();
+		List<Set<String>> shards = new ArrayList<>();
+
+		for (ExecutionContext partition : partitions.values()) {
+			HashShardItemReader<String> reader = reader(keys, partition);
+			Set<String> shard = new HashSet<>();
+
+			for (String key = reader.read(); key != null; key = reader.read()) {
+				all.add(key);
+				shard.add(key);
+			}
+			reader.close();
+
+			assertThat(shard).isNotEmpty();
+			shards.add(shard);
+		}
+
+		// 모든 아이템이 정확히 한 샤드에서 읽히고, 같은 키는 한 샤드에만 속함
+		assertThat(all).containsExactlyInAnyOrderElementsOf(keys);
+		for (int i = 0; i < shards.size(); i++) {
+			for (int j = i + 1; j < shards.size(); j++) {
+				assertThat(shards.get(i)).doesNotContainAnyElementsOf(shards.get(j));
+			}
+		}
+	}
+
+	private static HashShardItemReader<String> reader(List<String> keys, ExecutionContext partition) {
+		HashShardItemReader<String> reader = new HashShardItemReader<>();
+		reader.setDelegate(new ListItemStreamReader(keys));
+		reader.setKeyExtractor(key -> key);
+		reader.setShardIndex(partition.getInt(HashShardPartitioner.SHARD_INDEX_KEY));
+		reader.setShardCount(partition.getInt(HashShardPartitioner.SHARD_COUNT_KEY));
+		reader.afterPropertiesSet();
+		reader.open(new ExecutionContext());
+
+		return reader;
+	}
+
+	private static final class ListItemStreamReader extends ItemStreamSupport implements ItemStreamReader<String> {
+
+		private final Iterator<String> iterator;
+
+		private ListItemStreamReader(List<String> items) {
+			this.iterator = items.iterator();
+		}
+
+		@Override
+		public String read() {
+			return iterator.hasNext() ? iterator.next() : null;
+		}
+	}
+}
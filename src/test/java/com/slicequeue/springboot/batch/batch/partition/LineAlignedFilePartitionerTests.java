@@ -0,0 +1,114 @@
+package com.slicequeue.springboot.batch.batch.partition;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static com.slicequeue.springboot.batch.batch.partition.LineAlignedFilePartitioner.END_OFFSET_KEY;
+import static com.slicequeue.springboot.batch.batch.partition.LineAlignedFilePartitioner.START_OFFSET_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LineAlignedFilePartitionerTests {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void movesSplitLineIntoEarlierPartition() throws IOException {
+		// 30 바이트 파일을 2개로 나누면 15 바이트 지점이 두 번째 라인 중간임
+		String content = "first line\nsecond line here\nx\n";
+		List<String> partitions = partitions(content, 2);
+
+		assertThat(partitions).containsExactly("first line\nsecond line here\n", "x\n");
+	}
+
+	@Test
+	void keepsCrLfPairsTogether() throws IOException {
+		String content = "alpha\r\nbravo\r\ncharlie\r\ndelta\r\necho\r\n";
+
+		for (int gridSize = 1; gridSize <= content.length() + 1; gridSize++) {
+			for (String partition : partitions(content, gridSize)) {
+				assertThat(partition).as("gridSize %d", gridSize).doesNotStartWith("\n").endsWith("\r\n");
+			}
+			assertThat(String.join("", partitions(content, gridSize))).isEqualTo(content);
+		}
+	}
+
+	@Test
+	void keepsLastLineWithoutTrailingNewline() throws IOException {
+		String content = "alpha\nbravo\ncharlie";
+
+		for (int gridSize = 1; gridSize <= 5; gridSize++) {
+			List<String> partitions = partitions(content, gridSize);
+			assertThat(partitions.get(partitions.size() - 1)).endsWith("charlie");
+			assertThat(String.join("", partitions)).isEqualTo(content);
+		}
+	}
+
+	@Test
+	void createsNoEmptyPartitionsWhenGridExceedsLines() throws IOException {
+		List<String> partitions = partitions("alpha\nbravo\n", 10);
+
+		assertThat(partitions).containsExactly("alpha\n", "bravo\n");
+		assertThat(partitions(" ", 4)).containsExactly(" ");
+		assertThat(partitions("", 4)).isEmpty();
+	}
+
+	@Test
+	void unionOfPartitionsIsExactlyTheFileLines() throws IOException {
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 1_000; i++) {
+			content.append("Customer").append(i).append(",".repeat(i % 17)).append(i % 2 == 0 ? "\n" : "\r\n");
+		}
+
+		for (int gridSize : new int[]{1, 2, 3, 7, 16, 999, 1_000, 5_000}) {
+			List<String> expected = Arrays.asList(content.toString().split("\r?\n"));
+			List<String> actual = new ArrayList<>();
+
+			for (String partition : partitions(content.toString(), gridSize)) {
+				assertThat(partition).endsWith("\n"); // 모든 파티션은 라인 경계에서 끝남
+				actual.addAll(Arrays.asList(partition.split("\r?\n")));
+			}
+
+			assertThat(actual).as("gridSize %d", gridSize).isEqualTo(expected);
+		}
+	}
+
+	/**
+	 * 파티션 순서대로 각 구간의 내용을 반환하며, 구간들이 빈틈/겹침 없이 파일 전체를 덮는지 확인함
+	 */
+	private List<String> partitions(String content, int gridSize) throws IOException {
+		byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+		Path file = Files.write(directory.resolve("customers-" + gridSize + ".csv"), bytes);
+
+		Map<String, ExecutionContext> partitions = new LineAlignedFilePartitioner(new FileSystemResource(file)).partition(gridSize);
+
+		assertThat(partitions.size()).isLessThanOrEqualTo(gridSize);
+
+		List<String> contents = new ArrayList<>();
+		long expectedStart = 0;
+		for (ExecutionContext context : partitions.values()) {
+			long start = context.getLong(START_OFFSET_KEY);
+			long end = context.getLong(END_OFFSET_KEY);
+
+			assertThat(start).isEqualTo(expectedStart);
+			assertThat(end).isGreaterThan(start);
+
+			contents.add(new String(Arrays.copyOfRange(bytes, (int) start, (int) end), StandardCharsets.UTF_8));
+			expectedStart = end;
+		}
+		assertThat(expectedStart).isEqualTo(bytes.length);
+
+		return contents;
+	}
+}
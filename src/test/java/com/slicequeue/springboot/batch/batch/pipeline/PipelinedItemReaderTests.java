@@ -0,0 +1,104 @@
+package com.slicequeue.springboot.batch.batch.pipeline;
+
+import com.slicequeue.springboot.batch.domain.Customer;
+import com.slicequeue.springboot.batch.domain.UniqueLastNameValidator;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PipelinedItemReaderTests {
+
+	@Test
+	void deferredStreamStateIsPublishedOnlyForWrittenChunks() throws Exception {
+		CountDownLatch releaseSecondWrite = new CountDownLatch(1);
+		AtomicInteger writes = new AtomicInteger();
+
+		PipelinedItemWriter<Customer> itemWriter = new PipelinedItemWriter<>();
+		itemWriter.setDelegate(items -> {
+			if (writes.incrementAndGet() == 2) { // 두 번째 청크 쓰기는 커밋 이후에 실패함
+				releaseSecondWrite.await();
+				throw new IllegalStateException("write failed");
+			}
+		});
+		itemWriter.setMaxInFlight(1);
+
+		UniqueLastNameValidator validator = validator();
+		PipelinedItemReader<Customer> itemReader = new PipelinedItemReader<>();
+		itemReader.setDelegate(new CustomerItemReader(Arrays.asList(customer("Darrow"), customer("Nelson"))));
+		itemReader.setDeferredStreams(Collections.singletonList(validator));
+		itemReader.setItemWriter(itemWriter);
+
+		ExecutionContext executionContext = new ExecutionContext();
+		itemReader.open(executionContext);
+		itemWriter.open(executionContext);
+
+		for (int chunk = 0; chunk < 2; chunk++) { // 청크당 한 건: 읽기 -> 검증 -> 쓰기 요청 -> 커밋(update)
+			Customer customer = itemReader.read();
+			assertThat(validator.check(customer).isValid()).isTrue();
+			itemWriter.write(Collections.singletonList(customer)); // maxInFlight=1 이므로 이전 청크 쓰기가 끝날 때까지 기다림
+			itemReader.update(executionContext);
+		}
+
+		releaseSecondWrite.countDown();
+		assertThatThrownBy(itemWriter::close).isInstanceOf(ItemStreamException.class);
+		itemReader.close();
+
+		// 재시작: 첫 청크까지만 반영되었으므로 두 번째 아이템을 다시 읽고, 그 lastName 은 중복으로 걸러지지 않아야 함
+		CustomerItemReader restartedReader = new CustomerItemReader(Arrays.asList(customer("Darrow"), customer("Nelson")));
+		restartedReader.open(executionContext);
+		UniqueLastNameValidator restartedValidator = validator();
+		restartedValidator.open(executionContext);
+
+		Customer reread = restartedReader.read();
+		assertThat(reread.getLastName()).isEqualTo("Nelson");
+		assertThat(restartedValidator.check(reread).isValid()).isTrue();
+		assertThat(restartedValidator.check(customer("Darrow")).isValid()).isFalse();
+	}
+
+	private static UniqueLastNameValidator validator() {
+		UniqueLastNameValidator validator = new UniqueLastNameValidator();
+		validator.setName("uniqueLastNameValidator");
+		return validator;
+	}
+
+	private static Customer customer(String lastName) {
+		return new Customer("Richard", "N", lastName, "5570 Isabella Ave", "St. Louis", "IL", "58540");
+	}
+
+	/**
+	 * 읽은 건수를 체크포인트로 저장하는 리더
+	 */
+	static class CustomerItemReader extends AbstractItemCountingItemStreamItemReader<Customer> {
+
+		private final List<Customer> customers;
+
+		CustomerItemReader(List<Customer> customers) {
+			this.customers = customers;
+			setName("customerItemReader");
+		}
+
+		@Override
+		protected Customer doRead() {
+			int index = getCurrentItemCount() - 1;
+			return index < customers.size() ? customers.get(index) : null;
+		}
+
+		@Override
+		protected void doOpen() {
+		}
+
+		@Override
+		protected void doClose() {
+		}
+	}
+}
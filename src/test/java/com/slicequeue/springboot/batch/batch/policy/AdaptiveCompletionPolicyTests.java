@@ -0,0 +1,99 @@
+package com.slicequeue.springboot.batch.batch.policy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveCompletionPolicyTests {
+
+	private AdaptiveCompletionPolicy policy;
+
+	private long nanos;
+
+	private double heapUsage;
+
+	private StepExecution stepExecution;
+
+	private ChunkContext chunkContext;
+
+	@BeforeEach
+	void setUp() {
+		nanos = TimeUnit.SECONDS.toNanos(1); // 0 은 측정 시작 전을 뜻하므로 피함
+		policy = new AdaptiveCompletionPolicy();
+		policy.setName("test-" + System.nanoTime());
+		policy.setInitialChunkSize(100);
+		policy.setTargetCommitMillis(1_000);
+		policy.setClock(() -> nanos);
+		policy.setHeapUsage(() -> heapUsage);
+		policy.afterPropertiesSet();
+
+		stepExecution = MetaDataInstanceFactory.createStepExecution();
+		chunkContext = new ChunkContext(new StepContext(stepExecution));
+	}
+
+	@Test
+	void growsTowardTargetWhenChunksAreFast() {
+		chunk(100, 100); // 100건 / 100ms → 목표 1초면 1000건, 현재 크기와의 중간값
+
+		assertThat(policy.getChunkSize()).isEqualTo(550);
+
+		chunk(550, 550);
+		assertThat(policy.getChunkSize()).isEqualTo(775);
+	}
+
+	@Test
+	void shrinksTowardTargetWhenChunksAreSlow() {
+		chunk(100, 4_000); // 100건 / 4초 → 목표 1초면 25건
+
+		assertThat(policy.getChunkSize()).isEqualTo(62);
+	}
+
+	@Test
+	void ignoresPartialChunks() {
+		chunk(30, 10);
+
+		assertThat(policy.getChunkSize()).isEqualTo(100);
+	}
+
+	@Test
+	void halvesOnlyWhenOldGenerationUsageIsHigh() {
+		heapUsage = 0.5;
+		policy.afterChunk(chunkContext);
+		assertThat(policy.getChunkSize()).isEqualTo(100);
+
+		heapUsage = 0.8;
+		chunk(100, 10); // 빠른 청크였지만 크기를 줄인 청크는 처리율 측정에 사용하지 않음
+
+		assertThat(policy.getChunkSize()).isEqualTo(50);
+	}
+
+	@Test
+	void halvesOnRollbackWithinLimits() {
+		policy.setMinChunkSize(40);
+		policy.afterPropertiesSet();
+
+		policy.afterChunkError(chunkContext);
+		assertThat(policy.getChunkSize()).isEqualTo(50);
+
+		policy.afterChunkError(chunkContext);
+		assertThat(policy.getChunkSize()).isEqualTo(40);
+	}
+
+	/**
+	 * items 건을 millis 동안 처리한 청크 하나 (다음 beforeChunk 에서 크기를 조절함)
+	 */
+	private void chunk(int items, long millis) {
+		policy.beforeChunk(chunkContext);
+		nanos += TimeUnit.MILLISECONDS.toNanos(millis);
+		stepExecution.setReadCount(stepExecution.getReadCount() + items);
+		policy.afterChunk(chunkContext);
+		policy.beforeChunk(chunkContext);
+	}
+}
@@ -0,0 +1,86 @@
+package com.slicequeue.springboot.batch.batch.reader;
+
+import com.slicequeue.springboot.batch.domain.Customer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedCustomerItemReaderTests {
+
+	private static final String CONTENT = "Richard,N,Darrow,5570 Isabella Ave,St. Louis,IL,58540\n"
+			+ "Warren,L,Darrow,4686 Mt. Lee Drive,St. Louis,NY,94935\n"
+			+ "\n"
+			+ "Barack,G,Donnelly,7844 S. Greenwood Ave,Houston,CA,38635\r\n";
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void readsLinesAcrossMappedWindowBoundaries() throws Exception {
+		Path file = Files.write(directory.resolve("customer.csv"), CONTENT.getBytes(StandardCharsets.UTF_8));
+
+		MappedCustomerItemReader itemReader = reader(new FileSystemResource(file));
+		itemReader.setWindowSize(16); // 모든 라인이 윈도우보다 김
+
+		assertThat(lastNames(itemReader, new ExecutionContext())).containsExactly("Darrow", "Darrow", "Donnelly");
+	}
+
+	@Test
+	void streamsResourcesThatAreNotFilesAndRestartsFromTheSavedPosition() throws Exception {
+		Resource resource = new ByteArrayResource(CONTENT.getBytes(StandardCharsets.UTF_8));
+		ExecutionContext executionContext = new ExecutionContext();
+
+		MappedCustomerItemReader itemReader = reader(resource);
+		itemReader.open(executionContext);
+		assertThat(itemReader.read().getFirstName()).isEqualTo("Richard");
+		itemReader.update(executionContext);
+		itemReader.close();
+
+		assertThat(lastNames(reader(resource), executionContext)).containsExactly("Darrow", "Donnelly");
+	}
+
+	@Test
+	void failsInOpenWhenTheResourceDoesNotExist() {
+		MappedCustomerItemReader itemReader = reader(new ClassPathResource("input/missing.csv"));
+
+		assertThatThrownBy(() -> itemReader.open(new ExecutionContext()))
+				.isInstanceOf(ItemStreamException.class)
+				.hasMessageContaining("missing.csv");
+	}
+
+	private static MappedCustomerItemReader reader(Resource resource) {
+		MappedCustomerItemReader itemReader = new MappedCustomerItemReader();
+		itemReader.setName("customerItemReader");
+		itemReader.setResource(resource);
+		return itemReader;
+	}
+
+	private static List<String> lastNames(MappedCustomerItemReader itemReader, ExecutionContext executionContext) throws Exception {
+		List<String> lastNames = new ArrayList<>();
+
+		itemReader.open(executionContext);
+		try {
+			Customer customer;
+			while ((customer = itemReader.read()) != null) {
+				lastNames.add(customer.getLastName());
+			}
+		} finally {
+			itemReader.close();
+		}
+		return lastNames;
+	}
+}
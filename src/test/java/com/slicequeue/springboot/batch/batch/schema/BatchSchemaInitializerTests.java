@@ -0,0 +1,19 @@
+package com.slicequeue.springboot.batch.batch.schema;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.support.DatabaseType;
+import org.springframework.core.io.ClassPathResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchSchemaInitializerTests {
+
+	@Test
+	void everyDatabaseTypeResolvesToAnExistingSchemaScript() {
+		for (DatabaseType databaseType : DatabaseType.values()) {
+			String location = "org/springframework/batch/core/schema-" + BatchSchemaInitializer.platform(databaseType) + ".sql";
+
+			assertThat(new ClassPathResource(location).exists()).as(databaseType + " -> " + location).isTrue();
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package com.slicequeue.springboot.batch.batch.script;
+
+import com.slicequeue.springboot.batch.domain.Customer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 바이트코드로 번역한 스크립트가 스크립트 엔진과 같은 결과를 내는지, 지원하지 않는 스크립트는 엔진으로 처리하는지 검증
+ */
+class CompiledScriptItemProcessorTests {
+
+	@AfterEach
+	void clearCache() {
+		CompiledScriptItemProcessor.clearCache();
+	}
+
+	@Test
+	void translatesFieldMappingScriptsWithSameResultAsScriptEngine() throws Exception {
+		for (String script : new String[]{"lowerCase.js", "upperCase.js"}) {
+			CompiledScriptItemProcessor<Customer, Customer> translated = processor(new ClassPathResource(script), Customer.class);
+			CompiledScriptItemProcessor<Customer, Customer> interpreted = processor(new ClassPathResource(script), null);
+
+			assertThat(translated.isTranslated()).isTrue();
+			assertThat(interpreted.isTranslated()).isFalse();
+
+			Customer customer = customer();
+			assertThat(translated.process(customer)).isSameAs(customer);
+			assertThat(customer.toString()).isEqualTo(interpreted.process(customer()).toString());
+		}
+	}
+
+	@Test
+	void translatesLiteralsAndChainedFunctionsIgnoringComments() throws Exception {
+		CompiledScriptItemProcessor<Customer, Customer> processor = processor(script(
+				"// 주석\n"
+						+ "item.setState('mo'.toUpperCase()); /* 블록 주석 */\n"
+						+ "item.setCity(item.getCity().toUpperCase().toLowerCase());\n"
+						+ "item"), Customer.class);
+
+		assertThat(processor.isTranslated()).isTrue();
+
+		Customer customer = processor.process(customer());
+		assertThat(customer.getState()).isEqualTo("MO");
+		assertThat(customer.getCity()).isEqualTo("st. louis");
+	}
+
+	@Test
+	void fallsBackToScriptEngineOutsideSupportedSubset() throws Exception {
+		CompiledScriptItemProcessor<Customer, Customer> processor = processor(script(
+				"if (item.getState() == 'IL') { item.setState('il'); }\n"
+						+ "item;"), Customer.class);
+
+		assertThat(processor.isTranslated()).isFalse();
+		assertThat(processor.process(customer()).getState()).isEqualTo("il");
+	}
+
+	@Test
+	void fallsBackToScriptEngineForUnknownProperty() throws Exception {
+		CompiledScriptItemProcessor<Customer, Customer> processor = processor(script(
+				"item.setCountry(item.getState());\nitem;"), Customer.class);
+
+		assertThat(processor.isTranslated()).isFalse();
+	}
+
+	@Test
+	void usesChunkScriptInsteadOfTranslationWhenGiven() throws Exception {
+		CompiledScriptItemProcessor<Customer, Customer> processor = new CompiledScriptItemProcessor<>();
+		processor.setScript(new ClassPathResource("lowerCase.js"));
+		processor.setChunkScript(new ClassPathResource("lowerCaseChunk.js"));
+		processor.setItemType(Customer.class);
+		processor.afterPropertiesSet();
+
+		assertThat(processor.isTranslated()).isFalse();
+		assertThat(processor.processChunk(Collections.singletonList(customer())).get(0).getState()).isEqualTo("il");
+	}
+
+	private static CompiledScriptItemProcessor<Customer, Customer> processor(Resource script, Class<?> itemType) throws Exception {
+		CompiledScriptItemProcessor<Customer, Customer> processor = new CompiledScriptItemProcessor<>();
+		processor.setScript(script);
+		processor.setItemType(itemType);
+		processor.afterPropertiesSet();
+		return processor;
+	}
+
+	private static Resource script(String source) {
+		return new ByteArrayResource(source.getBytes(StandardCharsets.UTF_8)) {
+			@Override
+			public String getFilename() {
+				return "test.js";
+			}
+		};
+	}
+
+	private static Customer customer() {
+		return new Customer("Richard", "n", "Darrow", "5570 Isabella Ave", "St. Louis", "IL", "58540");
+	}
+}
@@ -0,0 +1,59 @@
+package com.slicequeue.springboot.batch.batch.transform;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsciiCaseTests {
+
+	private static final Locale TURKISH = Locale.forLanguageTag("tr-TR");
+
+	private Locale defaultLocale;
+
+	@BeforeEach
+	void setUp() {
+		defaultLocale = Locale.getDefault();
+		Locale.setDefault(TURKISH);
+	}
+
+	@AfterEach
+	void tearDown() {
+		Locale.setDefault(defaultLocale);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"istanbul", "Mixed Case 123", "çift iş", "café à la carte", "ÉIi", ""})
+	void matchesRootLocaleUnderTurkishDefault(String value) {
+		assertThat(AsciiCase.toUpperCase(value)).isEqualTo(value.toUpperCase(Locale.ROOT));
+		assertThat(AsciiCase.toLowerCase(value)).isEqualTo(value.toLowerCase(Locale.ROOT));
+	}
+
+	@Test
+	void nonAsciiFallbackIgnoresTurkishDottedI() {
+		assertThat(AsciiCase.toUpperCase("çift iş")).isEqualTo("ÇIFT IŞ");
+		assertThat(AsciiCase.toLowerCase("ÉLIF")).isEqualTo("élif");
+	}
+
+	@Test
+	void asciiFastPathIgnoresTurkishDottedI() {
+		assertThat(AsciiCase.toUpperCase("istanbul")).isEqualTo("ISTANBUL");
+		assertThat(AsciiCase.toLowerCase("ISTANBUL")).isEqualTo("istanbul");
+	}
+
+	@Test
+	void returnsSameInstanceWhenNothingChanges() {
+		String upper = "ALREADY UPPER 123";
+		String lower = "already lower 123";
+
+		assertThat(AsciiCase.toUpperCase(upper)).isSameAs(upper);
+		assertThat(AsciiCase.toLowerCase(lower)).isSameAs(lower);
+		assertThat(AsciiCase.toUpperCase(null)).isNull();
+		assertThat(AsciiCase.toLowerCase(null)).isNull();
+	}
+}
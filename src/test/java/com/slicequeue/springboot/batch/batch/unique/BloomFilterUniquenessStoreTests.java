@@ -0,0 +1,42 @@
+package com.slicequeue.springboot.batch.batch.unique;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterUniquenessStoreTests {
+
+	@Test
+	void restoresFromIncrementalCheckpoints() {
+		BloomFilterUniquenessStore store = new BloomFilterUniquenessStore(10_000, 0.001);
+		ExecutionContext executionContext = new ExecutionContext();
+
+		for (int i = 0; i < 5_000; i++) {
+			store.add("Last" + i);
+		}
+		store.checkpoint(executionContext, "lastNames");
+		store.add("Harris");
+		store.checkpoint(executionContext, "lastNames");
+
+		BloomFilterUniquenessStore restored = new BloomFilterUniquenessStore(10_000, 0.001);
+		restored.restore(executionContext, "lastNames");
+
+		for (int i = 0; i < 5_000; i++) { // 블룸 필터는 본 값을 놓치지 않음
+			assertThat(restored.add("Last" + i)).isFalse();
+		}
+		assertThat(restored.add("Harris")).isFalse();
+	}
+
+	@Test
+	void rejectsRestoreWithDifferentShape() {
+		BloomFilterUniquenessStore store = new BloomFilterUniquenessStore(10_000, 0.001);
+		ExecutionContext executionContext = new ExecutionContext();
+		store.add("Darrow");
+		store.checkpoint(executionContext, "lastNames");
+
+		assertThatThrownBy(() -> new BloomFilterUniquenessStore(20_000, 0.001).restore(executionContext, "lastNames"))
+				.isInstanceOf(IllegalStateException.class);
+	}
+}
@@ -0,0 +1,78 @@
+package com.slicequeue.springboot.batch.batch.unique;
+
+import com.slicequeue.springboot.batch.batch.reader.MappedCustomerItemReader;
+import com.slicequeue.springboot.batch.domain.Customer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.UrlResource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 외부 정렬로 만든 첫 등장 비트맵이 메모리 HashSet 판정과 같은지 검증
+ */
+class FirstOccurrenceTaskletTests {
+
+	@TempDir
+	Path workDirectory;
+
+	@Test
+	void firstOccurrencesMatchInMemoryUniquenessAcrossSpilledRuns() throws Exception {
+		Path customerFile = workDirectory.resolve("customer.csv");
+		StringBuilder csv = new StringBuilder();
+		Random random = new Random(7);
+		for (int i = 0; i < 5000; i++) {
+			csv.append("Richard,N,Last").append(random.nextInt(2000)).append(",5570 Isabella Ave,St. Louis,IL,58540");
+			csv.append(i % 100 == 0 ? "\r\n\n" : "\n"); // CRLF 와 빈 라인은 번호를 차지하지 않음
+		}
+		Files.write(customerFile, csv.toString().getBytes(StandardCharsets.UTF_8));
+
+		FirstOccurrenceTasklet tasklet = new FirstOccurrenceTasklet();
+		tasklet.setResource(new FileSystemResource(customerFile));
+		tasklet.setWorkDirectory(workDirectory);
+		tasklet.setPartitionCount(4);
+		tasklet.setRunBufferBytes(16 * 1024); // 여러 런으로 내리도록 작게 설정
+		tasklet.afterPropertiesSet();
+
+		StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+		tasklet.execute(new StepContribution(stepExecution), new ChunkContext(new StepContext(stepExecution)));
+
+		assertThat(stepExecution.getExecutionContext().getInt("runCount")).isGreaterThan(1);
+		assertThat(stepExecution.getExecutionContext().getInt("itemCount")).isEqualTo(5000);
+
+		FirstOccurrenceValidator validator = new FirstOccurrenceValidator();
+		validator.setFirstOccurrences(new UrlResource(
+				stepExecution.getJobExecution().getExecutionContext().getString(FirstOccurrenceTasklet.FIRST_OCCURRENCES_KEY)));
+		validator.afterPropertiesSet();
+
+		MappedCustomerItemReader reader = new MappedCustomerItemReader();
+		reader.setResource(new FileSystemResource(customerFile));
+		reader.setNumbered(true);
+		reader.open(new ExecutionContext());
+
+		Set<String> seen = new HashSet<>();
+		int unique = 0;
+		for (Customer customer = reader.read(); customer != null; customer = reader.read()) {
+			boolean first = seen.add(customer.getLastName());
+			assertThat(validator.check(customer).isValid()).as(customer.getLastName()).isEqualTo(first);
+			unique += first ? 1 : 0;
+		}
+		reader.close();
+
+		assertThat(stepExecution.getExecutionContext().getInt("uniqueCount")).isEqualTo(unique);
+	}
+}
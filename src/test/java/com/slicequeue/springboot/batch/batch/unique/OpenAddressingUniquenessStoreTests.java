@@ -0,0 +1,81 @@
+package com.slicequeue.springboot.batch.batch.unique;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OpenAddressingUniquenessStoreTests {
+
+	@Test
+	void rejectsDuplicatesAcrossManySegments() {
+		// 64 바이트 segment 로 기본 크기(1MB)에서 2GB 를 넘는 segment 수(2048개 이상)를 만듦
+		OpenAddressingUniquenessStore store = new OpenAddressingUniquenessStore(16, 6, 1 << 26);
+		int keys = 20_000;
+
+		for (int i = 0; i < keys; i++) {
+			assertThat(store.add("Last" + i)).isTrue();
+		}
+		for (int i = 0; i < keys; i++) {
+			assertThat(store.add("Last" + i)).isFalse();
+		}
+
+		assertThat(store.size()).isEqualTo(keys);
+	}
+
+	@Test
+	void slotKeepsHashAndLocationAboveSignBit() {
+		int location = (4095 << 20) | 12; // 기본 segment 크기에서 4GB 근처 위치 (int 로는 음수)
+		int hash = 0x7F00FF01;
+
+		long slot = OpenAddressingUniquenessStore.slot(hash, location);
+
+		assertThat(slot).isNotZero();
+		assertThat((int) (slot >>> 32)).isEqualTo(hash);
+		assertThat(OpenAddressingUniquenessStore.location(slot)).isEqualTo(location);
+		assertThat(OpenAddressingUniquenessStore.location(OpenAddressingUniquenessStore.slot(-1, 0))).isZero();
+	}
+
+	@Test
+	void failsFastWhenArenaIsFull() {
+		OpenAddressingUniquenessStore store = new OpenAddressingUniquenessStore(16, 6, 2);
+
+		assertThatThrownBy(() -> {
+			for (int i = 0; i < 100; i++) {
+				store.add("Last" + i);
+			}
+		}).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void restoresFromIncrementalCheckpoints() {
+		OpenAddressingUniquenessStore store = new OpenAddressingUniquenessStore(16, 6, 1 << 26);
+		ExecutionContext executionContext = new ExecutionContext();
+
+		for (int i = 0; i < 100; i++) { // 여러 segment 에 걸친 변경분
+			store.add("Last" + i);
+		}
+		store.checkpoint(executionContext, "lastNames");
+		store.add("Harris");
+		store.checkpoint(executionContext, "lastNames");
+		store.add("Uncommitted");
+
+		OpenAddressingUniquenessStore restored = new OpenAddressingUniquenessStore();
+		restored.restore(executionContext, "lastNames");
+
+		assertThat(restored.size()).isEqualTo(101);
+		assertThat(restored.add("Last0")).isFalse();
+		assertThat(restored.add("Last99")).isFalse();
+		assertThat(restored.add("Harris")).isFalse();
+		assertThat(restored.add("Uncommitted")).isTrue();
+
+		// 복원 이후 변경분만 다음 segment 키로 이어서 기록됨
+		restored.checkpoint(executionContext, "lastNames");
+		OpenAddressingUniquenessStore restoredAgain = new OpenAddressingUniquenessStore();
+		restoredAgain.restore(executionContext, "lastNames");
+
+		assertThat(executionContext.getInt("lastNames.segmentCount")).isEqualTo(3);
+		assertThat(restoredAgain.size()).isEqualTo(102);
+	}
+}
@@ -0,0 +1,81 @@
+package com.slicequeue.springboot.batch.batch.unique;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StripedUniquenessStoreTests {
+
+	@Test
+	void eachKeyIsAcceptedExactlyOnceAcrossThreads() throws Exception {
+		StripedUniquenessStore store = new StripedUniquenessStore(8, 1024);
+		int threads = 4;
+		int keys = 20_000;
+
+		ExecutorService executorService = Executors.newFixedThreadPool(threads);
+		try {
+			List<Callable<Integer>> tasks = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				tasks.add(() -> { // 모든 스레드가 같은 키들을 추가하므로 키마다 한 스레드만 true 를 받아야 함
+					int accepted = 0;
+					for (int i = 0; i < keys; i++) {
+						if (store.add("Last" + i)) {
+							accepted++;
+						}
+					}
+					return accepted;
+				});
+			}
+
+			int accepted = 0;
+			for (Future<Integer> future : executorService.invokeAll(tasks)) {
+				accepted += future.get();
+			}
+
+			assertThat(accepted).isEqualTo(keys);
+			assertThat(store.size()).isEqualTo(keys);
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	void restoresFromIncrementalCheckpoints() {
+		StripedUniquenessStore store = new StripedUniquenessStore(4, 16);
+		ExecutionContext executionContext = new ExecutionContext();
+
+		store.add("Darrow");
+		store.add("Obama");
+		store.checkpoint(executionContext, "lastNames");
+		store.add("Harris");
+		store.checkpoint(executionContext, "lastNames");
+		store.add("Uncommitted");
+
+		StripedUniquenessStore restored = new StripedUniquenessStore(4, 16);
+		restored.restore(executionContext, "lastNames");
+
+		assertThat(restored.size()).isEqualTo(3);
+		assertThat(restored.add("Harris")).isFalse();
+		assertThat(restored.add("Uncommitted")).isTrue();
+	}
+
+	@Test
+	void rejectsRestoreWithDifferentStripeCount() {
+		StripedUniquenessStore store = new StripedUniquenessStore(4, 16);
+		ExecutionContext executionContext = new ExecutionContext();
+		store.add("Darrow");
+		store.checkpoint(executionContext, "lastNames");
+
+		assertThatThrownBy(() -> new StripedUniquenessStore(8, 16).restore(executionContext, "lastNames"))
+				.isInstanceOf(IllegalStateException.class);
+	}
+}
@@ -0,0 +1,38 @@
+package com.slicequeue.springboot.batch.batch.validator;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CharClassPatternTests {
+
+	private static final List<String> INPUTS = Arrays.asList(
+			"", "a", "Z", "ab", "abc", "abcd", "aBc", "a b", "a.b", "a-b", "0", "12", "123", "12345", "123456", "12a45",
+			"IL", "il", "ILL", "123 Main St.", "St. Louis", "é", "José", "Straße", "İ", "ı", "١٢٣٤٥", "１２３４５", "a\n", "\u0000");
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"[a-zA-Z]+", "[0-9a-zA-Z\\. ]+", "[a-zA-Z\\. ]+", "[A-Z]{2}", "\\d{5}", "\\d+", "\\d", "[abc]*", "[a-z]{1,3}",
+			"[a-z]{2,}", "[a-z]{0,0}", "[a-z]?", "[a-]+", "[-a]+", "[\\-a]+", "[.]+"})
+	void matchesLikeJavaUtilRegex(String regex) {
+		CharClassPattern pattern = CharClassPattern.compile(regex);
+		java.util.regex.Pattern expected = java.util.regex.Pattern.compile(regex);
+
+		assertThat(pattern).as(regex).isNotNull();
+		for (String input : INPUTS) {
+			assertThat(pattern.matches(input)).as("%s ~ [%s]", regex, input).isEqualTo(expected.matcher(input).matches());
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"[^a-z]+", "[a-z]+?", "[a-z]++", "[a-z]{1,3}+", "[\\.-z]+", "[가-힣]+", "[a-z&&[def]]", "[\\s]+", "\\w+",
+			"[a-z]+x", "[a-z]{,3}", "[a-z", "(a|b)+"})
+	void leavesUnsupportedRegexToJavaUtilRegex(String regex) {
+		assertThat(CharClassPattern.compile(regex)).as(regex).isNull();
+	}
+}
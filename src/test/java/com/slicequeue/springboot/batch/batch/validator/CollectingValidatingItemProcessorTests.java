@@ -0,0 +1,152 @@
+package com.slicequeue.springboot.batch.batch.validator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class CollectingValidatingItemProcessorTests {
+
+	private static final ValidationResult NEGATIVE = ValidationResult.reject("value.negative", "음수입니다.");
+
+	private static final ValidationResult ODD = ValidationResult.reject("value.odd", "홀수입니다.");
+
+	private final ResultValidator<Integer> notNegative = item -> item < 0 ? NEGATIVE : ValidationResult.VALID;
+
+	private final ResultValidator<Integer> notOdd = item -> item % 2 != 0 ? ODD : ValidationResult.VALID;
+
+	private CollectingValidatingItemProcessor<Integer> processor;
+
+	@BeforeEach
+	void setUp() {
+		processor = new CollectingValidatingItemProcessor<>(Arrays.asList(notNegative, notOdd), 2);
+	}
+
+	@Test
+	void filtersRejectedItemsByFirstFailingRule() {
+		processor.beforeStep(MetaDataInstanceFactory.createStepExecution());
+		processor.beforeChunk(null);
+
+		assertThat(processor.process(2)).isEqualTo(2);
+		assertThat(processor.process(-3)).isNull(); // 음수이면서 홀수지만 첫 규칙으로만 집계
+		assertThat(processor.process(3)).isNull();
+
+		processor.afterChunk(null);
+
+		assertThat(processor.getStepReport().getCounts())
+				.containsExactly(entry("value.negative", 1L), entry("value.odd", 1L));
+	}
+
+	@Test
+	void collectsRejectionsAcrossCommittedChunks() {
+		StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+		processor.beforeStep(stepExecution);
+
+		chunk(1, -2, 4);
+		chunk(3, 5, -6);
+		chunk(8, 10);
+
+		processor.afterStep(stepExecution);
+
+		RejectReport report = processor.getStepReport();
+		assertThat(report.getCounts()).containsExactly(entry("value.odd", 3L), entry("value.negative", 2L));
+		assertThat(report.getSamples("value.odd")).containsExactly("1", "3");
+		assertThat(report.getSamples("value.negative")).containsExactly("-2", "-6");
+
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		assertThat(executionContext.getLong("rejectReport.total")).isEqualTo(5);
+		assertThat(executionContext.getLong("rejectReport.value.odd")).isEqualTo(3);
+		assertThat(executionContext.getLong("rejectReport.value.negative")).isEqualTo(2);
+	}
+
+	@Test
+	void discardsRejectionsOfRolledBackChunk() {
+		StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+		processor.beforeStep(stepExecution);
+
+		chunk(1);
+
+		processor.beforeChunk(null);
+		processor.process(3);
+		processor.process(-4);
+		processor.afterChunkError(null);
+
+		chunk(3, -4); // 롤백된 청크 재처리
+
+		processor.afterStep(stepExecution);
+
+		assertThat(processor.getStepReport().getCounts())
+				.containsExactly(entry("value.odd", 2L), entry("value.negative", 1L));
+		assertThat(stepExecution.getExecutionContext().getLong("rejectReport.total")).isEqualTo(3);
+	}
+
+	@Test
+	void restartAccumulatesCountsOfPreviousExecution() {
+		StepExecution failed = MetaDataInstanceFactory.createStepExecution();
+		processor.beforeStep(failed);
+
+		chunk(1, -2);
+
+		processor.beforeChunk(null);
+		processor.process(3);
+		processor.afterChunkError(null);
+
+		failed.setStatus(BatchStatus.FAILED);
+		processor.afterStep(failed);
+
+		// 재시작 실행은 이전 실행의 ExecutionContext 를 이어받음
+		StepExecution restarted = MetaDataInstanceFactory.createStepExecution(
+				new ExecutionContext(failed.getExecutionContext()));
+		CollectingValidatingItemProcessor<Integer> restartedProcessor =
+				new CollectingValidatingItemProcessor<>(Arrays.asList(notNegative, notOdd), 2);
+		restartedProcessor.beforeStep(restarted);
+
+		restartedProcessor.beforeChunk(null);
+		restartedProcessor.process(3);
+		restartedProcessor.process(5);
+		restartedProcessor.afterChunk(null);
+
+		restartedProcessor.afterStep(restarted);
+
+		RejectReport report = restartedProcessor.getStepReport();
+		assertThat(report.getCounts()).containsOnly(entry("value.odd", 3L), entry("value.negative", 1L));
+		assertThat(report.getSamples("value.odd")).containsExactly("3", "5"); // 샘플은 재시작 후 거부된 것만
+
+		ExecutionContext executionContext = restarted.getExecutionContext();
+		assertThat(executionContext.getLong("rejectReport.total")).isEqualTo(4);
+		assertThat(executionContext.getLong("rejectReport.value.odd")).isEqualTo(3);
+		assertThat(executionContext.getLong("rejectReport.value.negative")).isEqualTo(1);
+	}
+
+	@Test
+	void reusedProcessorStartsEachNewExecutionEmpty() {
+		StepExecution first = MetaDataInstanceFactory.createStepExecution();
+		processor.beforeStep(first);
+		chunk(1, 3);
+		processor.afterStep(first);
+
+		StepExecution second = MetaDataInstanceFactory.createStepExecution();
+		processor.beforeStep(second);
+		chunk(-2);
+		processor.afterStep(second);
+
+		assertThat(processor.getStepReport().getCounts()).containsExactly(entry("value.negative", 1L));
+		assertThat(second.getExecutionContext().getLong("rejectReport.total")).isEqualTo(1);
+		assertThat(second.getExecutionContext().containsKey("rejectReport.value.odd")).isFalse();
+	}
+
+	private void chunk(Integer... items) {
+		processor.beforeChunk(null);
+		for (Integer item : items) {
+			processor.process(item);
+		}
+		processor.afterChunk(null);
+	}
+}
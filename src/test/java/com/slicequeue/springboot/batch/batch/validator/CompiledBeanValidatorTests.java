@@ -0,0 +1,165 @@
+package com.slicequeue.springboot.batch.batch.validator;
+
+import com.slicequeue.springboot.batch.domain.Customer;
+import org.hibernate.validator.constraints.ScriptAssert;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Valid;
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.Email;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Pattern;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompiledBeanValidatorTests {
+
+	private static ValidatorFactory validatorFactory;
+
+	@BeforeAll
+	static void createValidatorFactory() {
+		validatorFactory = Validation.buildDefaultValidatorFactory();
+	}
+
+	@AfterAll
+	static void closeValidatorFactory() {
+		validatorFactory.close();
+	}
+
+	static Stream<Arguments> customers() {
+		return Stream.of(
+				customer("Richard", "N", "Darrow", "5570 Isabella Ave", "St. Louis", "IL", "58540"),
+				customer("Richard", null, "Darrow", "5570 Isabella Ave", "St. Louis", "IL", "58540"),
+				customer("Richard", "", "Darrow", "5570 Isabella Ave", "St. Louis", "IL", "58540"),
+				customer("Richard", "9S", "Darrow", "5570 Isabella Ave", "St. Louis", "IL", "58540"),
+				customer("Richard", "É", "Darrow", "5570 Isabella Ave", "St. Louis", "IL", "58540"),
+				customer(null, "N", null, null, null, null, null),
+				customer("", "N", "", "", "", "", ""),
+				customer("José", "N", "Müller", "5570 Straße", "Zürich", "IL", "58540"),
+				customer("Richard", "N", "O'Brien", "5570 Isabella Ave #3", "St-Louis", "IL", "58540"),
+				customer("Richard", "N", "Darrow", "5570 Isabella Ave", "St. Louis", "il", "58540"),
+				customer("Richard", "N", "Darrow", "5570 Isabella Ave", "St. Louis", "ILL", "58540"),
+				customer("Richard", "N", "Darrow", "5570 Isabella Ave", "St. Louis", "İL", "58540"),
+				customer("Richard", "N", "Darrow", "5570 Isabella Ave", "St. Louis", "IL", "5854"),
+				customer("Richard", "N", "Darrow", "5570 Isabella Ave", "St. Louis", "IL", "585401"),
+				customer("Richard", "N", "Darrow", "5570 Isabella Ave", "St. Louis", "IL", "58a40"),
+				customer("Richard", "N", "Darrow", "5570 Isabella Ave", "St. Louis", "IL", "٥٨٥٤٠"))
+				.map(Arguments::of);
+	}
+
+	@ParameterizedTest
+	@MethodSource("customers")
+	void agreesWithHibernateValidator(Customer customer) {
+		CompiledBeanValidator<Customer> validator = new CompiledBeanValidator<>(Customer.class);
+		Set<String> expected = validatorFactory.getValidator().validate(customer).stream()
+				.map(violation -> violation.getPropertyPath().toString())
+				.collect(Collectors.toCollection(TreeSet::new));
+
+		assertThat(rejectedFields(validator.violationsOf(customer))).as(customer.toString()).isEqualTo(expected);
+		assertThat(validator.check(customer).isValid()).isEqualTo(expected.isEmpty());
+		if (!expected.isEmpty()) {
+			assertThat(expected).contains(validator.check(customer).getRule().split("\\.")[0]);
+		}
+	}
+
+	@Test
+	void appliesEveryPatternOfPatternList() {
+		CompiledBeanValidator<TwoPatterns> validator = new CompiledBeanValidator<>(TwoPatterns.class);
+
+		for (String code : new String[]{"AB12", "ab12", "ABCD", "A", ""}) {
+			TwoPatterns value = new TwoPatterns(code);
+			Set<ConstraintViolation<TwoPatterns>> violations = validatorFactory.getValidator().validate(value);
+
+			assertThat(validator.check(value).isValid()).as(code).isEqualTo(violations.isEmpty());
+		}
+	}
+
+	@Test
+	void rejectsUnsupportedConstraintsAtConstruction() {
+		assertThatThrownBy(() -> new CompiledBeanValidator<>(WithNotBlank.class)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new CompiledBeanValidator<>(WithEmail.class)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new CompiledBeanValidator<>(WithMin.class)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new CompiledBeanValidator<>(WithValid.class)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new CompiledBeanValidator<>(WithClassConstraint.class)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new CompiledBeanValidator<>(WithFlags.class)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new CompiledBeanValidator<>(WithGroups.class)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static Set<String> rejectedFields(String violations) {
+		Set<String> fields = new TreeSet<>();
+		if (violations != null) {
+			Matcher matcher = java.util.regex.Pattern.compile("on field '(\\w+)'").matcher(violations);
+			while (matcher.find()) {
+				fields.add(matcher.group(1));
+			}
+		}
+		return fields;
+	}
+
+	private static Customer customer(String firstName, String middleInitial, String lastName, String address, String city, String state, String zip) {
+		return new Customer(firstName, middleInitial, lastName, address, city, state, zip);
+	}
+
+	static class TwoPatterns {
+
+		@Pattern(regexp = "[A-Z0-9]+")
+		@Pattern(regexp = "[A-Z]{2}\\d{2}")
+		private final String code;
+
+		TwoPatterns(String code) {
+			this.code = code;
+		}
+	}
+
+	static class WithNotBlank {
+		@NotBlank
+		private String name;
+	}
+
+	static class WithEmail {
+		@Email
+		private String email;
+	}
+
+	static class WithMin {
+		@Min(1)
+		private int count;
+	}
+
+	static class WithValid {
+		@Valid
+		private Customer customer;
+	}
+
+	@ScriptAssert(lang = "javascript", script = "true")
+	static class WithClassConstraint {
+		private String name;
+	}
+
+	static class WithFlags {
+		@Pattern(regexp = "[a-z]+", flags = Pattern.Flag.CASE_INSENSITIVE)
+		private String name;
+	}
+
+	interface Strict {
+	}
+
+	static class WithGroups {
+		@Pattern(regexp = "[a-z]+", groups = Strict.class)
+		private String name;
+	}
+}
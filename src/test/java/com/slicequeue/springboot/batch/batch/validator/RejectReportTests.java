@@ -0,0 +1,86 @@
+package com.slicequeue.springboot.batch.batch.validator;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class RejectReportTests {
+
+	private static final ValidationResult DUPLICATE = ValidationResult.reject("lastName.unique", "중복된 성입니다.");
+
+	private static final ValidationResult NEGATIVE = ValidationResult.reject("value.negative", "음수입니다.");
+
+	@Test
+	void countsRejectionsPerRuleInFirstRejectionOrder() {
+		RejectReport report = new RejectReport(2);
+
+		report.reject(NEGATIVE, -1);
+		report.reject(DUPLICATE, "Darrow");
+		report.reject(NEGATIVE, -2);
+		report.reject(NEGATIVE, -3);
+
+		assertThat(report.isEmpty()).isFalse();
+		assertThat(report.getTotalCount()).isEqualTo(4);
+		assertThat(report.getCounts()).containsExactly(entry("value.negative", 3L), entry("lastName.unique", 1L));
+		assertThat(report.getSamples("value.negative")).containsExactly("-1", "-2");
+		assertThat(report.getSamples("lastName.unique")).containsExactly("Darrow");
+		assertThat(report.getSamples("unknown")).isEmpty();
+	}
+
+	@Test
+	void mergeAddsCountsAndKeepsSampleLimit() {
+		RejectReport step = new RejectReport(3);
+		step.reject(NEGATIVE, -1);
+		step.reject(NEGATIVE, -2);
+
+		RejectReport chunk = new RejectReport(3);
+		chunk.reject(NEGATIVE, -3);
+		chunk.reject(NEGATIVE, -4);
+		chunk.reject(DUPLICATE, "Darrow");
+
+		step.merge(chunk);
+
+		assertThat(step.getCounts()).containsExactly(entry("value.negative", 4L), entry("lastName.unique", 1L));
+		assertThat(step.getSamples("value.negative")).containsExactly("-1", "-2", "-3");
+		assertThat(step.getSamples("lastName.unique")).containsExactly("Darrow");
+		assertThat(chunk.getTotalCount()).isEqualTo(3); // 합쳐진 리포트는 변경하지 않음
+	}
+
+	@Test
+	void restoredCountsAreExtendedByLaterRejections() {
+		RejectReport report = new RejectReport(2);
+
+		report.restore("value.negative", 5);
+		assertThat(report.toString()).isEqualTo("RejectReport{total=5, value.negative=5 samples=[]}");
+
+		report.reject(NEGATIVE, -6);
+
+		assertThat(report.getCounts()).containsExactly(entry("value.negative", 6L));
+		assertThat(report.getSamples("value.negative")).containsExactly("-6");
+		assertThat(report.toString()).isEqualTo("RejectReport{total=6, value.negative=6 (음수입니다.) samples=[-6]}");
+	}
+
+	@Test
+	void toStringListsCountsMessagesAndSamples() {
+		RejectReport report = new RejectReport(1);
+		report.reject(DUPLICATE, "Darrow");
+		report.reject(DUPLICATE, "Smith");
+
+		assertThat(report.toString())
+				.isEqualTo("RejectReport{total=2, lastName.unique=2 (중복된 성입니다.) samples=[Darrow]}");
+	}
+
+	@Test
+	void clearRemovesEverything() {
+		RejectReport report = new RejectReport(1);
+		report.reject(DUPLICATE, "Darrow");
+
+		report.clear();
+
+		assertThat(report.isEmpty()).isTrue();
+		assertThat(report.getTotalCount()).isZero();
+		assertThat(report.getCounts()).isEmpty();
+		assertThat(report.toString()).isEqualTo("RejectReport{total=0}");
+	}
+}
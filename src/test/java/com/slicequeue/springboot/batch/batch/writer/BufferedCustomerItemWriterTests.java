@@ -0,0 +1,167 @@
+package com.slicequeue.springboot.batch.batch.writer;
+
+import com.slicequeue.springboot.batch.domain.Customer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BufferedCustomerItemWriterTests {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void restartTruncatesOutputToLastCommittedPosition() throws Exception {
+		Path file = directory.resolve("customers.csv");
+		ExecutionContext executionContext = new ExecutionContext();
+
+		BufferedCustomerItemWriter writer = fileWriter(file);
+		writer.open(executionContext);
+		writer.write(Arrays.asList(customer("Darrow"), customer("Obama")));
+		writer.update(executionContext);
+		writer.write(Collections.singletonList(customer("Uncommitted"))); // 커밋 전 실패한 청크
+		writer.close();
+
+		assertThat(Files.readAllLines(file)).hasSize(3);
+
+		BufferedCustomerItemWriter restarted = fileWriter(file);
+		restarted.open(executionContext);
+		restarted.write(Collections.singletonList(customer("Harris")));
+		restarted.update(executionContext);
+		restarted.close();
+
+		assertThat(Files.readAllLines(file)).containsExactly(
+				"Richard,N,Darrow,5570 Isabella Ave,St. Louis,IL,58540",
+				"Richard,N,Obama,5570 Isabella Ave,St. Louis,IL,58540",
+				"Richard,N,Harris,5570 Isabella Ave,St. Louis,IL,58540");
+	}
+
+	@Test
+	void updateFlushesBufferedItems() throws Exception {
+		Path file = directory.resolve("customers.csv");
+		ExecutionContext executionContext = new ExecutionContext();
+		BufferedCustomerItemWriter writer = fileWriter(file);
+		writer.open(executionContext);
+
+		try {
+			writer.write(Arrays.asList(customer("Darrow"), customer("Müller")));
+			assertThat(Files.size(file)).isZero(); // 버퍼가 차기 전에는 쓰지 않음
+
+			writer.update(executionContext);
+
+			assertThat(Files.readAllLines(file, StandardCharsets.UTF_8)).containsExactly(
+					"Richard,N,Darrow,5570 Isabella Ave,St. Louis,IL,58540",
+					"Richard,N,Müller,5570 Isabella Ave,St. Louis,IL,58540");
+			assertThat(executionContext.getLong("BufferedCustomerItemWriter.position")).isEqualTo(Files.size(file));
+		} finally {
+			writer.close();
+		}
+	}
+
+	@Test
+	void updateFlushesToOutputStreamWithoutPosition() throws Exception {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		ExecutionContext executionContext = new ExecutionContext();
+		BufferedCustomerItemWriter writer = new BufferedCustomerItemWriter();
+		writer.setOutputStream(outputStream);
+		writer.afterPropertiesSet();
+		writer.open(executionContext);
+
+		try {
+			writer.write(Collections.singletonList(customer("Darrow")));
+			writer.update(executionContext);
+
+			assertThat(outputStream.toString(StandardCharsets.UTF_8.name()))
+					.isEqualTo("Richard,N,Darrow,5570 Isabella Ave,St. Louis,IL,58540\n");
+			assertThat(executionContext.isEmpty()).isTrue();
+		} finally {
+			writer.close();
+		}
+	}
+
+	@Test
+	void writerThreadFailurePropagatesToUpdateWriteAndClose() throws Exception {
+		BufferedCustomerItemWriter writer = failingWriter();
+		ExecutionContext executionContext = new ExecutionContext();
+		writer.open(executionContext);
+
+		writer.write(Collections.singletonList(customer("Darrow")));
+
+		assertThatThrownBy(() -> writer.update(executionContext))
+				.isInstanceOf(ItemStreamException.class)
+				.hasRootCauseInstanceOf(IOException.class);
+		assertThatThrownBy(() -> writer.write(Collections.singletonList(customer("Obama"))))
+				.isInstanceOf(ItemStreamException.class);
+		assertThatThrownBy(writer::close)
+				.isInstanceOf(ItemStreamException.class)
+				.hasRootCauseInstanceOf(IOException.class);
+	}
+
+	@Test
+	void writerThreadFailureStopsLargeWriteWithoutHanging() throws Exception {
+		BufferedCustomerItemWriter writer = failingWriter();
+		writer.open(new ExecutionContext());
+
+		List<Customer> chunk = new ArrayList<>();
+		for (int i = 0; i < 1_000; i++) {
+			chunk.add(customer("Last" + i));
+		}
+
+		try {
+			// 버퍼(1KB x 2)보다 훨씬 많이 쓰므로, 실패가 기록된 뒤 버퍼를 넘기는 시점에 write 가 예외를 던져야 함
+			assertThatThrownBy(() -> {
+				for (int i = 0; i < 100; i++) {
+					writer.write(chunk);
+				}
+			}).isInstanceOf(ItemStreamException.class);
+		} finally {
+			assertThatThrownBy(writer::close).isInstanceOf(ItemStreamException.class);
+		}
+	}
+
+	private static BufferedCustomerItemWriter fileWriter(Path file) {
+		BufferedCustomerItemWriter writer = new BufferedCustomerItemWriter();
+		writer.setResource(new FileSystemResource(file));
+		writer.afterPropertiesSet();
+		return writer;
+	}
+
+	private static BufferedCustomerItemWriter failingWriter() {
+		BufferedCustomerItemWriter writer = new BufferedCustomerItemWriter();
+		writer.setOutputStream(new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				throw new IOException("disk full");
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				throw new IOException("disk full");
+			}
+		});
+		writer.setBufferSize(1024);
+		writer.setBufferCount(2);
+		writer.afterPropertiesSet();
+		return writer;
+	}
+
+	private static Customer customer(String lastName) {
+		return new Customer("Richard", "N", lastName, "5570 Isabella Ave", "St. Louis", "IL", "58540");
+	}
+}
@@ -0,0 +1,77 @@
+package com.slicequeue.springboot.batch.batch.writer;
+
+import com.slicequeue.springboot.batch.domain.Customer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MySQL 호환 모드의 H2 인메모리 DB 로 CustomerJdbcItemWriter 검증
+ */
+class CustomerJdbcItemWriterTests {
+
+	private JdbcTemplate jdbcTemplate;
+
+	private CustomerJdbcItemWriter itemWriter;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		SimpleDriverDataSource dataSource = new SimpleDriverDataSource(new org.h2.Driver(),
+				"jdbc:h2:mem:customer-" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+
+		jdbcTemplate = new JdbcTemplate(dataSource);
+
+		itemWriter = new CustomerJdbcItemWriter(dataSource);
+		itemWriter.setRowsPerStatement(3);
+		itemWriter.afterPropertiesSet();
+	}
+
+	@Test
+	void writesAllItemsWithMultiRowStatementsAndRemainder() throws Exception {
+		itemWriter.write(customers(7, "Main St"));
+
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM CUSTOMER", Integer.class)).isEqualTo(7);
+		assertThat(jdbcTemplate.queryForObject("SELECT CITY FROM CUSTOMER WHERE LAST_NAME = 'Last6'", String.class))
+				.isEqualTo("Chicago");
+	}
+
+	@Test
+	void rewritingSameChunkUpsertsInsteadOfDuplicating() throws Exception {
+		itemWriter.write(customers(5, "Main St"));
+		itemWriter.write(customers(5, "Oak Ave")); // 재시작으로 같은 청크를 다시 쓰는 경우
+
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM CUSTOMER", Integer.class)).isEqualTo(5);
+		assertThat(jdbcTemplate.queryForList("SELECT DISTINCT ADDRESS FROM CUSTOMER", String.class))
+				.containsExactly("Oak Ave");
+	}
+
+	@Test
+	void rewritingCustomersWithoutMiddleInitialUpsertsInsteadOfDuplicating() throws Exception {
+		List<Customer> customers = customers(4, "Main St");
+		customers.forEach(customer -> customer.setMiddleInitial(null));
+
+		itemWriter.write(customers);
+		itemWriter.write(customers);
+
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM CUSTOMER", Integer.class)).isEqualTo(4);
+		assertThat(jdbcTemplate.queryForList("SELECT DISTINCT MIDDLE_INITIAL FROM CUSTOMER", String.class))
+				.containsExactly("");
+	}
+
+	private static List<Customer> customers(int count, String address) {
+		List<Customer> customers = new ArrayList<>(count);
+
+		for (int i = 0; i < count; i++) {
+			customers.add(new Customer("First" + i, "N", "Last" + i, address, "Chicago", "IL", String.format("%05d", 60000 + i)));
+		}
+
+		return customers;
+	}
+
+}
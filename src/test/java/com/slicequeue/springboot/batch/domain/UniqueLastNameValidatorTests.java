@@ -0,0 +1,136 @@
+package com.slicequeue.springboot.batch.domain;
+
+import com.slicequeue.springboot.batch.batch.checkpoint.FileCheckpointLog;
+import com.slicequeue.springboot.batch.batch.unique.BloomFilterUniquenessStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.validator.ValidationException;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UniqueLastNameValidatorTests {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void defaultCheckpointKeepsOnlyCursorInExecutionContext() {
+		ExecutionContext executionContext = new ExecutionContext();
+		UniqueLastNameValidator validator = new UniqueLastNameValidator();
+
+		validator.open(executionContext);
+		for (int i = 0; i < 1_000; i++) {
+			validator.validate(customer("Last" + i));
+			validator.update(executionContext);
+		}
+
+		assertThat(executionContext.size()).isEqualTo(2); // 로그 키 + sequence
+
+		UniqueLastNameValidator restarted = new UniqueLastNameValidator();
+		restarted.open(executionContext);
+
+		assertThatThrownBy(() -> restarted.validate(customer("Last999"))).isInstanceOf(ValidationException.class);
+	}
+
+	@Test
+	void restoresCommittedLastNamesFromCheckpointLog() {
+		ExecutionContext executionContext = new ExecutionContext();
+		UniqueLastNameValidator validator = validator(new BloomFilterUniquenessStore(1_000, 0.001));
+
+		validator.open(executionContext);
+		validator.validate(customer("Darrow"));
+		validator.update(executionContext);
+		validator.validate(customer("Harris"));
+		validator.update(executionContext);
+		validator.validate(customer("Uncommitted")); // 커밋 전 실패
+
+		UniqueLastNameValidator restarted = validator(new BloomFilterUniquenessStore(1_000, 0.001));
+		restarted.open(executionContext);
+
+		assertThatThrownBy(() -> restarted.validate(customer("Darrow"))).isInstanceOf(ValidationException.class);
+		assertThatThrownBy(() -> restarted.validate(customer("Harris"))).isInstanceOf(ValidationException.class);
+		restarted.validate(customer("Uncommitted"));
+	}
+
+	@Test
+	void failsRestartWhenCommittedLogIsMissing() {
+		ExecutionContext executionContext = new ExecutionContext();
+		UniqueLastNameValidator validator = new UniqueLastNameValidator();
+		validator.setCheckpointLog(new FileCheckpointLog(directory.resolve("first-host")));
+
+		validator.open(executionContext);
+		validator.validate(customer("Darrow"));
+		validator.update(executionContext);
+
+		UniqueLastNameValidator restarted = new UniqueLastNameValidator();
+		restarted.setCheckpointLog(new FileCheckpointLog(directory.resolve("second-host")));
+		restarted.open(executionContext);
+
+		assertThatThrownBy(() -> restarted.validate(customer("Obama"))).isInstanceOf(ItemStreamException.class);
+	}
+
+	@Test
+	void executionContextCheckpointIsUsedOnlyWithoutLog() {
+		ExecutionContext executionContext = new ExecutionContext();
+		UniqueLastNameValidator validator = new UniqueLastNameValidator();
+		validator.setCheckpointLog(null);
+
+		validator.open(executionContext);
+		validator.validate(customer("Darrow"));
+		validator.update(executionContext);
+
+		UniqueLastNameValidator restarted = new UniqueLastNameValidator();
+		restarted.setCheckpointLog(null);
+		restarted.open(executionContext);
+
+		assertThatThrownBy(() -> restarted.validate(customer("Darrow"))).isInstanceOf(ValidationException.class);
+	}
+
+	@Test
+	void deletesLogOnlyWhenStepCompletes() throws IOException {
+		ExecutionContext executionContext = new ExecutionContext();
+		UniqueLastNameValidator validator = new UniqueLastNameValidator();
+		validator.setCheckpointLog(new FileCheckpointLog(directory));
+
+		validator.open(executionContext);
+		validator.validate(customer("Darrow"));
+		validator.update(executionContext);
+
+		StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+		stepExecution.setStatus(BatchStatus.FAILED);
+		validator.afterStep(stepExecution);
+		assertThat(logFileCount()).isEqualTo(1);
+
+		stepExecution.setStatus(BatchStatus.COMPLETED);
+		validator.afterStep(stepExecution);
+		assertThat(logFileCount()).isZero();
+	}
+
+	private long logFileCount() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.count();
+		}
+	}
+
+	private UniqueLastNameValidator validator(BloomFilterUniquenessStore store) {
+		UniqueLastNameValidator validator = new UniqueLastNameValidator();
+		validator.setCheckpointLog(new FileCheckpointLog(directory));
+		validator.setUniquenessStore(store);
+		return validator;
+	}
+
+	private static Customer customer(String lastName) {
+		return new Customer("Ashley", "A", lastName, "123 Main St", "Chicago", "IL", "60601");
+	}
+}
@@ -0,0 +1,101 @@
+package com.slicequeue.springboot.pipeline;
+
+import com.slicequeue.springboot.batch.PipelinedCompositeItemProcessorJob;
+import com.slicequeue.springboot.support.BatchJobTestConfiguration;
+import com.slicequeue.springboot.support.CustomerDataGenerator;
+import com.slicequeue.springboot.support.H2BatchApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스텝 스코프 FlatFileItemWriter 를 쓰기 스레드에서 사용하는 파이프라인 잡을 끝까지 실행하여 검증
+ * - 잡 저장소는 H2 인메모리 DB(MySQL 호환 모드)를 사용하므로 외부 DB 없이 실행됨
+ */
+class PipelinedCompositeItemProcessorJobTests {
+
+	private static final int ROWS = 2_000;
+
+	private Path customerFile;
+
+	private Path outputFile;
+
+	private ConfigurableApplicationContext context;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		customerFile = new CustomerDataGenerator()
+				.rows(ROWS)
+				.duplicateRatio(0.1)
+				.generate(Files.createTempFile("customer-pipelined", ".csv"));
+		outputFile = Files.createTempFile("customer-pipelined-output", ".csv");
+
+		context = H2BatchApplication.run(PipelinedJobConfiguration.class);
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		context.close();
+		Files.deleteIfExists(customerFile);
+		Files.deleteIfExists(outputFile);
+	}
+
+	@Test
+	void writesEveryUniqueLastNameOnTheWriterThread() throws Exception {
+		JobExecution jobExecution = context.getBean(JobLauncher.class).run(context.getBean(Job.class),
+				new JobParametersBuilder()
+						.addLong("run.id", System.nanoTime())
+						.addString("customerFile", "file:" + customerFile)
+						.addString("outputFile", outputFile.toString())
+						.addString("script", "classpath:lowerCase.js")
+						.toJobParameters());
+
+		assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+		int uniqueLastNames = uniqueLastNames();
+		StepExecution stepExecution = jobExecution.getStepExecutions().iterator().next();
+
+		assertThat(stepExecution.getReadCount()).isEqualTo(ROWS);
+		assertThat(stepExecution.getFilterCount()).isEqualTo(ROWS - uniqueLastNames);
+		assertThat(stepExecution.getWriteCount()).isEqualTo(uniqueLastNames);
+
+		// 쓰기 스레드가 입력 순서대로 파일에 기록하며, 대문자/소문자 체인을 거친 값이어야 함
+		List<String> lines = Files.readAllLines(outputFile);
+		assertThat(lines).hasSize(uniqueLastNames);
+		for (String line : lines) {
+			String[] fields = line.split(",");
+			assertThat(fields[0]).isEqualTo(fields[0].toUpperCase(Locale.ROOT));
+			assertThat(fields[5]).isEqualTo(fields[5].toLowerCase(Locale.ROOT));
+		}
+	}
+
+	private int uniqueLastNames() throws IOException {
+		Set<String> lastNames = new HashSet<>();
+
+		for (String line : Files.readAllLines(customerFile)) {
+			lastNames.add(line.split(",")[2]);
+		}
+		return lastNames.size();
+	}
+
+	@BatchJobTestConfiguration
+	static class PipelinedJobConfiguration extends PipelinedCompositeItemProcessorJob {
+	}
+}
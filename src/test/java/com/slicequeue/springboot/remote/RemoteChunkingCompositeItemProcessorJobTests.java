@@ -0,0 +1,98 @@
+package com.slicequeue.springboot.remote;
+
+import com.slicequeue.springboot.batch.RemoteChunkingCompositeItemProcessorJob;
+import com.slicequeue.springboot.support.BatchJobTestConfiguration;
+import com.slicequeue.springboot.support.CustomerDataGenerator;
+import com.slicequeue.springboot.support.H2BatchApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.integration.config.annotation.EnableBatchIntegration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 매니저 스텝과 워커(JVM 안의 채널 + 워커 스레드)를 한 컨텍스트에서 실행하여 원격 청킹 잡을 끝까지 검증
+ * - 잡 저장소와 CUSTOMER 테이블은 H2 인메모리 DB(MySQL 호환 모드)를 사용하므로 외부 브로커/DB 없이 실행됨
+ */
+class RemoteChunkingCompositeItemProcessorJobTests {
+
+	private static final int ROWS = 2_000;
+
+	private Path customerFile;
+
+	private ConfigurableApplicationContext context;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		customerFile = new CustomerDataGenerator()
+				.rows(ROWS)
+				.duplicateRatio(0.1)
+				.generate(Files.createTempFile("customer-remote-chunking", ".csv"));
+
+		context = H2BatchApplication.run(RemoteChunkingJobConfiguration.class, "--batch.remote-chunking.workers=3");
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		context.close();
+		Files.deleteIfExists(customerFile);
+	}
+
+	@Test
+	void managerReadsAndValidatesWhileWorkersProcessAndWriteChunks() throws Exception {
+		JobExecution jobExecution = context.getBean(JobLauncher.class).run(context.getBean(Job.class),
+				new JobParametersBuilder()
+						.addLong("run.id", System.nanoTime())
+						.addString("customerFile", "file:" + customerFile)
+						.toJobParameters());
+
+		assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+		int uniqueLastNames = uniqueLastNames();
+		StepExecution stepExecution = jobExecution.getStepExecutions().iterator().next();
+
+		// 매니저: 모든 행을 읽고 중복 성(lastName)은 필터링, 워커 응답으로 쓰기 건수가 반영됨
+		assertThat(stepExecution.getReadCount()).isEqualTo(ROWS);
+		assertThat(stepExecution.getFilterCount()).isEqualTo(ROWS - uniqueLastNames);
+		assertThat(stepExecution.getWriteCount()).isEqualTo(uniqueLastNames);
+		assertThat(stepExecution.getExecutionContext().getLong("rejectReport.total")).isEqualTo(ROWS - uniqueLastNames);
+
+		// 워커: 대문자/소문자 체인을 거쳐 CUSTOMER 테이블에 기록됨
+		JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM CUSTOMER", Integer.class)).isEqualTo(uniqueLastNames);
+		assertThat(jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM CUSTOMER WHERE FIRST_NAME <> UPPER(FIRST_NAME) OR STATE <> LOWER(STATE)", Integer.class))
+				.isZero();
+	}
+
+	private int uniqueLastNames() throws IOException {
+		List<String> lines = Files.readAllLines(customerFile);
+		Set<String> lastNames = new HashSet<>();
+
+		for (String line : lines) {
+			lastNames.add(line.split(",")[2]);
+		}
+		return lastNames.size();
+	}
+
+	@BatchJobTestConfiguration
+	@EnableBatchIntegration
+	static class RemoteChunkingJobConfiguration extends RemoteChunkingCompositeItemProcessorJob {
+	}
+}
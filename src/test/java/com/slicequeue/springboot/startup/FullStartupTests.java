@@ -0,0 +1,26 @@
+package com.slicequeue.springboot.startup;
+
+import com.slicequeue.springboot.batch.CompositeItemProcessorJob;
+import com.slicequeue.springboot.support.BatchJobTestConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * CompositeItemProcessorJob 을 기본 구성(@EnableAutoConfiguration, @Bean 메서드, 매번 스키마 초기화)으로 실행하는 기준 측정
+ */
+class FullStartupTests extends StartupBenchmarkSupport {
+
+	@Override
+	protected String mode() {
+		return "full";
+	}
+
+	@Override
+	protected ConfigurableApplicationContext start(long startMillis, String... args) {
+		return new SpringApplicationBuilder(CompositeJobConfiguration.class).run(args);
+	}
+
+	@BatchJobTestConfiguration
+	static class CompositeJobConfiguration extends CompositeItemProcessorJob {
+	}
+}
@@ -0,0 +1,51 @@
+package com.slicequeue.springboot.startup;
+
+import com.slicequeue.springboot.batch.LeanCompositeItemProcessorJob;
+import com.slicequeue.springboot.batch.batch.metrics.StartupTimingListener;
+import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.batch.BatchAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LeanCompositeItemProcessorJob(lean 프로필)을 실행하고, warm 실행의 첫 청크까지 시간(중앙값)이 startup.budgetMillis(기본 1초) 이내인지 확인
+ */
+class LeanStartupTests extends StartupBenchmarkSupport {
+
+	@Override
+	protected String mode() {
+		return "lean";
+	}
+
+	@Override
+	protected ConfigurableApplicationContext start(long startMillis, String... args) {
+		return new SpringApplicationBuilder(LeanJobConfiguration.class)
+				.profiles("lean")
+				.initializers(new LeanCompositeItemProcessorJob.Initializer(new StartupTimingListener(startMillis)))
+				.run(args);
+	}
+
+	@Override
+	protected void verifyWarm(List<Timing> warm) {
+		long[] firstChunkMillis = warm.stream().mapToLong(timing -> timing.firstChunkMillis).sorted().toArray();
+
+		assertThat(firstChunkMillis).isNotEmpty().doesNotContain(-1L);
+		assertThat(firstChunkMillis[firstChunkMillis.length / 2]).isLessThanOrEqualTo(BUDGET_MILLIS);
+	}
+
+	@SpringBootConfiguration(proxyBeanMethods = false)
+	@EnableBatchProcessing
+	@ImportAutoConfiguration({DataSourceAutoConfiguration.class, DataSourceTransactionManagerAutoConfiguration.class,
+			TransactionAutoConfiguration.class, BatchAutoConfiguration.class})
+	static class LeanJobConfiguration extends LeanCompositeItemProcessorJob {
+	}
+}
@@ -0,0 +1,158 @@
+package com.slicequeue.springboot.startup;
+
+import com.slicequeue.springboot.batch.batch.metrics.StartupTimingListener;
+import com.slicequeue.springboot.support.CustomerDataGenerator;
+import com.slicequeue.springboot.support.H2BatchApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 작은 고객 파일로 잡을 여러 번 실행하여 컨텍스트 시작 시간과 첫 아이템/첫 청크까지의 시간을 측정
+ * - 첫 실행(cold)은 클래스 로딩/JIT 이 안 된 상태이며, startupTest 태스크가 실행 모드(테스트 클래스)마다 새 JVM 을 사용함
+ * - 이후 startup.warmRuns 번(기본 5) 같은 JVM 에서 새 컨텍스트로 다시 실행함 (warm)
+ * - 잡 저장소는 실행 간에 유지되는 H2 인메모리 DB 이므로 두 번째 실행부터는 스키마가 이미 있는 상태
+ * - 결과는 build/reports/startup/report.txt 에 한 줄씩 추가됨
+ *
+ * 실행: ./gradlew startupTest -Pstartup.warmRuns=10
+ */
+@Tag("startup")
+abstract class StartupBenchmarkSupport {
+
+	static final long BUDGET_MILLIS = Long.getLong("startup.budgetMillis", 1000L);
+
+	private static final int WARM_RUNS = Integer.getInteger("startup.warmRuns", 5);
+
+	private static final Path REPORT = Paths.get("build", "reports", "startup", "report.txt");
+
+	private static Path customerFile;
+
+	private static String databaseUrl;
+
+	@BeforeAll
+	static void generateCustomerFile() throws IOException {
+		customerFile = new CustomerDataGenerator()
+				.rows(100)
+				.generate(Files.createTempFile("customer-startup", ".csv"));
+		databaseUrl = H2BatchApplication.newDatabaseUrl();
+
+		Files.createDirectories(REPORT.getParent());
+	}
+
+	@AfterAll
+	static void deleteCustomerFile() throws IOException {
+		Files.deleteIfExists(customerFile);
+	}
+
+	@Test
+	void coldAndWarmLaunches() throws Exception {
+		report("cold", launch());
+
+		List<Timing> warm = new ArrayList<>();
+		for (int i = 0; i < WARM_RUNS; i++) {
+			Timing timing = launch();
+			report("warm", timing);
+			warm.add(timing);
+		}
+
+		verifyWarm(warm);
+	}
+
+	protected abstract String mode();
+
+	/**
+	 * @param startMillis 실행 시작 시각 (StartupTimingListener 의 기준 시각)
+	 * @param args        H2 와 잡 자동 실행 비활성화를 지정하는 커맨드라인 인자 (application.yml 보다 우선함)
+	 */
+	protected abstract ConfigurableApplicationContext start(long startMillis, String... args);
+
+	protected void verifyWarm(List<Timing> warm) {
+	}
+
+	private Timing launch() throws Exception {
+		long startMillis = System.currentTimeMillis();
+
+		try (ConfigurableApplicationContext context = start(startMillis, H2BatchApplication.arguments(databaseUrl))) {
+
+			long contextMillis = System.currentTimeMillis() - startMillis;
+
+			JobParameters jobParameters = new JobParametersBuilder()
+					.addString("customerFile", "file:" + customerFile)
+					.addString("script", "classpath:lowerCase.js")
+					.addLong("run.id", System.nanoTime())
+					.toJobParameters();
+
+			JobExecution jobExecution = context.getBean(JobLauncher.class).run(context.getBean(Job.class), jobParameters);
+			long totalMillis = System.currentTimeMillis() - startMillis;
+
+			assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+			StepExecution stepExecution = jobExecution.getStepExecutions().iterator().next();
+			ExecutionContext executionContext = stepExecution.getExecutionContext();
+
+			return new Timing(contextMillis,
+					stepExecution.getStartTime().getTime() - startMillis,
+					executionContext.getLong(StartupTimingListener.FIRST_ITEM_KEY, -1L),
+					executionContext.getLong(StartupTimingListener.FIRST_CHUNK_KEY, -1L),
+					totalMillis);
+		}
+	}
+
+	private void report(String run, Timing timing) throws IOException {
+		String line = String.format("%s %s %s%n", mode(), run, timing);
+
+		System.out.print(line);
+		Files.write(REPORT, line.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+	}
+
+	/**
+	 * 실행 시작 시각 기준 경과 시간 (ms). 첫 아이템/첫 청크는 StartupTimingListener 를 등록한 잡에서만 측정됨 (-1: 측정 안 함)
+	 */
+	static final class Timing {
+
+		final long contextMillis;
+
+		final long stepStartMillis;
+
+		final long firstItemMillis;
+
+		final long firstChunkMillis;
+
+		final long totalMillis;
+
+		private Timing(long contextMillis, long stepStartMillis, long firstItemMillis, long firstChunkMillis, long totalMillis) {
+			this.contextMillis = contextMillis;
+			this.stepStartMillis = stepStartMillis;
+			this.firstItemMillis = firstItemMillis;
+			this.firstChunkMillis = firstChunkMillis;
+			this.totalMillis = totalMillis;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("context=%dms stepStart=%dms firstItem=%dms firstChunk=%dms total=%dms",
+					contextMillis, stepStartMillis, firstItemMillis, firstChunkMillis, totalMillis);
+		}
+	}
+}
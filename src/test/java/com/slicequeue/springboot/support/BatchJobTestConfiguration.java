@@ -0,0 +1,28 @@
+package com.slicequeue.springboot.support;
+
+import com.slicequeue.springboot.batch.service.UpperCaseNameService;
+import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 잡 클래스를 상속한 테스트용 구성 클래스에 붙이는 애너테이션
+ * - 잡 클래스는 @EnableBatchProcessing/@SpringBootApplication 이 주석 처리되어 있으므로 하위 클래스에서 대신 지정함
+ * - 컴포넌트 스캔을 하지 않으므로 잡들이 주입받는 UpperCaseNameService 를 함께 가져옴
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Configuration
+@EnableBatchProcessing
+@EnableAutoConfiguration
+@Import(UpperCaseNameService.class)
+public @interface BatchJobTestConfiguration {
+}
@@ -0,0 +1,136 @@
+package com.slicequeue.springboot.support;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+/**
+ * 대용량 Customer CSV 생성기
+ * - 같은 설정(seed 포함)이면 항상 같은 파일을 만듦
+ * - lastName 은 행 번호를 알파벳으로 인코딩하므로 1억 행도 메모리 없이 생성하며,
+ *   duplicateRatio 비율의 행은 앞선 임의의 행과 같은 lastName 을 사용함 (UniqueLastNameValidator 거부)
+ * - invalidRatio 비율의 행은 middleInitial/state/zip 중 하나를 Customer 제약조건에 맞지 않게 만듦
+ * - zipDistribution: UNIFORM(00000~99999 균등) 또는 SKEWED(80% 가 20개 우편번호에 몰림)
+ *
+ * 사용법: CustomerDataGenerator <outputFile> <rows> [duplicateRatio] [invalidRatio] [UNIFORM|SKEWED] [seed]
+ */
+public class CustomerDataGenerator {
+
+	public enum ZipDistribution {UNIFORM, SKEWED}
+
+	private static final String[] FIRST_NAMES = {"Richard", "Barack", "Ann", "Laura", "Jonas", "Warren", "Erica", "Harriet"};
+	private static final String[] STREETS = {"Isabella Ave", "S. Greenwood Ave", "4th Street", "Main St", "Oak St"};
+	private static final String[] CITIES = {"St. Louis", "Houston", "Las Vegas", "Dallas", "Chicago", "New York"};
+	private static final String[] STATES = {"IL", "CA", "NY", "FL", "TX", "NV"};
+
+	private long rows = 1_000_000;
+
+	private double duplicateRatio = 0.0;
+
+	private double invalidRatio = 0.0;
+
+	private ZipDistribution zipDistribution = ZipDistribution.UNIFORM;
+
+	private long seed = 42;
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2) {
+			System.err.println("Usage: CustomerDataGenerator <outputFile> <rows> [duplicateRatio] [invalidRatio] [UNIFORM|SKEWED] [seed]");
+			System.exit(1);
+		}
+
+		CustomerDataGenerator generator = new CustomerDataGenerator()
+				.rows(Long.parseLong(args[1]));
+		if (args.length > 2) generator.duplicateRatio(Double.parseDouble(args[2]));
+		if (args.length > 3) generator.invalidRatio(Double.parseDouble(args[3]));
+		if (args.length > 4) generator.zipDistribution(ZipDistribution.valueOf(args[4]));
+		if (args.length > 5) generator.seed(Long.parseLong(args[5]));
+
+		generator.generate(Paths.get(args[0]));
+	}
+
+	public CustomerDataGenerator rows(long rows) {
+		this.rows = rows;
+		return this;
+	}
+
+	public CustomerDataGenerator duplicateRatio(double duplicateRatio) {
+		this.duplicateRatio = duplicateRatio;
+		return this;
+	}
+
+	public CustomerDataGenerator invalidRatio(double invalidRatio) {
+		this.invalidRatio = invalidRatio;
+		return this;
+	}
+
+	public CustomerDataGenerator zipDistribution(ZipDistribution zipDistribution) {
+		this.zipDistribution = zipDistribution;
+		return this;
+	}
+
+	public CustomerDataGenerator seed(long seed) {
+		this.seed = seed;
+		return this;
+	}
+
+	public Path generate(Path file) throws IOException {
+		Random random = new Random(seed);
+		StringBuilder line = new StringBuilder(96);
+
+		try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			for (long row = 0; row < rows; row++) {
+				boolean duplicate = row > 0 && random.nextDouble() < duplicateRatio;
+				int invalidField = random.nextDouble() < invalidRatio ? 1 + random.nextInt(3) : 0;
+
+				line.setLength(0);
+				line.append(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]).append(',');
+				line.append(invalidField == 1 ? "9S" : String.valueOf((char) ('A' + random.nextInt(26)))).append(',');
+				appendLastName(line, duplicate ? (long) (random.nextDouble() * row) : row).append(',');
+				line.append(1000 + random.nextInt(9000)).append(' ').append(STREETS[random.nextInt(STREETS.length)]).append(',');
+				line.append(CITIES[random.nextInt(CITIES.length)]).append(',');
+				line.append(invalidField == 2 ? "il" : STATES[random.nextInt(STATES.length)]).append(',');
+				if (invalidField == 3) {
+					line.append("ZIP1A");
+				} else {
+					appendZip(line, random);
+				}
+				line.append('\n');
+
+				writer.append(line);
+			}
+		}
+
+		return file;
+	}
+
+	/**
+	 * 행 번호를 알파벳만으로 인코딩 (Customer.lastName 은 알파벳만 허용)
+	 */
+	private static StringBuilder appendLastName(StringBuilder line, long row) {
+		line.append('L');
+
+		int start = line.length();
+		long value = row;
+		do {
+			line.insert(start, (char) ('a' + (int) (value % 26)));
+			value /= 26;
+		} while (value > 0);
+
+		return line;
+	}
+
+	private void appendZip(StringBuilder line, Random random) {
+		int zip = zipDistribution == ZipDistribution.SKEWED && random.nextDouble() < 0.8
+				? 10000 + random.nextInt(20) * 4099
+				: random.nextInt(100000);
+
+		for (int divisor = 10000; divisor > 0; divisor /= 10) {
+			line.append((char) ('0' + zip / divisor % 10));
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package com.slicequeue.springboot.support;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * 잡 저장소와 CUSTOMER 테이블을 H2 인메모리 DB(MySQL 호환 모드)로 바꿔 구성 클래스를 실행
+ * - 기본 프로퍼티(properties)는 application.yml 보다 우선순위가 낮으므로 커맨드라인 인자로 지정함
+ * - 잡은 자동 실행하지 않으며, 테스트에서 JobLauncher 로 직접 실행함
+ */
+public final class H2BatchApplication {
+
+	private H2BatchApplication() {
+	}
+
+	/**
+	 * 컨텍스트를 닫아도 유지되는 새 인메모리 DB 주소
+	 */
+	public static String newDatabaseUrl() {
+		return "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1";
+	}
+
+	/**
+	 * @param databaseUrl    H2 DB 주소
+	 * @param extraArguments 뒤에 덧붙일 커맨드라인 인자
+	 */
+	public static String[] arguments(String databaseUrl, String... extraArguments) {
+		String[] arguments = {
+				"--spring.main.web-application-type=none",
+				"--spring.datasource.driver-class-name=org.h2.Driver",
+				"--spring.datasource.url=" + databaseUrl,
+				"--spring.datasource.username=sa",
+				"--spring.datasource.password=",
+				"--spring.batch.job.enabled=false"
+		};
+
+		String[] merged = Arrays.copyOf(arguments, arguments.length + extraArguments.length);
+		System.arraycopy(extraArguments, 0, merged, arguments.length, extraArguments.length);
+
+		return merged;
+	}
+
+	/**
+	 * 새 인메모리 DB 로 구성 클래스를 실행
+	 */
+	public static ConfigurableApplicationContext run(Class<?> configuration, String... extraArguments) {
+		return new SpringApplicationBuilder(configuration).run(arguments(newDatabaseUrl(), extraArguments));
+	}
+}
@@ -0,0 +1,200 @@
+package com.slicequeue.springboot.throughput;
+
+import com.slicequeue.springboot.batch.ClassifierCompositeItemProcessorJob;
+import com.slicequeue.springboot.batch.CompositeItemProcessorJob;
+import com.slicequeue.springboot.batch.PipelinedCompositeItemProcessorJob;
+import com.slicequeue.springboot.batch.domain.Customer;
+import com.slicequeue.springboot.batch.prev_job.ValidationJob;
+import com.slicequeue.springboot.support.BatchJobTestConfiguration;
+import com.slicequeue.springboot.support.CustomerDataGenerator;
+import com.slicequeue.springboot.support.H2BatchApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 생성한 대용량 고객 파일로 각 잡을 끝까지 실행하여 처리량(records/sec), GC 횟수/시간, 최대 힙 사용량을 측정
+ * - 잡 저장소와 CUSTOMER 테이블은 H2 인메모리 DB(MySQL 호환 모드)를 사용하므로 외부 DB 없이 실행됨
+ * - 행 수는 시스템 프로퍼티 throughput.rows(기본 1,000,000)로 지정
+ * - 결과는 build/reports/throughput/report.txt 에 한 줄씩 추가됨
+ *
+ * 실행: ./gradlew throughputTest -Pthroughput.rows=10000000
+ */
+@Tag("throughput")
+class JobThroughputTests {
+
+	private static final long ROWS = Long.getLong("throughput.rows", 1_000_000L);
+
+	private static final Path REPORT = Paths.get("build", "reports", "throughput", "report.txt");
+
+	private static Path customerFile;
+
+	private static Path validCustomerFile;
+
+	@BeforeAll
+	static void generateCustomerFiles() throws IOException {
+		// 측정 대상 잡들은 Bean Validation 단계가 없으므로 제약조건 위반 행(예: 두 글자 middleInitial)은 만들지 않음
+		// → MIDDLE_INITIAL VARCHAR(1) 등 쓰기 단계에서 실패하지 않도록 중복 lastName 만 섞음
+		customerFile = new CustomerDataGenerator()
+				.rows(ROWS)
+				.duplicateRatio(0.05)
+				.invalidRatio(0)
+				.generate(Files.createTempFile("customer-throughput", ".csv"));
+
+		// ValidationJob 은 검증 실패시 스텝이 실패하므로 제약조건을 모두 만족하는 파일을 사용
+		validCustomerFile = new CustomerDataGenerator()
+				.rows(ROWS)
+				.zipDistribution(CustomerDataGenerator.ZipDistribution.SKEWED)
+				.generate(Files.createTempFile("customer-throughput-valid", ".csv"));
+
+		Files.createDirectories(REPORT.getParent());
+	}
+
+	@AfterAll
+	static void deleteCustomerFiles() throws IOException {
+		Files.deleteIfExists(customerFile);
+		Files.deleteIfExists(validCustomerFile);
+	}
+
+	@Test
+	void compositeItemProcessorJob() throws Exception {
+		run(CompositeJobConfiguration.class, "customerFile", customerFile, "script", "classpath:lowerCase.js");
+	}
+
+	@Test
+	void classifierCompositeItemProcessorJob() throws Exception {
+		run(ClassifierCompositeItemProcessorJob.class, "customerFile", customerFile, "script", "classpath:lowerCase.js");
+	}
+
+	@Test
+	void pipelinedCompositeItemProcessorJob() throws Exception {
+		Path outputFile = Files.createTempFile("customer-throughput-output", ".csv");
+		try {
+			run(PipelinedJobConfiguration.class, "customerFile", customerFile,
+					"outputFile", outputFile.toString(), "script", "classpath:lowerCase.js");
+		} finally {
+			Files.deleteIfExists(outputFile);
+		}
+	}
+
+	@Test
+	void validationJob() throws Exception {
+		run(ValidationJobConfiguration.class, "customerFile", validCustomerFile);
+	}
+
+	private static void run(Class<?> configuration, Object... parameters) throws Exception {
+		try (ConfigurableApplicationContext context = H2BatchApplication.run(configuration)) {
+
+			JobParametersBuilder jobParameters = new JobParametersBuilder().addLong("run.id", System.nanoTime());
+			for (int i = 0; i < parameters.length; i += 2) {
+				Object value = parameters[i + 1];
+				jobParameters.addString((String) parameters[i], value instanceof Path ? "file:" + value : (String) value);
+			}
+
+			Job job = context.getBean(Job.class);
+			JobLauncher jobLauncher = context.getBean(JobLauncher.class);
+
+			ResourceProbe probe = ResourceProbe.start();
+			JobExecution jobExecution = jobLauncher.run(job, jobParameters.toJobParameters());
+			String usage = probe.stop();
+
+			assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+			long readCount = jobExecution.getStepExecutions().stream().mapToLong(StepExecution::getReadCount).sum();
+			long writeCount = jobExecution.getStepExecutions().stream().mapToLong(StepExecution::getWriteCount).sum();
+			long millis = jobExecution.getEndTime().getTime() - jobExecution.getStartTime().getTime();
+
+			String line = String.format("%s rows=%d read=%d written=%d time=%dms throughput=%.0f records/sec %s%n",
+					job.getName(), ROWS, readCount, writeCount, millis, readCount * 1000.0 / Math.max(1, millis), usage);
+
+			System.out.print(line);
+			Files.write(REPORT, line.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+		}
+	}
+
+	/**
+	 * 잡 실행 동안의 GC 횟수/시간과 최대 힙 사용량
+	 */
+	private static final class ResourceProbe {
+
+		private final long gcCount;
+
+		private final long gcMillis;
+
+		private ResourceProbe(long gcCount, long gcMillis) {
+			this.gcCount = gcCount;
+			this.gcMillis = gcMillis;
+		}
+
+		static ResourceProbe start() {
+			System.gc();
+			for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+				pool.resetPeakUsage();
+			}
+			return new ResourceProbe(totalGcCount(), totalGcMillis());
+		}
+
+		String stop() {
+			long peakHeap = 0;
+			for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+				if (pool.getType() == MemoryType.HEAP) {
+					peakHeap += pool.getPeakUsage().getUsed(); // 풀별 최대값의 합이므로 실제 최대 힙 사용량의 상한
+				}
+			}
+
+			return String.format("gc.count=%d gc.time=%dms peakHeap=%dMB",
+					totalGcCount() - gcCount, totalGcMillis() - gcMillis, peakHeap / (1024 * 1024));
+		}
+
+		private static long totalGcCount() {
+			return ManagementFactory.getGarbageCollectorMXBeans().stream()
+					.mapToLong(GarbageCollectorMXBean::getCollectionCount).filter(count -> count > 0).sum();
+		}
+
+		private static long totalGcMillis() {
+			return ManagementFactory.getGarbageCollectorMXBeans().stream()
+					.mapToLong(GarbageCollectorMXBean::getCollectionTime).filter(time -> time > 0).sum();
+		}
+	}
+
+	@BatchJobTestConfiguration
+	static class CompositeJobConfiguration extends CompositeItemProcessorJob {
+	}
+
+	@BatchJobTestConfiguration
+	static class PipelinedJobConfiguration extends PipelinedCompositeItemProcessorJob {
+	}
+
+	@BatchJobTestConfiguration
+	static class ValidationJobConfiguration extends ValidationJob {
+
+		@Override // 아이템마다 콘솔에 출력하면 출력 시간이 측정을 지배하므로 버림
+		public ItemWriter<Customer> itemWriter() {
+			return items -> {
+			};
+		}
+	}
+
+}